@@ -1,7 +1,9 @@
 package io.vertx.ext.json.schema;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
+import io.vertx.ext.json.pointer.JsonPointer;
 
 @FunctionalInterface
 @VertxGen
@@ -23,4 +25,24 @@ public interface AsyncValidator extends Validator {
    * @return
    */
   Future<Void> validate(Object in);
+
+  /**
+   * Validate the provided value synchronously. This method is called only if {@link #isSync()} returns true
+   *
+   * @param in
+   * @throws ValidationException if the validation fails
+   * @throws NoSyncValidationException if this validator can't run synchronously
+   */
+  default void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+    throw new NoSyncValidationException("Validator " + this.getClass().getName() + " doesn't support sync validation");
+  }
+
+  @Override
+  default void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+    try {
+      validateSync(in);
+    } catch (ValidationException e) {
+      collector.add(e, inputLocation);
+    }
+  }
 }
@@ -0,0 +1,139 @@
+package io.vertx.ext.json.schema;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.json.pointer.JsonPointer;
+
+import java.util.*;
+
+/**
+ * Result of {@link Schema#validateBatch(List)}. The failed inputs are tracked with a {@link BitSet}, while the errors are
+ * kept only for failed inputs and their messages are built only when requested
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class BatchValidationResult {
+
+  /**
+   * Size of the chunks validated by a single worker in {@link Schema#validateBatch(Vertx, List)}
+   */
+  public static final int CHUNK_SIZE = 1024;
+
+  private final int size;
+  private final BitSet failures;
+  private final Map<Integer, ValidationException> errors;
+
+  BatchValidationResult(int size, BitSet failures, Map<Integer, ValidationException> errors) {
+    this.size = size;
+    this.failures = failures;
+    this.errors = errors;
+  }
+
+  /**
+   * Returns the number of validated inputs
+   *
+   * @return
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean isValid() {
+    return failures.isEmpty();
+  }
+
+  public boolean isValid(int index) {
+    return !failures.get(index);
+  }
+
+  /**
+   * Returns the number of inputs that failed the validation
+   *
+   * @return
+   */
+  public int failuresCount() {
+    return failures.cardinality();
+  }
+
+  /**
+   * Returns a copy of the set of the indexes of the inputs that failed the validation
+   *
+   * @return
+   */
+  public BitSet failures() {
+    return (BitSet) failures.clone();
+  }
+
+  /**
+   * Returns the error of the input at the provided index, or null if the input is valid.
+   * {@link ValidationException#inputLocation()} of the returned error is the index of the input inside the batch
+   *
+   * @param index
+   * @return
+   */
+  public ValidationException getError(int index) {
+    ValidationException e = errors.get(index);
+    if (e != null && e.inputLocation() == null) e.setInputLocation(JsonPointer.create().append(Integer.toString(index)));
+    return e;
+  }
+
+  static BatchValidationResult validateSync(Schema schema, List<?> inputs, int from, int to) {
+    BitSet failures = new BitSet(to);
+    Map<Integer, ValidationException> errors = Collections.emptyMap();
+    for (int i = from; i < to; i++) {
+      try {
+        schema.validateSync(inputs.get(i));
+      } catch (ValidationException e) {
+        if (errors.isEmpty()) errors = new HashMap<>();
+        failures.set(i);
+        errors.put(i, e);
+      }
+    }
+    return new BatchValidationResult(to - from, failures, errors);
+  }
+
+  static Future<BatchValidationResult> validateOnWorkers(Vertx vertx, Schema schema, List<?> inputs) {
+    List<Future> chunks = new ArrayList<>();
+    for (int from = 0; from < inputs.size(); from += CHUNK_SIZE) {
+      int start = from, end = Math.min(inputs.size(), from + CHUNK_SIZE);
+      Future<BatchValidationResult> chunk = Future.future();
+      vertx.executeBlocking(fut -> fut.complete(validateSync(schema, inputs, start, end)), false, chunk);
+      chunks.add(chunk);
+    }
+    return CompositeFuture.all(chunks).map(cf -> merge(inputs.size(), cf.list()));
+  }
+
+  static Future<BatchValidationResult> validateAsync(Schema schema, List<?> inputs) {
+    List<Future> validations = new ArrayList<>(inputs.size());
+    for (Object in : inputs) validations.add(schema.validate(in));
+    Future<BatchValidationResult> result = Future.future();
+    // join waits for all the validations, also when some of them fail
+    CompositeFuture.join(validations).setHandler(ar -> {
+      BitSet failures = new BitSet(inputs.size());
+      Map<Integer, ValidationException> errors = new HashMap<>();
+      for (int i = 0; i < validations.size(); i++) {
+        Throwable cause = validations.get(i).cause();
+        if (cause == null) continue;
+        if (!(cause instanceof ValidationException)) {
+          result.fail(cause);
+          return;
+        }
+        failures.set(i);
+        errors.put(i, (ValidationException) cause);
+      }
+      result.complete(new BatchValidationResult(inputs.size(), failures, errors));
+    });
+    return result;
+  }
+
+  private static BatchValidationResult merge(int size, List<BatchValidationResult> chunks) {
+    BitSet failures = new BitSet(size);
+    Map<Integer, ValidationException> errors = new HashMap<>();
+    for (BatchValidationResult chunk : chunks) {
+      failures.or(chunk.failures);
+      errors.putAll(chunk.errors);
+    }
+    return new BatchValidationResult(size, failures, errors);
+  }
+}
@@ -0,0 +1,20 @@
+package io.vertx.ext.json.schema;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.VertxException;
+
+/**
+ * This exception is thrown when you call {@link Schema#validateSync(Object)} on a schema that can't be validated synchronously,
+ * for example because it contains an unsolved {@code $ref} or an {@link AsyncValidator} without a sync implementation.
+ * You can check if a schema is sync with {@link Schema#isSync()}
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+@VertxGen
+public class NoSyncValidationException extends VertxException {
+
+  public NoSyncValidationException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,80 @@
+package io.vertx.ext.json.schema;
+
+import io.vertx.ext.json.schema.generic.LinearRegexEngine;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles the regular expressions of pattern and patternProperties keywords. Use {@link SchemaParserOptions#setRegexEngine(RegexEngine)}
+ * to choose the engine used by a parser
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+@FunctionalInterface
+public interface RegexEngine {
+
+  /**
+   * Engine based on {@link java.util.regex.Pattern}. This is the default engine
+   */
+  RegexEngine JDK = pattern -> {
+    try {
+      Pattern compiled = Pattern.compile(pattern);
+      return new Regex() {
+        @Override
+        public boolean find(String input) {
+          return compiled.matcher(input).find();
+        }
+
+        @Override
+        public String pattern() {
+          return pattern;
+        }
+
+        @Override
+        public String toString() {
+          return pattern;
+        }
+      };
+    } catch (PatternSyntaxException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+  };
+
+  /**
+   * Engine that runs in time linear to the input length, for any pattern. It supports the ECMA 262 syntax without
+   * backreferences and lookarounds, see {@link LinearRegexEngine}
+   */
+  RegexEngine LINEAR = new LinearRegexEngine();
+
+  /**
+   * Compile the provided pattern
+   *
+   * @param pattern
+   * @return
+   * @throws IllegalArgumentException if the pattern is not valid or not supported by this engine
+   */
+  Regex compile(String pattern) throws IllegalArgumentException;
+
+  /**
+   * A compiled regular expression
+   */
+  interface Regex {
+
+    /**
+     * Returns true if the regular expression matches a substring of the input
+     *
+     * @param input
+     * @return
+     */
+    boolean find(String input);
+
+    /**
+     * Returns the source pattern of this regular expression
+     *
+     * @return
+     */
+    String pattern();
+  }
+
+}
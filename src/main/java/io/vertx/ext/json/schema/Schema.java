@@ -1,9 +1,13 @@
 package io.vertx.ext.json.schema;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.ext.json.pointer.JsonPointer;
 
+import java.util.List;
+
 @VertxGen
 @FunctionalInterface
 public interface Schema {
@@ -24,4 +28,95 @@ public interface Schema {
    * @return
    */
   Future<Void> validate(Object in);
+
+  /**
+   * Returns true if this schema can be validated synchronously with {@link #validateSync(Object)}, without allocating any {@link Future}.
+   * A schema is sync when all its {@code $ref} are solved and it doesn't contain any {@link AsyncValidator} that requires async validation
+   *
+   * @return
+   */
+  default boolean isSync() {
+    return false;
+  }
+
+  /**
+   * Validate the provided input synchronously. Before calling this method you should check if the schema is sync with {@link #isSync()}
+   *
+   * @param in
+   * @throws ValidationException if the validation fails
+   * @throws NoSyncValidationException if the schema can't be validated synchronously
+   */
+  default void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+    throw new NoSyncValidationException("Schema " + getScope() + " can't be validated synchronously");
+  }
+
+  /**
+   * Validate the provided input synchronously collecting all the errors, instead of failing on the first one.
+   * The validation is aborted when {@code maxErrors} errors are found. Every error contains the location of the invalid value
+   * inside the input (see {@link ValidationException#inputLocation()})
+   *
+   * @param in
+   * @param maxErrors max number of errors to collect
+   * @return the list of errors, empty if the validation succeeds
+   * @throws NoSyncValidationException if the schema can't be validated synchronously
+   */
+  @GenIgnore
+  default List<ValidationException> validateAll(Object in, int maxErrors) throws NoSyncValidationException {
+    ValidationErrorCollector collector = new ValidationErrorCollector(maxErrors);
+    try {
+      collectErrors(in, JsonPointer.create(), collector);
+    } catch (ValidationErrorCollector.LimitReachedException e) {
+      // Max number of errors reached
+    }
+    return collector.getErrors();
+  }
+
+  /**
+   * Validate the provided input synchronously adding the errors to the provided collector. Used by {@link #validateAll(Object, int)}
+   *
+   * @param in
+   * @param inputLocation location of {@code in} inside the validated input
+   * @param collector
+   * @throws NoSyncValidationException if the schema can't be validated synchronously
+   */
+  @GenIgnore
+  default void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+    try {
+      validateSync(in);
+    } catch (ValidationException e) {
+      if (e.schema() == null) {
+        e.setSchema(this);
+        e.setScope(this.getScope());
+      }
+      collector.add(e, inputLocation);
+    }
+  }
+
+  /**
+   * Validate synchronously all the provided inputs. Unlike calling {@link #validateSync(Object)} for every input,
+   * the result doesn't keep any state for valid inputs
+   *
+   * @param inputs
+   * @return the result of the batch validation
+   * @throws NoSyncValidationException if the schema can't be validated synchronously
+   */
+  @GenIgnore
+  default BatchValidationResult validateBatch(List<?> inputs) throws NoSyncValidationException {
+    if (!isSync()) throw new NoSyncValidationException("Schema " + getScope() + " can't be validated synchronously");
+    return BatchValidationResult.validateSync(this, inputs, 0, inputs.size());
+  }
+
+  /**
+   * Validate all the provided inputs, splitting them in chunks of {@link BatchValidationResult#CHUNK_SIZE} validated on the worker pool.
+   * If the schema is not sync, the inputs are validated with {@link #validate(Object)}
+   *
+   * @param vertx
+   * @param inputs
+   * @return a future that completes with the result of the batch validation
+   */
+  @GenIgnore
+  default Future<BatchValidationResult> validateBatch(Vertx vertx, List<?> inputs) {
+    if (!isSync()) return BatchValidationResult.validateAsync(this, inputs);
+    return BatchValidationResult.validateOnWorkers(vertx, this, inputs);
+  }
 }
@@ -1,6 +1,7 @@
 package io.vertx.ext.json.schema;
 
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
 import io.vertx.ext.json.pointer.JsonPointer;
 
 import java.net.URI;
@@ -52,6 +53,28 @@ public interface SchemaParser {
    */
   default Schema parseSchemaFromString(String unparsedJson, URI scope) { return this.parseSchemaFromString(unparsedJson, JsonPointer.fromURI(scope)); }
 
+  /**
+   * Build a schema from provided json and solve all its {@code $ref} before returning it.
+   * Local, file and remote references are solved in parallel (every external document is fetched once) and,
+   * when the returned future succeeds, the schema doesn't need to solve references during validation.
+   * The references of schemas previously parsed with this parser are solved only if they are reachable from this schema,
+   * the other ones are solved lazily during validation. A circular chain of {@code $ref} fails the returned future
+   *
+   * @param jsonSchema JSON representing the schema. Must be a JsonObject or a Boolean
+   * @param scope Scope of schema. Must be a JSONPointer with absolute URI
+   * @return a future that succeeds with the linked schema, or fails if the schema is invalid or a reference can't be solved
+   */
+  Future<Schema> parseAndLink(Object jsonSchema, JsonPointer scope);
+
+  /**
+   * Same as {@link SchemaParser#parseAndLink(Object, JsonPointer)}
+   *
+   * @param jsonSchema JSON representing the schema. Must be a JsonObject or a Boolean
+   * @param scope Scope of schema. Must be an absolute URI
+   * @return a future that succeeds with the linked schema, or fails if the schema is invalid or a reference can't be solved
+   */
+  default Future<Schema> parseAndLink(Object jsonSchema, URI scope) { return this.parseAndLink(jsonSchema, JsonPointer.fromURI(scope)); }
+
   /**
    * Get schema router registered to this schema parser
    * @return
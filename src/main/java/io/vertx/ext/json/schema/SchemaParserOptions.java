@@ -2,12 +2,15 @@ package io.vertx.ext.json.schema;
 
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 @VertxGen
@@ -16,10 +19,19 @@ public class SchemaParserOptions {
 
   private List<ValidatorFactory> additionalValidatorFactories;
   private Map<String, Predicate<String>> additionalStringFormatValidators;
+  private boolean adaptiveValidatorOrdering;
+  private int parallelItemsThreshold;
+  private Executor parallelItemsExecutor;
+  private RegexEngine regexEngine;
+  private int stringPredicateCacheSize;
+  private int stringPredicateCacheMaxLength;
 
   public SchemaParserOptions() {
     this.additionalValidatorFactories = new ArrayList<>();
     this.additionalStringFormatValidators = new HashMap<>();
+    this.parallelItemsExecutor = ForkJoinPool.commonPool();
+    this.regexEngine = RegexEngine.JDK;
+    this.stringPredicateCacheMaxLength = 256;
   }
 
   public List<ValidatorFactory> getAdditionalValidatorFactories() {
@@ -30,6 +42,110 @@ public class SchemaParserOptions {
     return additionalStringFormatValidators;
   }
 
+  public boolean isAdaptiveValidatorOrdering() {
+    return adaptiveValidatorOrdering;
+  }
+
+  /**
+   * Enable the runtime reordering of validators of parsed schemas, to run first validators that fail more often.
+   * Validators are always ordered by priority and then by {@link Validator#getCost()}
+   *
+   * @return
+   */
+  @Fluent
+  public SchemaParserOptions setAdaptiveValidatorOrdering(boolean adaptiveValidatorOrdering) {
+    this.adaptiveValidatorOrdering = adaptiveValidatorOrdering;
+    return this;
+  }
+
+  public int getParallelItemsThreshold() {
+    return parallelItemsThreshold;
+  }
+
+  /**
+   * Set the min size of arrays whose items are validated in parallel, in the executor set with {@link #setParallelItemsExecutor(Executor)}.
+   * {@link Schema#validate(Object)} doesn't block waiting for the items, while {@link Schema#validateSync(Object)} does.
+   * The error reported is the one of the first invalid item, like in the sequential validation. 0 (the default) disables parallel validation
+   *
+   * @return
+   */
+  @Fluent
+  public SchemaParserOptions setParallelItemsThreshold(int parallelItemsThreshold) {
+    if (parallelItemsThreshold < 0) throw new IllegalArgumentException("parallelItemsThreshold must be >= 0");
+    this.parallelItemsThreshold = parallelItemsThreshold;
+    return this;
+  }
+
+  @GenIgnore
+  public Executor getParallelItemsExecutor() {
+    return parallelItemsExecutor;
+  }
+
+  /**
+   * Set the executor that validates the items of big arrays. The default is the {@link ForkJoinPool#commonPool()}
+   *
+   * @return
+   */
+  @GenIgnore
+  @Fluent
+  public SchemaParserOptions setParallelItemsExecutor(Executor parallelItemsExecutor) {
+    if (parallelItemsExecutor == null) throw new IllegalArgumentException("parallelItemsExecutor must not be null");
+    this.parallelItemsExecutor = parallelItemsExecutor;
+    return this;
+  }
+
+  @GenIgnore
+  public RegexEngine getRegexEngine() {
+    return regexEngine;
+  }
+
+  /**
+   * Set the engine that compiles the regular expressions of pattern and patternProperties keywords. The default is
+   * {@link RegexEngine#JDK}, use {@link RegexEngine#LINEAR} to bound the matching time when patterns are not trusted
+   *
+   * @return
+   */
+  @GenIgnore
+  @Fluent
+  public SchemaParserOptions setRegexEngine(RegexEngine regexEngine) {
+    if (regexEngine == null) throw new IllegalArgumentException("regexEngine must not be null");
+    this.regexEngine = regexEngine;
+    return this;
+  }
+
+  public int getStringPredicateCacheSize() {
+    return stringPredicateCacheSize;
+  }
+
+  /**
+   * Set how many results of format, pattern and propertyNames checks are memoized for each format, pattern or
+   * propertyNames schema. 0 (the default) disables the cache
+   *
+   * @return
+   */
+  @Fluent
+  public SchemaParserOptions setStringPredicateCacheSize(int stringPredicateCacheSize) {
+    if (stringPredicateCacheSize < 0) throw new IllegalArgumentException("stringPredicateCacheSize must be >= 0");
+    this.stringPredicateCacheSize = stringPredicateCacheSize;
+    return this;
+  }
+
+  public int getStringPredicateCacheMaxLength() {
+    return stringPredicateCacheMaxLength;
+  }
+
+  /**
+   * Set the max length of strings whose checks are memoized. The default is 256
+   *
+   * @return
+   */
+  @Fluent
+  public SchemaParserOptions setStringPredicateCacheMaxLength(int stringPredicateCacheMaxLength) {
+    if (stringPredicateCacheMaxLength < 0) throw new IllegalArgumentException("stringPredicateCacheMaxLength must be >= 0");
+    this.stringPredicateCacheMaxLength = stringPredicateCacheMaxLength;
+    return this;
+  }
+
   /**
    * Add a validator factory that will be applied to {@link SchemaParser}
    *
@@ -1,6 +1,8 @@
 package io.vertx.ext.json.schema;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.ext.json.pointer.JsonPointer;
 
 @FunctionalInterface
 @VertxGen
@@ -22,4 +24,13 @@ public interface SyncValidator extends Validator {
    * @throws ValidationException
    */
   void validate(Object value) throws ValidationException;
+
+  @Override
+  default void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+    try {
+      validate(in);
+    } catch (ValidationException e) {
+      collector.add(e, inputLocation);
+    }
+  }
 }
@@ -0,0 +1,81 @@
+package io.vertx.ext.json.schema;
+
+import io.vertx.ext.json.pointer.JsonPointer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Accumulates the errors found by {@link Schema#validateAll(Object, int)}. When the max number of errors is reached
+ * the validation is aborted
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class ValidationErrorCollector {
+
+  // Don't pre-allocate huge arrays when the limit is used only as a safety net
+  private static final int MAX_INITIAL_CAPACITY = 64;
+
+  private final int maxErrors;
+  private final List<ValidationException> errors;
+
+  public ValidationErrorCollector(int maxErrors) {
+    if (maxErrors <= 0) throw new IllegalArgumentException("maxErrors must be > 0");
+    this.maxErrors = maxErrors;
+    this.errors = new ArrayList<>(Math.min(maxErrors, MAX_INITIAL_CAPACITY));
+  }
+
+  /**
+   * Add an error found at the provided input location
+   *
+   * @param error
+   * @param inputLocation location of the invalid value inside the validated input
+   * @throws LimitReachedException when the max number of errors is reached, to abort the validation
+   */
+  public void add(ValidationException error, JsonPointer inputLocation) {
+    error.setInputLocation(inputLocation);
+    errors.add(error);
+    if (errors.size() >= maxErrors) throw LimitReachedException.INSTANCE;
+  }
+
+  /**
+   * Set schema and scope of errors starting from {@code fromIndex} that don't have a schema yet
+   *
+   * @param fromIndex
+   * @param schema
+   */
+  public void fillSchema(int fromIndex, Schema schema) {
+    for (int i = fromIndex; i < errors.size(); i++) {
+      ValidationException e = errors.get(i);
+      if (e.schema() == null) {
+        e.setSchema(schema);
+        e.setScope(schema.getScope());
+      }
+    }
+  }
+
+  public int size() {
+    return errors.size();
+  }
+
+  public boolean isLimitReached() {
+    return errors.size() >= maxErrors;
+  }
+
+  public List<ValidationException> getErrors() {
+    return Collections.unmodifiableList(errors);
+  }
+
+  /**
+   * Thrown by {@link #add(ValidationException, JsonPointer)} to abort the validation. Validators must not catch it
+   */
+  public static final class LimitReachedException extends RuntimeException {
+
+    static final LimitReachedException INSTANCE = new LimitReachedException();
+
+    private LimitReachedException() {
+      super("Max number of validation errors reached", null, false, false);
+    }
+  }
+}
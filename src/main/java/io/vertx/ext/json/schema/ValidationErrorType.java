@@ -23,4 +23,18 @@ public enum ValidationErrorType {
   public ValidationException createException(String message, Throwable t, String keyword, Object input) {
     return new ValidationException(message, t, keyword, input, this);
   }
+
+  /**
+   * Create an exception with message {@code messagePrefix + messageArgument}, built only if {@link ValidationException#getMessage()} is called.
+   * Arrays are formatted with {@link java.util.Arrays#deepToString(Object[])}
+   *
+   * @param messagePrefix
+   * @param messageArgument
+   * @param keyword
+   * @param input
+   * @return
+   */
+  public ValidationException createLazyException(String messagePrefix, Object messageArgument, String keyword, Object input) {
+    return ValidationException.createLazy(messagePrefix, messageArgument, keyword, input, this);
+  }
 }
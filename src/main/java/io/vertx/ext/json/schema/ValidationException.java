@@ -5,6 +5,8 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.VertxException;
 import io.vertx.ext.json.pointer.JsonPointer;
 
+import java.util.Arrays;
+
 /**
  * This is the main class for every Validation flow related errors
  *
@@ -13,14 +15,26 @@ import io.vertx.ext.json.pointer.JsonPointer;
 @VertxGen
 public class ValidationException extends VertxException {
 
+  /**
+   * Validation failures are expected and often used as control flow (e.g. in {@code not}, {@code anyOf}, {@code oneOf}),
+   * so by default the stack trace is not filled. Set the system property {@code vertx.json.schema.fillStackTrace}
+   * to {@code true} to fill it
+   */
+  public static final boolean FILL_STACK_TRACE = Boolean.getBoolean("vertx.json.schema.fillStackTrace");
+
+  final private LazyMessage lazyMessage;
+  private String message;
   final private String keyword;
   final private Object input;
   final private ValidationErrorType errorType;
   private Schema schema;
   private JsonPointer scope;
+  private JsonPointer inputLocation;
 
   protected ValidationException(String message, String keyword, Object input, ValidationErrorType errorType) {
     super(message);
+    this.lazyMessage = null;
+    this.message = message;
     this.keyword = keyword;
     this.input = input;
     this.errorType = errorType;
@@ -28,11 +42,43 @@ public class ValidationException extends VertxException {
 
   protected ValidationException(String message, Throwable cause, String keyword, Object input, ValidationErrorType errorType) {
     super(message, cause);
+    this.lazyMessage = null;
+    this.message = message;
+    this.keyword = keyword;
+    this.input = input;
+    this.errorType = errorType;
+  }
+
+  private ValidationException(LazyMessage lazyMessage, String keyword, Object input, ValidationErrorType errorType) {
+    super((String) null);
+    this.lazyMessage = lazyMessage;
     this.keyword = keyword;
     this.input = input;
     this.errorType = errorType;
   }
 
+  /**
+   * Create an exception with a message built only when requested, concatenating {@code messagePrefix} and {@code messageArgument}
+   */
+  static ValidationException createLazy(String messagePrefix, Object messageArgument, String keyword, Object input, ValidationErrorType errorType) {
+    return new ValidationException(new LazyMessage(messagePrefix, messageArgument), keyword, input, errorType);
+  }
+
+  @Override
+  public String getMessage() {
+    String m = message;
+    if (m == null && lazyMessage != null) {
+      m = lazyMessage.build();
+      message = m;
+    }
+    return m;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return FILL_STACK_TRACE ? super.fillInStackTrace() : this;
+  }
+
   @Nullable public String keyword() {
     return keyword;
   }
@@ -53,6 +99,15 @@ public class ValidationException extends VertxException {
     return scope;
   }
 
+  /**
+   * Returns the location of the invalid value inside the validated input. It's filled only by {@link Schema#validateAll(Object, int)}
+   *
+   * @return
+   */
+  @Nullable public JsonPointer inputLocation() {
+    return inputLocation;
+  }
+
   public void setSchema(Schema schema) {
     this.schema = schema;
   }
@@ -61,6 +116,10 @@ public class ValidationException extends VertxException {
     this.scope = scope;
   }
 
+  public void setInputLocation(JsonPointer inputLocation) {
+    this.inputLocation = inputLocation;
+  }
+
   @Override
   public String toString() {
     return "ValidationException{" +
@@ -70,6 +129,21 @@ public class ValidationException extends VertxException {
         ", errorType=" + errorType +
         ", schema=" + schema +
         ", scope=" + scope +
+        ", inputLocation=" + inputLocation +
         '}';
   }
+
+  private static final class LazyMessage {
+    private final String prefix;
+    private final Object argument;
+
+    LazyMessage(String prefix, Object argument) {
+      this.prefix = prefix;
+      this.argument = argument;
+    }
+
+    String build() {
+      return prefix + (argument instanceof Object[] ? Arrays.deepToString((Object[]) argument) : String.valueOf(argument));
+    }
+  }
 }
@@ -1,6 +1,9 @@
 package io.vertx.ext.json.schema;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.generic.JsonSchemaType;
 
 @VertxGen
 public interface Validator {
@@ -11,10 +14,57 @@ public interface Validator {
    */
   boolean isAsync();
 
+  /**
+   * Returns true if this validator can actually run synchronously. For {@link SyncValidator} it's always true,
+   * while an {@link AsyncValidator} can be sync if it overrides {@link AsyncValidator#validateSync(Object)}
+   *
+   * @return
+   */
+  default boolean isSync() {
+    return !isAsync();
+  }
+
   /**
    * Returns the priority of the validator
    *
    * @return
    */
   ValidatorPriority getPriority();
+
+  /**
+   * Returns an estimate of the cost of this validator. Validators with same priority are executed cheapest first.
+   * Built-in validators use 1 for constant time checks, 2-5 for checks linear in the schema or input size,
+   * 20-30 for regular expressions and checks on the whole input and 100 for validators of subschemas
+   *
+   * @return
+   */
+  default int getCost() {
+    return isAsync() ? 100 : 10;
+  }
+
+  /**
+   * Returns the type of the inputs checked by this validator, or null if it checks inputs of any type.
+   * The validator is not called for inputs of other types, so it must accept them. Only {@link JsonSchemaType#classify(Object)}
+   * results are valid types
+   *
+   * @return
+   */
+  @GenIgnore
+  default JsonSchemaType getApplicableType() {
+    return null;
+  }
+
+  /**
+   * Validate the provided value synchronously adding the errors to the collector. Validators of subschemas should
+   * override this method to collect the errors of the subschemas
+   *
+   * @param in
+   * @param inputLocation location of {@code in} inside the validated input
+   * @param collector
+   * @throws NoSyncValidationException if this validator can't run synchronously
+   */
+  @GenIgnore
+  default void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+    throw new NoSyncValidationException("Validator " + this.getClass().getName() + " doesn't support sync validation");
+  }
 }
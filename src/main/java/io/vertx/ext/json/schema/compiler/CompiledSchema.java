@@ -0,0 +1,94 @@
+package io.vertx.ext.json.schema.compiler;
+
+import io.vertx.core.Future;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.NoSyncValidationException;
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.ValidationErrorCollector;
+import io.vertx.ext.json.schema.ValidationException;
+import io.vertx.ext.json.schema.generic.ParallelItemsValidation;
+
+import java.util.List;
+
+/**
+ * Base class of the schemas generated by {@link SchemaCompiler}. The generated subclass implements
+ * {@link #validateCompiled(Object)}, while parts of the schema that can't be compiled are delegated to the interpreted
+ * schemas provided as fallbacks
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public abstract class CompiledSchema implements Schema {
+
+  private final Schema interpreted;
+  private final Schema[] fallbacks;
+  private volatile boolean sync;
+
+  protected CompiledSchema(Schema interpreted, List<Schema> fallbacks) {
+    this.interpreted = interpreted;
+    this.fallbacks = fallbacks.toArray(new Schema[fallbacks.size()]);
+  }
+
+  /**
+   * Run the generated validation code
+   *
+   * @param in
+   * @throws ValidationException
+   * @throws NoSyncValidationException if a fallback schema can't be validated synchronously
+   */
+  protected abstract void validateCompiled(Object in) throws ValidationException, NoSyncValidationException;
+
+  /**
+   * Returns the interpreted schema used to generate this compiled schema
+   *
+   * @return
+   */
+  public Schema getInterpretedSchema() {
+    return interpreted;
+  }
+
+  @Override
+  public JsonPointer getScope() {
+    return interpreted.getScope();
+  }
+
+  @Override
+  public boolean isSync() {
+    if (sync) return true;
+    for (Schema s : fallbacks) if (!s.isSync()) return false;
+    sync = true;
+    return true;
+  }
+
+  @Override
+  public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+    try {
+      validateCompiled(in);
+    } catch (ValidationException e) {
+      // Generated methods already filled the failing subschema
+      if (e.schema() == null) {
+        e.setSchema(this);
+        e.setScope(this.getScope());
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+    // Generated code is specialized for fail fast validation
+    interpreted.collectErrors(in, inputLocation, collector);
+  }
+
+  @Override
+  public Future<Void> validate(Object in) {
+    if (!isSync() || ParallelItemsValidation.isAsyncOnly()) return interpreted.validate(in);
+    try {
+      ParallelItemsValidation.nonBlocking(() -> validateSync(in));
+      return Future.succeededFuture();
+    } catch (ValidationException e) {
+      return Future.failedFuture(e);
+    } catch (NoSyncValidationException e) {
+      return ParallelItemsValidation.asyncOnly(() -> interpreted.validate(in));
+    }
+  }
+}
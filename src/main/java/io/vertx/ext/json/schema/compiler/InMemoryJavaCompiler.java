@@ -0,0 +1,101 @@
+package io.vertx.ext.json.schema.compiler;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.Schema;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles a single java source in memory with the system java compiler and loads the result in a dedicated class loader
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+class InMemoryJavaCompiler {
+
+  static boolean isAvailable() {
+    return ToolProvider.getSystemJavaCompiler() != null;
+  }
+
+  static Class<?> compile(String className, String source) {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) throw new IllegalStateException("No system java compiler available");
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    Map<String, ByteArrayOutputStream> outputs = new HashMap<>();
+    JavaFileManager fileManager = new ForwardingJavaFileManager<StandardJavaFileManager>(compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      @Override
+      public JavaFileObject getJavaFileForOutput(Location location, String name, JavaFileObject.Kind kind, FileObject sibling) {
+        return new SimpleJavaFileObject(URI.create("mem:///" + name.replace('.', '/') + kind.extension), kind) {
+          @Override
+          public OutputStream openOutputStream() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outputs.put(name, out);
+            return out;
+          }
+        };
+      }
+    };
+    JavaFileObject sourceFile = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+    List<String> options = Arrays.asList("-classpath", buildClassPath(), "-proc:none", "-nowarn", "-g:source,lines");
+    Boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, Collections.singletonList(sourceFile)).call();
+    if (success == null || !success) {
+      throw new IllegalStateException("Error while compiling " + className + ": " + diagnostics.getDiagnostics()
+          .stream()
+          .map(d -> d.getMessage(null))
+          .collect(Collectors.joining(", ")));
+    }
+    try {
+      return new GeneratedClassLoader(CompiledSchema.class.getClassLoader(), outputs).loadClass(className);
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException("Cannot load compiled class " + className, e);
+    }
+  }
+
+  private static String buildClassPath() {
+    Set<String> entries = new LinkedHashSet<>();
+    // Classes referenced by the generated code could come from a class loader not visible in java.class.path
+    for (Class<?> c : Arrays.asList(CompiledSchema.class, Schema.class, JsonObject.class)) {
+      CodeSource source = c.getProtectionDomain().getCodeSource();
+      if (source != null && source.getLocation() != null) {
+        try {
+          entries.add(new File(source.getLocation().toURI()).getPath());
+        } catch (Exception e) {
+          // Not a file location, rely on java.class.path
+        }
+      }
+    }
+    entries.addAll(Arrays.asList(System.getProperty("java.class.path", "").split(File.pathSeparator)));
+    return String.join(File.pathSeparator, entries);
+  }
+
+  private static class GeneratedClassLoader extends ClassLoader {
+
+    private final Map<String, ByteArrayOutputStream> classes;
+
+    GeneratedClassLoader(ClassLoader parent, Map<String, ByteArrayOutputStream> classes) {
+      super(parent);
+      this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      ByteArrayOutputStream out = classes.get(name);
+      if (out == null) return super.findClass(name);
+      byte[] bytes = out.toByteArray();
+      return defineClass(name, bytes, 0, bytes.length);
+    }
+  }
+
+}
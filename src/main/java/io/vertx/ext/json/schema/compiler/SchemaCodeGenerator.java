@@ -0,0 +1,619 @@
+package io.vertx.ext.json.schema.compiler;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+import io.vertx.ext.json.schema.generic.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the java source of a {@link CompiledSchema} walking the json of a parsed schema. Every schema node becomes
+ * a private method, keywords handled by the built-in factories are inlined while nodes consumed by custom factories
+ * are delegated to the interpreted schema
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+class SchemaCodeGenerator {
+
+  private final static Set<Class<? extends ValidatorFactory>> BUILTIN_FACTORIES = new HashSet<>(Arrays.asList(
+      AllOfValidatorFactory.class,
+      AnyOfValidatorFactory.class,
+      ConstValidatorFactory.class,
+      DefinitionsValidatorFactory.class,
+      EnumValidatorFactory.class,
+      ItemsValidatorFactory.class,
+      MaxItemsValidatorFactory.class,
+      MinItemsValidatorFactory.class,
+      NotValidatorFactory.class,
+      OneOfValidatorFactory.class,
+      StringValidatorFactory.class,
+      UniqueItemsValidatorFactory.class,
+      io.vertx.ext.json.schema.draft7.ContainsValidatorFactory.class,
+      io.vertx.ext.json.schema.draft7.IfThenElseValidatorFactory.class,
+      io.vertx.ext.json.schema.draft7.ItemsValidatorFactory.class,
+      io.vertx.ext.json.schema.draft7.NumericValidatorFactory.class,
+      io.vertx.ext.json.schema.draft7.ObjectValidatorFactory.class,
+      io.vertx.ext.json.schema.draft7.TypeValidatorFactory.class,
+      io.vertx.ext.json.schema.openapi3.NumericValidatorFactory.class,
+      io.vertx.ext.json.schema.openapi3.ObjectValidatorFactory.class,
+      io.vertx.ext.json.schema.openapi3.NullableValidatorFactory.class,
+      io.vertx.ext.json.schema.openapi3.TypeValidatorFactory.class
+  ));
+
+  private final BaseSchemaParser parser;
+  private final String className;
+  private final Map<Class<?>, ValidatorFactory> builtinFactories;
+  private final List<ValidatorFactory> customFactories;
+
+  private final List<Object> constants;
+  private final List<String> constantTypes;
+  private final List<Schema> fallbacks;
+  private final Map<String, String> methodNames;
+  private final Deque<PendingMethod> pendingMethods;
+  private final StringBuilder methods;
+  private String rootMethod;
+
+  SchemaCodeGenerator(BaseSchemaParser parser, String className) {
+    this.parser = parser;
+    this.className = className;
+    this.builtinFactories = new HashMap<>();
+    this.customFactories = new ArrayList<>();
+    for (ValidatorFactory f : parser.getValidatorFactories()) {
+      if (BUILTIN_FACTORIES.contains(f.getClass())) builtinFactories.putIfAbsent(f.getClass(), f);
+      else customFactories.add(f);
+    }
+    this.constants = new ArrayList<>();
+    this.constantTypes = new ArrayList<>();
+    this.fallbacks = new ArrayList<>();
+    this.methodNames = new HashMap<>();
+    this.pendingMethods = new ArrayDeque<>();
+    this.methods = new StringBuilder();
+  }
+
+  List<Schema> getFallbacks() {
+    return fallbacks;
+  }
+
+  Object[] getConstants() {
+    return constants.toArray();
+  }
+
+  String generate(SchemaImpl root) {
+    rootMethod = methodFor(root.getSchema(), root.getScope());
+    PendingMethod m;
+    while ((m = pendingMethods.poll()) != null) generateMethod(m);
+
+    String packageName = className.substring(0, className.lastIndexOf('.'));
+    String simpleName = className.substring(className.lastIndexOf('.') + 1);
+    StringBuilder b = new StringBuilder();
+    b.append("package ").append(packageName).append(";\n\n");
+    b.append("import io.vertx.core.json.JsonArray;\n");
+    b.append("import io.vertx.core.json.JsonObject;\n");
+    b.append("import io.vertx.ext.json.schema.*;\n");
+    b.append("import io.vertx.ext.json.schema.generic.JsonSchemaType;\n");
+    b.append("import java.util.List;\n");
+    b.append("import java.util.Map;\n\n");
+    b.append("import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;\n\n");
+    b.append("public final class ").append(simpleName).append(" extends CompiledSchema {\n\n");
+    for (int i = 0; i < constants.size(); i++)
+      b.append("  private final ").append(constantTypes.get(i)).append(" c").append(i).append(";\n");
+    b.append("\n  public ").append(simpleName).append("(Schema interpreted, List<Schema> fallbacks, Object[] constants) {\n");
+    b.append("    super(interpreted, fallbacks);\n");
+    for (int i = 0; i < constants.size(); i++)
+      b.append("    this.c").append(i).append(" = (").append(constantTypes.get(i)).append(") constants[").append(i).append("];\n");
+    b.append("  }\n\n");
+    b.append("  @Override\n");
+    b.append("  protected void validateCompiled(Object in) {\n");
+    b.append("    ").append(rootMethod).append("(in);\n");
+    b.append("  }\n\n");
+    b.append(methods);
+    b.append("}\n");
+    return b.toString();
+  }
+
+  private String methodFor(Object json, JsonPointer scope) {
+    if (json instanceof Map) json = new JsonObject((Map<String, Object>) json);
+    String key = scope.buildURI().toString();
+    String name = methodNames.get(key);
+    if (name == null) {
+      name = "v" + methodNames.size();
+      methodNames.put(key, name);
+      pendingMethods.add(new PendingMethod(name, json, scope));
+    }
+    return name;
+  }
+
+  private String constant(Object value, String type) {
+    constants.add(value);
+    constantTypes.add(type);
+    return "c" + (constants.size() - 1);
+  }
+
+  private void generateMethod(PendingMethod m) {
+    StringBuilder b = new StringBuilder();
+    if (m.json instanceof Boolean) {
+      if (!((Boolean) m.json))
+        b.append("    throw NO_MATCH.createException(\"False schema always fail validation\", null, in);\n");
+    } else if (m.json instanceof JsonObject) {
+      generateSchema((JsonObject) m.json, m.scope, b);
+      b = fillErrors(m, b);
+    } else {
+      throw new IllegalStateException("Unexpected schema at " + m.scope.buildURI() + ": " + m.json);
+    }
+    methods.append("  private void ").append(m.name).append("(Object in) {\n");
+    methods.append(b);
+    methods.append("  }\n\n");
+  }
+
+  // Errors thrown by the method body are reported with the innermost subschema, like ValidationErrorCollector does
+  private StringBuilder fillErrors(PendingMethod m, StringBuilder body) {
+    String schema;
+    if (m.name.equals(rootMethod)) schema = "this";
+    else {
+      Schema s = parser.getSchemaRouter().resolveCachedSchema(JsonPointer.fromURI(m.scope.buildURI()), m.scope, parser);
+      if (!(s instanceof SchemaImpl) || !m.json.equals(((SchemaImpl) s).getSchema())) return body;
+      schema = constant(s, "Schema");
+    }
+    StringBuilder b = new StringBuilder();
+    b.append("    try {\n");
+    b.append(body.toString().replaceAll("(?m)^(?=.)", "  "));
+    b.append("    } catch (ValidationException e) {\n");
+    b.append("      if (e.schema() == null) {\n");
+    b.append("        e.setSchema(").append(schema).append(");\n");
+    b.append("        e.setScope(").append(schema).append(".getScope());\n");
+    b.append("      }\n");
+    b.append("      throw e;\n");
+    b.append("    }\n");
+    return b;
+  }
+
+  private void generateSchema(JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (json.containsKey("$ref")) {
+      generateRef(json, scope, b);
+      return;
+    }
+    for (ValidatorFactory f : customFactories) {
+      if (f.canConsumeSchema(json)) {
+        generateFallback(lookupSchema(json, scope), b);
+        return;
+      }
+    }
+    // Cheap checks first, like the interpreter does with validator priorities
+    generateType(json, b);
+    generateLeaf(EnumValidatorFactory.class, json, scope, b);
+    generateLeaf(ConstValidatorFactory.class, json, scope, b);
+    generateNullable(json, b);
+    generateLeaf(io.vertx.ext.json.schema.draft7.NumericValidatorFactory.class, json, scope, b);
+    generateLeaf(io.vertx.ext.json.schema.openapi3.NumericValidatorFactory.class, json, scope, b);
+    generateLeaf(StringValidatorFactory.class, json, scope, b);
+    generateArray(json, b);
+    generateLeaf(UniqueItemsValidatorFactory.class, json, scope, b);
+    generateObject(json, scope, b);
+    generateProperties(json, scope, b);
+    generateItems(json, scope, b);
+    generateContains(json, scope, b);
+    generateAllOf(json, scope, b);
+    generateAnyOf(json, scope, b);
+    generateOneOf(json, scope, b);
+    generateNot(json, scope, b);
+    generateIfThenElse(json, scope, b);
+  }
+
+  private boolean consumes(Class<? extends ValidatorFactory> factoryClass, JsonObject json) {
+    ValidatorFactory f = builtinFactories.get(factoryClass);
+    return f != null && f.canConsumeSchema(json);
+  }
+
+  private boolean consumesKeyword(Class<? extends ValidatorFactory> factoryClass, JsonObject json, String keyword) {
+    ValidatorFactory f = builtinFactories.get(factoryClass);
+    return f != null && json.containsKey(keyword) && f.canConsumeSchema(new JsonObject().put(keyword, json.getValue(keyword)));
+  }
+
+  private boolean consumesObjectKeyword(JsonObject json, String keyword) {
+    return consumesKeyword(io.vertx.ext.json.schema.draft7.ObjectValidatorFactory.class, json, keyword) ||
+        consumesKeyword(io.vertx.ext.json.schema.openapi3.ObjectValidatorFactory.class, json, keyword);
+  }
+
+  private Schema lookupSchema(JsonObject json, JsonPointer scope) {
+    Schema s = parser.getSchemaRouter().resolveCachedSchema(JsonPointer.fromURI(scope.buildURI()), scope, parser);
+    if (!(s instanceof SchemaImpl) || !json.equals(((SchemaImpl) s).getSchema()))
+      throw new IllegalStateException("Cannot find parsed schema " + scope.buildURI());
+    return s;
+  }
+
+  private void generateFallback(Schema schema, StringBuilder b) {
+    fallbacks.add(schema);
+    b.append("    ").append(constant(schema, "Schema")).append(".validateSync(in);\n");
+  }
+
+  private void generateRef(JsonObject json, JsonPointer scope, StringBuilder b) {
+    Schema schema = lookupSchema(json, scope);
+    Schema target = schema;
+    Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    while (target instanceof RefSchema) {
+      target = visited.add(target) ? ((RefSchema) target).getReferencedSchema() : null;
+      if (target == null) {
+        // Not linked yet, the interpreter will solve it
+        generateFallback(schema, b);
+        return;
+      }
+    }
+    if (target instanceof SchemaImpl)
+      b.append("    ").append(methodFor(((SchemaImpl) target).getSchema(), target.getScope())).append("(in);\n");
+    else
+      generateFallback(target, b);
+  }
+
+  private void generateLeaf(Class<? extends ValidatorFactory> factoryClass, JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (!consumes(factoryClass, json)) return;
+    Validator v = builtinFactories.get(factoryClass).createValidator(json, scope.copy(), parser);
+    if (v == null) return;
+    if (!(v instanceof SyncValidator))
+      throw new IllegalStateException("Expecting a sync validator from " + factoryClass.getName());
+    b.append("    ").append(constant(v, "SyncValidator")).append(".validate(in);\n");
+  }
+
+  private void generateType(JsonObject json, StringBuilder b) {
+    if (consumes(io.vertx.ext.json.schema.draft7.TypeValidatorFactory.class, json)) {
+      Object type = json.getValue("type");
+      String format = json.getString("format");
+      List<JsonSchemaType> types = new ArrayList<>();
+      if (type instanceof String) types.add(parseType((String) type, format));
+      else for (Object t : (JsonArray) type) types.add(parseType((String) t, format));
+      boolean allowNull = types.remove(JsonSchemaType.NULL);
+      String error = "throw NO_MATCH.createException(" + literal("input don't match any of types " + Arrays.deepToString(types.toArray())) + ", \"type\", in);";
+      String condition = types.isEmpty() ? "false" : types.stream().map(this::typeCheck).collect(Collectors.joining(" || "));
+      b.append("    if (in == null) {\n");
+      if (!allowNull) b.append("      ").append(error).append("\n");
+      b.append("    } else if (!(").append(condition).append(")) {\n");
+      b.append("      ").append(error).append("\n");
+      b.append("    }\n");
+    } else if (consumes(io.vertx.ext.json.schema.openapi3.TypeValidatorFactory.class, json)) {
+      JsonSchemaType type = parseType(json.getString("type"), json.getString("format"));
+      b.append("    if (in != null && !(").append(typeCheck(type)).append(")) {\n");
+      b.append("      throw NO_MATCH.createException(").append(literal("input don't match type " + type.name())).append(", \"type\", in);\n");
+      b.append("    }\n");
+    }
+  }
+
+  private JsonSchemaType parseType(String type, String format) {
+    switch (type) {
+      case "integer":
+        return JsonSchemaType.INTEGER;
+      case "number":
+        return (format != null && (format.equals("double") || format.equals("float"))) ? JsonSchemaType.NUMBER_DECIMAL : JsonSchemaType.NUMBER;
+      case "boolean":
+        return JsonSchemaType.BOOLEAN;
+      case "string":
+        return JsonSchemaType.STRING;
+      case "object":
+        return JsonSchemaType.OBJECT;
+      case "array":
+        return JsonSchemaType.ARRAY;
+      case "null":
+        return JsonSchemaType.NULL;
+      default:
+        throw new IllegalStateException("Unknown type: " + type);
+    }
+  }
+
+  private String typeCheck(JsonSchemaType type) {
+    switch (type) {
+      case NULL:
+        return "in == null";
+      case BOOLEAN:
+        return "in instanceof Boolean";
+      case OBJECT:
+        return "in instanceof JsonObject";
+      case ARRAY:
+        return "in instanceof JsonArray";
+      case NUMBER:
+        return "in instanceof Number";
+      case NUMBER_DECIMAL:
+        return "in instanceof Double || in instanceof Float";
+      case INTEGER:
+        return "in instanceof Long || in instanceof Integer";
+      case STRING:
+        return "in instanceof String";
+      default:
+        return "JsonSchemaType." + type.name() + ".checkInstance(in)";
+    }
+  }
+
+  private void generateNullable(JsonObject json, StringBuilder b) {
+    if (!consumes(io.vertx.ext.json.schema.openapi3.NullableValidatorFactory.class, json)) return;
+    Boolean nullable = (Boolean) json.getValue("nullable");
+    if (nullable == null || !nullable)
+      b.append("    if (in == null) throw NO_MATCH.createException(\"input cannot be null\", \"nullable\", in);\n");
+  }
+
+  private void generateArray(JsonObject json, StringBuilder b) {
+    boolean max = consumes(MaxItemsValidatorFactory.class, json);
+    boolean min = consumes(MinItemsValidatorFactory.class, json);
+    if (!max && !min) return;
+    b.append("    if (in instanceof JsonArray) {\n");
+    b.append("      int size = ((JsonArray) in).size();\n");
+    if (max) {
+      int maximum = ((Number) json.getValue("maxItems")).intValue();
+      b.append("      if (size > ").append(maximum).append(") throw NO_MATCH.createException(").append(literal("provided array should have size <= " + maximum)).append(", \"maxItems\", in);\n");
+    }
+    if (min) {
+      int minimum = ((Number) json.getValue("minItems")).intValue();
+      b.append("      if (size < ").append(minimum).append(") throw NO_MATCH.createException(").append(literal("provided array should have size >= " + minimum)).append(", \"minItems\", in);\n");
+    }
+    b.append("    }\n");
+  }
+
+  private void generateObject(JsonObject json, JsonPointer scope, StringBuilder b) {
+    StringBuilder checks = new StringBuilder();
+    if (consumesObjectKeyword(json, "maxProperties")) {
+      int maximum = ((Number) json.getValue("maxProperties")).intValue();
+      checks.append("      if (obj.size() > ").append(maximum).append(") throw NO_MATCH.createException(").append(literal("provided object should have size <= " + maximum)).append(", \"maxProperties\", in);\n");
+    }
+    if (consumesObjectKeyword(json, "minProperties")) {
+      int minimum = ((Number) json.getValue("minProperties")).intValue();
+      checks.append("      if (obj.size() < ").append(minimum).append(") throw NO_MATCH.createException(").append(literal("provided object should have size >= " + minimum)).append(", \"minProperties\", in);\n");
+    }
+    if (consumesObjectKeyword(json, "required")) {
+      for (Object k : new LinkedHashSet<>(json.getJsonArray("required").getList())) {
+        checks.append("      if (!obj.containsKey(").append(literal((String) k)).append(")) throw NO_MATCH.createException(").append(literal("provided object should contain property " + k)).append(", \"required\", in);\n");
+      }
+    }
+    if (consumesObjectKeyword(json, "dependencies")) {
+      JsonPointer baseScope = scope.copy().append("dependencies");
+      StringBuilder schemaDeps = new StringBuilder();
+      for (Map.Entry<String, Object> entry : json.getJsonObject("dependencies").getMap().entrySet()) {
+        String key = entry.getKey();
+        Object value = entry.getValue();
+        if (value instanceof Map || value instanceof Boolean) {
+          String method = methodFor(value, baseScope.copy().append(key));
+          schemaDeps.append("      if (obj.containsKey(").append(literal(key)).append(")) ").append(method).append("(in);\n");
+        } else if (!((List) value).isEmpty()) {
+          Set<String> deps = ((List<String>) value).stream().collect(Collectors.toSet());
+          checks.append("      if (obj.containsKey(").append(literal(key)).append(") && !(");
+          checks.append(deps.stream().map(d -> "obj.containsKey(" + literal(d) + ")").collect(Collectors.joining(" && ")));
+          checks.append(")) throw NO_MATCH.createException(").append(literal("dependencies of key " + key + " are not satisfied: " + deps)).append(", \"dependencies\", in);\n");
+        }
+      }
+      checks.append(schemaDeps);
+    }
+    if (checks.length() == 0) return;
+    b.append("    if (in instanceof JsonObject) {\n");
+    b.append("      JsonObject obj = (JsonObject) in;\n");
+    b.append(checks);
+    b.append("    }\n");
+  }
+
+  private void generateProperties(JsonObject json, JsonPointer scope, StringBuilder b) {
+    JsonObject properties = consumesObjectKeyword(json, "properties") ? json.getJsonObject("properties") : null;
+    JsonObject patternProperties = consumesObjectKeyword(json, "patternProperties") ? json.getJsonObject("patternProperties") : null;
+    Object additionalProperties = consumesObjectKeyword(json, "additionalProperties") ? json.getValue("additionalProperties") : null;
+    boolean propertyNames = consumesObjectKeyword(json, "propertyNames");
+    if (properties == null && patternProperties == null && !(additionalProperties instanceof JsonObject) &&
+        !Boolean.FALSE.equals(additionalProperties) && !propertyNames) return;
+
+    // One walk of the entries for all the keywords, like the interpreter does
+    b.append("    if (in instanceof JsonObject) {\n");
+    b.append("      for (Map.Entry<String, Object> entry : (JsonObject) in) {\n");
+    b.append("        String key = entry.getKey();\n");
+    b.append("        Object value = entry.getValue();\n");
+    if (propertyNames) {
+      String method = methodFor(json.getValue("propertyNames"), scope.copy().append("propertyNames"));
+      b.append("        try {\n");
+      b.append("          ").append(method).append("(key);\n");
+      b.append("        } catch (ValidationException e) {\n");
+      b.append("          throw NO_MATCH.createException(\"provided object contains a key not matching the propertyNames schema\", e, \"propertyNames\", in);\n");
+      b.append("        }\n");
+    }
+    b.append("        boolean found = false;\n");
+    if (properties != null && !properties.isEmpty()) {
+      JsonPointer baseScope = scope.copy().append("properties");
+      b.append("        switch (key) {\n");
+      for (Map.Entry<String, Object> entry : properties.getMap().entrySet()) {
+        String method = methodFor(entry.getValue(), baseScope.copy().append(entry.getKey()));
+        b.append("          case ").append(literal(entry.getKey())).append(":\n");
+        b.append("            ").append(method).append("(value);\n");
+        b.append("            found = true;\n");
+        b.append("            break;\n");
+      }
+      b.append("        }\n");
+    }
+    if (patternProperties != null) {
+      JsonPointer baseScope = scope.copy().append("patternProperties");
+      for (Map.Entry<String, Object> entry : patternProperties.getMap().entrySet()) {
+        String pattern = constant(parser.getOptions().getRegexEngine().compile(entry.getKey()), "io.vertx.ext.json.schema.RegexEngine.Regex");
+        String method = methodFor(entry.getValue(), baseScope.copy().append(entry.getKey()));
+        b.append("        if (").append(pattern).append(".find(key)) {\n");
+        b.append("          ").append(method).append("(value);\n");
+        b.append("          found = true;\n");
+        b.append("        }\n");
+      }
+    }
+    if (additionalProperties instanceof JsonObject) {
+      String method = methodFor(additionalProperties, scope.copy().append("additionalProperties"));
+      b.append("        if (!found) {\n");
+      b.append("          try {\n");
+      b.append("            ").append(method).append("(value);\n");
+      b.append("          } catch (ValidationException e) {\n");
+      b.append("            throw NO_MATCH.createException(\"additionalProperties schema should match\", e, \"additionalProperties\", in);\n");
+      b.append("          }\n");
+      b.append("        }\n");
+    } else if (Boolean.FALSE.equals(additionalProperties)) {
+      b.append("        if (!found) throw NO_MATCH.createException(\"provided object should not contain additional properties\", \"additionalProperties\", in);\n");
+    }
+    b.append("      }\n");
+    b.append("    }\n");
+  }
+
+  private void generateItems(JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (!consumes(ItemsValidatorFactory.class, json) && !consumes(io.vertx.ext.json.schema.draft7.ItemsValidatorFactory.class, json))
+      return;
+    Object items = json.getValue("items");
+    if (items instanceof JsonArray && builtinFactories.containsKey(io.vertx.ext.json.schema.draft7.ItemsValidatorFactory.class)) {
+      JsonArray itemsList = (JsonArray) items;
+      JsonPointer baseScope = scope.copy().append("items");
+      String additionalItems = json.containsKey("additionalItems") ? methodFor(json.getValue("additionalItems"), scope.copy().append("additionalItems")) : null;
+      b.append("    if (in instanceof JsonArray) {\n");
+      b.append("      JsonArray arr = (JsonArray) in;\n");
+      for (int i = 0; i < itemsList.size(); i++) {
+        String method = methodFor(itemsList.getValue(i), baseScope.copy().append(Integer.toString(i)));
+        b.append("      if (arr.size() > ").append(i).append(") ").append(method).append("(arr.getValue(").append(i).append("));\n");
+      }
+      if (additionalItems != null) {
+        b.append("      for (int i = ").append(itemsList.size()).append("; i < arr.size(); i++) ").append(additionalItems).append("(arr.getValue(i));\n");
+      }
+      b.append("    }\n");
+    } else {
+      String method = methodFor(items, scope.copy().append("items"));
+      b.append("    if (in instanceof JsonArray) {\n");
+      b.append("      for (Object item : (JsonArray) in) ").append(method).append("(item);\n");
+      b.append("    }\n");
+    }
+  }
+
+  private void generateContains(JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (!consumes(io.vertx.ext.json.schema.draft7.ContainsValidatorFactory.class, json)) return;
+    String method = methodFor(json.getValue("contains"), scope.copy().append("contains"));
+    b.append("    if (in instanceof JsonArray) {\n");
+    b.append("      ValidationException cause = null;\n");
+    b.append("      boolean matched = false;\n");
+    b.append("      for (Object item : (JsonArray) in) {\n");
+    b.append("        try {\n");
+    b.append("          ").append(method).append("(item);\n");
+    b.append("          matched = true;\n");
+    b.append("          break;\n");
+    b.append("        } catch (ValidationException e) {\n");
+    b.append("          cause = e;\n");
+    b.append("        }\n");
+    b.append("      }\n");
+    b.append("      if (!matched) {\n");
+    b.append("        if (cause == null) throw NO_MATCH.createException(\"provided array should not be empty\", \"contains\", in);\n");
+    b.append("        else throw NO_MATCH.createException(\"provided array doesn't contain an element matching the contains schema\", cause, \"contains\", in);\n");
+    b.append("      }\n");
+    b.append("    }\n");
+  }
+
+  private List<String> subschemaMethods(JsonObject json, String keyword, JsonPointer scope) {
+    JsonArray subschemas = json.getJsonArray(keyword);
+    JsonPointer baseScope = scope.copy().append(keyword);
+    List<String> result = new ArrayList<>();
+    for (int i = 0; i < subschemas.size(); i++)
+      result.add(methodFor(subschemas.getValue(i), baseScope.copy().append(Integer.toString(i))));
+    return result;
+  }
+
+  private void generateAllOf(JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (!consumes(AllOfValidatorFactory.class, json)) return;
+    b.append("    try {\n");
+    for (String method : subschemaMethods(json, "allOf", scope))
+      b.append("      ").append(method).append("(in);\n");
+    b.append("    } catch (ValidationException e) {\n");
+    b.append("      throw NO_MATCH.createException(\"allOf subschema don't match\", e, \"allOf\", in);\n");
+    b.append("    }\n");
+  }
+
+  private void generateAnyOf(JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (!consumes(AnyOfValidatorFactory.class, json)) return;
+    b.append("    {\n");
+    b.append("      ValidationException cause = null;\n");
+    b.append("      boolean matched = false;\n");
+    for (String method : subschemaMethods(json, "anyOf", scope)) {
+      b.append("      if (!matched) {\n");
+      b.append("        try {\n");
+      b.append("          ").append(method).append("(in);\n");
+      b.append("          matched = true;\n");
+      b.append("        } catch (ValidationException e) {\n");
+      b.append("          cause = e;\n");
+      b.append("        }\n");
+      b.append("      }\n");
+    }
+    b.append("      if (!matched) throw NO_MATCH.createException(\"anyOf subschemas don't match\", cause, \"anyOf\", in);\n");
+    b.append("    }\n");
+  }
+
+  private void generateOneOf(JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (!consumes(OneOfValidatorFactory.class, json)) return;
+    b.append("    {\n");
+    b.append("      int matched = 0;\n");
+    // Stop at the second match
+    b.append("      oneOf: {\n");
+    for (String method : subschemaMethods(json, "oneOf", scope)) {
+      b.append("      try {\n");
+      b.append("        ").append(method).append("(in);\n");
+      b.append("        if (++matched == 2) break oneOf;\n");
+      b.append("      } catch (ValidationException e) { }\n");
+    }
+    b.append("      }\n");
+    b.append("      if (matched != 1) throw NO_MATCH.createLazyException(\"input should match exactly one oneOf subschema, matched \", matched, \"oneOf\", in);\n");
+    b.append("    }\n");
+  }
+
+  private void generateNot(JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (!consumes(NotValidatorFactory.class, json)) return;
+    String method = methodFor(json.getValue("not"), scope.copy().append("not"));
+    b.append("    {\n");
+    b.append("      boolean matched;\n");
+    b.append("      try {\n");
+    b.append("        ").append(method).append("(in);\n");
+    b.append("        matched = true;\n");
+    b.append("      } catch (ValidationException e) {\n");
+    b.append("        matched = false;\n");
+    b.append("      }\n");
+    b.append("      if (matched) throw NO_MATCH.createException(\"input should be invalid\", \"not\", in);\n");
+    b.append("    }\n");
+  }
+
+  private void generateIfThenElse(JsonObject json, JsonPointer scope, StringBuilder b) {
+    if (!consumes(io.vertx.ext.json.schema.draft7.IfThenElseValidatorFactory.class, json)) return;
+    String condition = methodFor(json.getValue("if"), scope.copy().append("if"));
+    String thenBranch = json.getValue("then") != null ? methodFor(json.getValue("then"), scope.copy().append("then")) : null;
+    String elseBranch = json.getValue("else") != null ? methodFor(json.getValue("else"), scope.copy().append("else")) : null;
+    b.append("    {\n");
+    b.append("      boolean condition;\n");
+    b.append("      try {\n");
+    b.append("        ").append(condition).append("(in);\n");
+    b.append("        condition = true;\n");
+    b.append("      } catch (ValidationException e) {\n");
+    b.append("        condition = false;\n");
+    b.append("      }\n");
+    if (thenBranch != null) b.append("      if (condition) ").append(thenBranch).append("(in);\n");
+    if (elseBranch != null) b.append("      if (!condition) ").append(elseBranch).append("(in);\n");
+    b.append("    }\n");
+  }
+
+  private static String literal(String value) {
+    StringBuilder b = new StringBuilder("\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          b.append("\\\"");
+          break;
+        case '\\':
+          b.append("\\\\");
+          break;
+        default:
+          // Unicode escapes are translated before parsing, so line terminators would break the literal
+          if (c < 0x20) b.append(String.format("\\%03o", (int) c));
+          else b.append(c);
+      }
+    }
+    return b.append('"').toString();
+  }
+
+  private static class PendingMethod {
+    final String name;
+    final Object json;
+    final JsonPointer scope;
+
+    PendingMethod(String name, Object json, JsonPointer scope) {
+      this.name = name;
+      this.json = json;
+      this.scope = scope;
+    }
+  }
+
+}
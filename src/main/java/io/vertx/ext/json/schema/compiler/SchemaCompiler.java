@@ -0,0 +1,77 @@
+package io.vertx.ext.json.schema.compiler;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.SchemaParser;
+import io.vertx.ext.json.schema.generic.BaseSchemaParser;
+import io.vertx.ext.json.schema.generic.SchemaImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles parsed schemas to dedicated java classes, removing the dispatch between validators and schemas. <br/>
+ * The compiler generates the source of a {@link CompiledSchema} from the parsed schema and compiles it at runtime with
+ * the system java compiler. Nodes consumed by custom validator factories and refs not solved yet are delegated to the
+ * interpreted schema, so it's better to compile schemas returned by {@link SchemaParser#parseAndLink(Object, io.vertx.ext.json.pointer.JsonPointer)}.
+ * When the system java compiler is not available (e.g. running on a JRE) or compilation fails, the interpreted schema is returned
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class SchemaCompiler {
+
+  private static final Logger log = LoggerFactory.getLogger(SchemaCompiler.class);
+  private static final AtomicInteger GENERATED_CLASSES = new AtomicInteger();
+
+  private final BaseSchemaParser parser;
+
+  private SchemaCompiler(BaseSchemaParser parser) {
+    this.parser = parser;
+  }
+
+  /**
+   * Returns true if the system java compiler is available
+   *
+   * @return
+   */
+  public static boolean isAvailable() {
+    return InMemoryJavaCompiler.isAvailable();
+  }
+
+  /**
+   * Create a new compiler for schemas parsed by the provided parser
+   *
+   * @param parser
+   * @return
+   */
+  public static SchemaCompiler create(SchemaParser parser) {
+    if (!(parser instanceof BaseSchemaParser))
+      throw new IllegalArgumentException("SchemaCompiler supports only parsers extending BaseSchemaParser");
+    return new SchemaCompiler((BaseSchemaParser) parser);
+  }
+
+  /**
+   * Compile the provided schema. If the schema can't be compiled, the provided schema is returned
+   *
+   * @param schema schema parsed by the parser of this compiler
+   * @return the compiled schema or the provided one
+   */
+  public Schema compile(Schema schema) {
+    if (!(schema instanceof SchemaImpl) || !isAvailable()) return schema;
+    String className = CompiledSchema.class.getPackage().getName() + ".GeneratedSchema" + GENERATED_CLASSES.incrementAndGet();
+    try {
+      SchemaCodeGenerator generator = new SchemaCodeGenerator(parser, className);
+      String source = generator.generate((SchemaImpl) schema);
+      if (log.isDebugEnabled()) log.debug("Generated {} for schema {}:\n{}", className, schema.getScope(), source);
+      Class<?> generated = InMemoryJavaCompiler.compile(className, source);
+      return (Schema) generated
+          .getConstructor(Schema.class, List.class, Object[].class)
+          .newInstance(schema, generator.getFallbacks(), generator.getConstants());
+    } catch (Exception e) {
+      log.warn("Cannot compile schema " + schema.getScope() + ", using the interpreted one", e);
+      return schema;
+    }
+  }
+
+}
@@ -6,6 +6,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
+import io.vertx.ext.json.schema.generic.JsonSchemaType;
 import io.vertx.ext.json.schema.generic.FutureUtils;
 
 import java.util.stream.Collectors;
@@ -36,6 +37,33 @@ public class ContainsValidatorFactory implements ValidatorFactory {
 
     public ContainsValidator(Schema schema) { this.schema = schema; }
 
+    @Override
+    public JsonSchemaType getApplicableType() {
+      return JsonSchemaType.ARRAY;
+    }
+
+    @Override
+    public boolean isSync() {
+      return schema.isSync();
+    }
+
+    @Override
+    public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+      if (in instanceof JsonArray) {
+        ValidationException cause = null;
+        for (Object v : (JsonArray) in) {
+          try {
+            schema.validateSync(v);
+            return;
+          } catch (ValidationException e) {
+            cause = e;
+          }
+        }
+        if (cause == null) throw ValidationErrorType.NO_MATCH.createException("provided array should not be empty", "contains", in);
+        else throw ValidationErrorType.NO_MATCH.createException("provided array doesn't contain an element matching the contains schema", cause, "contains", in);
+      }
+    }
+
     @Override
     public Future<Void> validate(Object in) {
       if (in instanceof JsonArray){
@@ -21,9 +21,7 @@ public class Draft7SchemaParser extends BaseSchemaParser {
   @Override
   protected List<ValidatorFactory> initValidatorFactories() {
     List<ValidatorFactory> factories = new ArrayList<>();
-    factories.add(new FormatValidatorFactory());
-    factories.add(new MaximumValidatorFactory());
-    factories.add(new MinimumValidatorFactory());
+    factories.add(new StringValidatorFactory(new FormatValidatorFactory()));
     factories.add(new ContainsValidatorFactory());
     factories.add(new ConstValidatorFactory());
     factories.add(new TypeValidatorFactory());
@@ -32,24 +30,14 @@ public class Draft7SchemaParser extends BaseSchemaParser {
     factories.add(new EnumValidatorFactory());
     factories.add(new ItemsValidatorFactory());
     factories.add(new MaxItemsValidatorFactory());
-    factories.add(new MaxLengthValidatorFactory());
-    factories.add(new MaxPropertiesValidatorFactory());
     factories.add(new MinItemsValidatorFactory());
-    factories.add(new MinLengthValidatorFactory());
-    factories.add(new MinPropertiesValidatorFactory());
-    factories.add(new MultipleOfValidatorFactory());
     factories.add(new NotValidatorFactory());
     factories.add(new OneOfValidatorFactory());
-    factories.add(new PatternValidatorFactory());
-    factories.add(new PropertiesValidatorFactory());
-    factories.add(new RequiredValidatorFactory());
+    factories.add(new ObjectValidatorFactory());
     factories.add(new UniqueItemsValidatorFactory());
     factories.add(new DefinitionsValidatorFactory());
-    factories.add(new DependenciesValidatorFactory());
-    factories.add(new ExclusiveMaximumValidatorFactory());
-    factories.add(new ExclusiveMinimumValidatorFactory());
+    factories.add(new NumericValidatorFactory());
     factories.add(new IfThenElseValidatorFactory());
-    factories.add(new PropertyNamesValidatorFactory());
     return factories;
   }
 
@@ -1,30 +0,0 @@
-package io.vertx.ext.json.schema.draft7;
-
-import io.vertx.core.json.JsonObject;
-import io.vertx.ext.json.pointer.JsonPointer;
-import io.vertx.ext.json.schema.SchemaErrorType;
-import io.vertx.ext.json.schema.SchemaParser;
-import io.vertx.ext.json.schema.Validator;
-import io.vertx.ext.json.schema.ValidatorFactory;
-import io.vertx.ext.json.schema.generic.ExclusiveMaximumValidator;
-
-public class ExclusiveMaximumValidatorFactory implements ValidatorFactory {
-
-  @Override
-  public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
-    try {
-      Number maximum = (Number) schema.getValue("exclusiveMaximum");
-      return new ExclusiveMaximumValidator(maximum.doubleValue());
-    } catch (ClassCastException e) {
-      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for exclusiveMaximum keyword");
-    } catch (NullPointerException e) {
-      throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null exclusiveMaximum keyword");
-    }
-  }
-
-  @Override
-  public boolean canConsumeSchema(JsonObject schema) {
-    return schema.containsKey("exclusiveMaximum");
-  }
-
-}
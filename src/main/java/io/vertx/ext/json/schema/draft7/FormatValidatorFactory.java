@@ -12,13 +12,13 @@ public class FormatValidatorFactory extends BaseFormatValidatorFactory {
   @Override
   public Map<String, Predicate<String>> initFormatsMap() {
     Map<String, Predicate<String>> predicates = new HashMap<>();
-    predicates.put("byte", createPredicateFromPattern(RegularExpressions.BASE64));
-    predicates.put("date", createPredicateFromPattern(RegularExpressions.DATE));
-    predicates.put("date-time", createPredicateFromPattern(RegularExpressions.DATETIME));
-    predicates.put("ipv4", createPredicateFromPattern(RegularExpressions.IPV4));
-    predicates.put("ipv6", createPredicateFromPattern(RegularExpressions.IPV6));
-    predicates.put("hostname", createPredicateFromPattern(RegularExpressions.HOSTNAME));
-    predicates.put("email", createPredicateFromPattern(RegularExpressions.EMAIL));
+    predicates.put("byte", BYTE_VALIDATOR);
+    predicates.put("date", DATE_VALIDATOR);
+    predicates.put("date-time", DATE_TIME_VALIDATOR);
+    predicates.put("ipv4", IPV4_VALIDATOR);
+    predicates.put("ipv6", IPV6_VALIDATOR);
+    predicates.put("hostname", HOSTNAME_VALIDATOR);
+    predicates.put("email", EMAIL_VALIDATOR);
     predicates.put("uri", URI_VALIDATOR);
     predicates.put("uri-reference", URI_REFERENCE_VALIDATOR);
     predicates.put("regex", REGEX_VALIDATOR);
@@ -15,9 +15,9 @@ public class IfThenElseValidatorFactory implements ValidatorFactory {
       Object conditionSchemaUnparsed = schema.getValue("if");
       Schema conditionSchema = parser.parse((conditionSchemaUnparsed instanceof Map) ? new JsonObject((Map<String, Object>) conditionSchemaUnparsed) : conditionSchemaUnparsed, scope.copy().append("if"));
       Object thenSchemaUnparsed = schema.getValue("then");
-      Schema thenSchema = (thenSchemaUnparsed == null) ? null : parser.parse((thenSchemaUnparsed instanceof Map) ? new JsonObject((Map<String, Object>) thenSchemaUnparsed) : thenSchemaUnparsed, scope.copy().append("if"));
+      Schema thenSchema = (thenSchemaUnparsed == null) ? null : parser.parse((thenSchemaUnparsed instanceof Map) ? new JsonObject((Map<String, Object>) thenSchemaUnparsed) : thenSchemaUnparsed, scope.copy().append("then"));
       Object elseSchemaUnparsed = schema.getValue("else");
-      Schema elseSchema = (elseSchemaUnparsed == null) ? null : parser.parse((elseSchemaUnparsed instanceof Map) ? new JsonObject((Map<String, Object>) elseSchemaUnparsed) : elseSchemaUnparsed, scope.copy().append("if"));
+      Schema elseSchema = (elseSchemaUnparsed == null) ? null : parser.parse((elseSchemaUnparsed instanceof Map) ? new JsonObject((Map<String, Object>) elseSchemaUnparsed) : elseSchemaUnparsed, scope.copy().append("else"));
       return new IfThenElseValidator(conditionSchema, thenSchema, elseSchema);
     } catch (ClassCastException e) {
       throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for if/then/else keyword");
@@ -43,6 +43,45 @@ public class IfThenElseValidatorFactory implements ValidatorFactory {
       this.elseBranch = elseBranch;
     }
 
+    @Override
+    public boolean isSync() {
+      return condition.isSync() &&
+          (thenBranch == null || thenBranch.isSync()) &&
+          (elseBranch == null || elseBranch.isSync());
+    }
+
+    @Override
+    public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+      boolean conditionResult;
+      try {
+        condition.validateSync(in);
+        conditionResult = true;
+      } catch (ValidationException e) {
+        conditionResult = false;
+      }
+      if (conditionResult) {
+        if (thenBranch != null) thenBranch.validateSync(in);
+      } else {
+        if (elseBranch != null) elseBranch.validateSync(in);
+      }
+    }
+
+    @Override
+    public void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+      boolean conditionResult;
+      try {
+        condition.validateSync(in);
+        conditionResult = true;
+      } catch (ValidationException e) {
+        conditionResult = false;
+      }
+      if (conditionResult) {
+        if (thenBranch != null) thenBranch.collectErrors(in, inputLocation, collector);
+      } else {
+        if (elseBranch != null) elseBranch.collectErrors(in, inputLocation, collector);
+      }
+    }
+
     @Override
     public Future<Void> validate(Object in) {
       return FutureUtils.andThen(
@@ -6,9 +6,12 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
+import io.vertx.ext.json.schema.generic.JsonSchemaType;
+import io.vertx.ext.json.schema.generic.ParallelItemsValidation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 public class ItemsValidatorFactory extends io.vertx.ext.json.schema.generic.ItemsValidatorFactory {
 
@@ -24,9 +27,9 @@ public class ItemsValidatorFactory extends io.vertx.ext.json.schema.generic.Item
           parsedSchemas.add(i, parser.parse(itemsList.getValue(i), baseScope.copy().append(Integer.toString(i))));
         }
         if (schema.containsKey("additionalItems"))
-          return new ItemByItemValidator(parsedSchemas.toArray(new Schema[parsedSchemas.size()]), parser.parse(schema.getValue("additionalItems"), scope.copy().append("additionalItems")));
+          return new ItemByItemValidator(parsedSchemas.toArray(new Schema[parsedSchemas.size()]), parser.parse(schema.getValue("additionalItems"), scope.copy().append("additionalItems")), parallelItemsThreshold(parser), parallelItemsExecutor(parser));
         else
-          return new ItemByItemValidator(parsedSchemas.toArray(new Schema[parsedSchemas.size()]), null);
+          return new ItemByItemValidator(parsedSchemas.toArray(new Schema[parsedSchemas.size()]), null, parallelItemsThreshold(parser), parallelItemsExecutor(parser));
       } catch (NullPointerException e) {
         throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null items keyword");
       }
@@ -39,17 +42,71 @@ public class ItemsValidatorFactory extends io.vertx.ext.json.schema.generic.Item
 
     final Schema[] schemas;
     final Schema additionalItems;
+    final int parallelThreshold;
+    final Executor parallelExecutor;
 
-    public ItemByItemValidator(Schema[] schemas, Schema additionalItems) {
+    public ItemByItemValidator(Schema[] schemas, Schema additionalItems, int parallelThreshold, Executor parallelExecutor) {
       this.schemas = schemas;
       this.additionalItems = additionalItems;
+      this.parallelThreshold = parallelThreshold;
+      this.parallelExecutor = parallelExecutor;
+    }
+
+    private boolean isParallel(JsonArray arr) {
+      return parallelThreshold > 0 && additionalItems != null && arr.size() >= parallelThreshold;
+    }
+
+    @Override
+    public JsonSchemaType getApplicableType() {
+      return JsonSchemaType.ARRAY;
+    }
+
+    @Override
+    public boolean isSync() {
+      for (Schema s : schemas) if (!s.isSync()) return false;
+      return additionalItems == null || additionalItems.isSync();
+    }
+
+    @Override
+    public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+      if (in instanceof JsonArray) {
+        JsonArray arr = (JsonArray) in;
+        if (isParallel(arr)) {
+          ParallelItemsValidation.validateSync(arr, i -> i < schemas.length ? schemas[i] : additionalItems, parallelExecutor);
+          return;
+        }
+        for (int i = 0; i < arr.size(); i++) {
+          if (i >= schemas.length) {
+            if (additionalItems != null)
+              additionalItems.validateSync(arr.getValue(i));
+            else return;
+          } else schemas[i].validateSync(arr.getValue(i));
+        }
+      }
+    }
+
+    @Override
+    public void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+      if (in instanceof JsonArray) {
+        JsonArray arr = (JsonArray) in;
+        for (int i = 0; i < arr.size(); i++) {
+          JsonPointer itemLocation = inputLocation.copy().append(Integer.toString(i));
+          if (i >= schemas.length) {
+            if (additionalItems != null)
+              additionalItems.collectErrors(arr.getValue(i), itemLocation, collector);
+            else return;
+          } else schemas[i].collectErrors(arr.getValue(i), itemLocation, collector);
+        }
+      }
     }
 
     @Override
     public Future<Void> validate(Object in) {
       if (in instanceof JsonArray) {
-        List<Future> futures = new ArrayList<>();
         JsonArray arr = (JsonArray) in;
+        if (isParallel(arr) && isSync())
+          return ParallelItemsValidation.validate(arr, i -> i < schemas.length ? schemas[i] : additionalItems, parallelExecutor);
+        List<Future> futures = new ArrayList<>();
         for (int i = 0; i < arr.size(); i++) {
           Future<Void> fut;
           if (i >= schemas.length) {
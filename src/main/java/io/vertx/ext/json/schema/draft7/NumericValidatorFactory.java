@@ -0,0 +1,33 @@
+package io.vertx.ext.json.schema.draft7;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.generic.BaseNumericValidatorFactory;
+import io.vertx.ext.json.schema.generic.NumericValidator;
+
+public class NumericValidatorFactory extends BaseNumericValidatorFactory {
+
+  @Override
+  protected NumericValidator createNumericValidator(JsonObject schema, Number multipleOf) {
+    Number minimum = (Number) schema.getValue("minimum");
+    Number exclusiveMinimum = (Number) schema.getValue("exclusiveMinimum");
+    Number maximum = (Number) schema.getValue("maximum");
+    Number exclusiveMaximum = (Number) schema.getValue("exclusiveMaximum");
+    // When both are present, the most restrictive bound wins
+    boolean useExclusiveMinimum = exclusiveMinimum != null &&
+        (minimum == null || NumericValidator.compare(exclusiveMinimum, minimum) >= 0);
+    boolean useExclusiveMaximum = exclusiveMaximum != null &&
+        (maximum == null || NumericValidator.compare(exclusiveMaximum, maximum) <= 0);
+    return new NumericValidator(
+        useExclusiveMinimum ? exclusiveMinimum : minimum, useExclusiveMinimum ? "exclusiveMinimum" : "minimum", useExclusiveMinimum,
+        useExclusiveMaximum ? exclusiveMaximum : maximum, useExclusiveMaximum ? "exclusiveMaximum" : "maximum", useExclusiveMaximum,
+        multipleOf
+    );
+  }
+
+  @Override
+  public boolean canConsumeSchema(JsonObject schema) {
+    return schema.containsKey("minimum") || schema.containsKey("maximum") || schema.containsKey("exclusiveMinimum") ||
+        schema.containsKey("exclusiveMaximum") || schema.containsKey("multipleOf");
+  }
+
+}
@@ -0,0 +1,63 @@
+package io.vertx.ext.json.schema.draft7;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.SchemaErrorType;
+import io.vertx.ext.json.schema.SchemaParser;
+import io.vertx.ext.json.schema.generic.BaseObjectValidatorFactory;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Object keywords of json schema draft 7, including dependencies and propertyNames
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class ObjectValidatorFactory extends BaseObjectValidatorFactory {
+
+  @Override
+  protected void parseDependencies(JsonObject schema, JsonPointer scope, SchemaParser parser,
+                                   Map<String, Set<String>> keyDependencies, Map<String, Schema> schemaDependencies) {
+    if (!schema.containsKey("dependencies")) return;
+    try {
+      JsonObject dependencies = schema.getJsonObject("dependencies");
+      JsonPointer baseScope = scope.copy().append("dependencies");
+      for (Map.Entry<String, Object> entry : dependencies) {
+        if (entry.getValue() instanceof JsonObject || entry.getValue() instanceof Boolean) {
+          schemaDependencies.put(entry.getKey(), parser.parse(entry.getValue(), baseScope.copy().append(entry.getKey())));
+        } else {
+          JsonArray deps = (JsonArray) entry.getValue();
+          if (deps.isEmpty()) continue;
+          Set<String> keys = new LinkedHashSet<>();
+          for (Object d : deps) keys.add((String) d);
+          keyDependencies.put(entry.getKey(), keys);
+        }
+      }
+    } catch (ClassCastException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for dependencies keyword");
+    } catch (NullPointerException e) {
+      throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null dependencies keyword");
+    }
+  }
+
+  @Override
+  protected Schema parsePropertyNames(JsonObject schema, JsonPointer scope, SchemaParser parser) {
+    if (!schema.containsKey("propertyNames")) return null;
+    try {
+      return parser.parse(schema.getValue("propertyNames"), scope.copy().append("propertyNames"));
+    } catch (ClassCastException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for propertyNames keyword");
+    } catch (NullPointerException e) {
+      throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null propertyNames keyword");
+    }
+  }
+
+  @Override
+  public boolean canConsumeSchema(JsonObject schema) {
+    return super.canConsumeSchema(schema) || schema.containsKey("dependencies") || schema.containsKey("propertyNames");
+  }
+}
@@ -7,11 +7,15 @@ import io.vertx.ext.json.schema.*;
 import io.vertx.ext.json.schema.generic.JsonSchemaType;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TypeValidatorFactory implements ValidatorFactory {
 
+  // Type validators are stateless, so one instance per set of types is shared by all schemas
+  private final Map<List<JsonSchemaType>, TypeValidator> validators = new ConcurrentHashMap<>();
+
   @Override
   public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
     try {
@@ -23,9 +27,11 @@ public class TypeValidatorFactory implements ValidatorFactory {
         JsonArray types = (JsonArray) type;
         for (Object t : types) allowedTypes.add(parseType((String)t, format, schema));
       }
-      boolean allowNull = allowedTypes.contains(JsonSchemaType.NULL);
-      if (allowNull) allowedTypes.remove(JsonSchemaType.NULL);
-      return new TypeValidator(allowedTypes.toArray(new JsonSchemaType[allowedTypes.size()]), allowNull);
+      return validators.computeIfAbsent(allowedTypes, types -> {
+        boolean allowNull = types.contains(JsonSchemaType.NULL);
+        JsonSchemaType[] notNullTypes = types.stream().filter(t -> t != JsonSchemaType.NULL).toArray(JsonSchemaType[]::new);
+        return new TypeValidator(notNullTypes, allowNull);
+      });
     } catch (NullPointerException e) {
       throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null type keyword");
     } catch (ClassCastException e) {
@@ -74,12 +80,17 @@ public class TypeValidatorFactory implements ValidatorFactory {
       return ValidatorPriority.MAX_PRIORITY;
     }
 
+    @Override
+    public int getCost() {
+      return 1;
+    }
+
     @Override
     public void validate(Object value) throws ValidationException {
       if (value != null) {
         for (JsonSchemaType type : types) if (type.checkInstance(value)) return;
-        throw ValidationErrorType.NO_MATCH.createException("input don't match any of types " + Arrays.deepToString(types), "type", value);
-      } else if (!nullIsValid) throw ValidationErrorType.NO_MATCH.createException("input don't match any of types " + Arrays.deepToString(types), "type", value);
+        throw ValidationErrorType.NO_MATCH.createLazyException("input don't match any of types ", types, "type", value);
+      } else if (!nullIsValid) throw ValidationErrorType.NO_MATCH.createLazyException("input don't match any of types ", types, "type", value);
     }
   }
 }
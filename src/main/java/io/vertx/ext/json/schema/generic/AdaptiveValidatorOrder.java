@@ -0,0 +1,72 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.ext.json.schema.Validator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Validators order that adapts to the failures observed at runtime. Every {@link #REORDER_INTERVAL} validations
+ * the validators with same priority are sorted by cost / failure probability, so validators that reject more inputs
+ * with less work run first. Counters are not synchronized: lost updates only make the estimate a little less precise
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+final class AdaptiveValidatorOrder {
+
+  static final int REORDER_INTERVAL = 1024;
+
+  final Validator[] validators;
+  private final int[] failures;
+  private int validations;
+
+  AdaptiveValidatorOrder(Validator[] validators) {
+    this(validators, new int[validators.length]);
+  }
+
+  private AdaptiveValidatorOrder(Validator[] validators, int[] failures) {
+    this.validators = validators;
+    this.failures = failures;
+  }
+
+  void recordFailure(int index) {
+    failures[index]++;
+  }
+
+  /**
+   * Count a validation and returns true when it's time to call {@link #reorder()}
+   *
+   * @return
+   */
+  boolean recordValidation() {
+    return ++validations % REORDER_INTERVAL == 0;
+  }
+
+  /**
+   * Returns a new order based on the failures observed. Counters are halved to follow changes of the input distribution
+   *
+   * @return
+   */
+  AdaptiveValidatorOrder reorder() {
+    int n = validators.length;
+    Integer[] indexes = new Integer[n];
+    double[] scores = new double[n];
+    for (int i = 0; i < n; i++) {
+      indexes[i] = i;
+      // Expected cost to reject an input, with Laplace smoothing of the failure probability
+      double failureProbability = (failures[i] + 1d) / (REORDER_INTERVAL + 2d);
+      scores[i] = validators[i].getCost() / failureProbability;
+    }
+    Arrays.sort(indexes, Comparator
+        .<Integer, Integer>comparing(i -> validators[i].getPriority().getPriority())
+        .thenComparingDouble(i -> scores[i])
+    );
+    Validator[] sortedValidators = new Validator[n];
+    int[] sortedFailures = new int[n];
+    for (int i = 0; i < n; i++) {
+      sortedValidators[i] = validators[indexes[i]];
+      sortedFailures[i] = failures[indexes[i]] / 2;
+    }
+    return new AdaptiveValidatorOrder(sortedValidators, sortedFailures);
+  }
+}
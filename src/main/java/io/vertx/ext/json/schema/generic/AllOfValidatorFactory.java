@@ -48,6 +48,33 @@ public class AllOfValidatorFactory implements ValidatorFactory {
       this.schemas = schemas.toArray(new Schema[schemas.size()]);
     }
 
+    @Override
+    public int getCost() {
+      return 100 * schemas.length;
+    }
+
+    @Override
+    public boolean isSync() {
+      for (Schema s : schemas) if (!s.isSync()) return false;
+      return true;
+    }
+
+    @Override
+    public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+      for (Schema s : schemas) {
+        try {
+          s.validateSync(in);
+        } catch (ValidationException e) {
+          throw NO_MATCH.createException("allOf subschema don't match", e, "allOf", in);
+        }
+      }
+    }
+
+    @Override
+    public void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+      for (Schema s : schemas) s.collectErrors(in, inputLocation, collector);
+    }
+
     @Override
     public Future<Void> validate(Object in) {
       return FutureUtils.andThen(
@@ -12,6 +12,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
+
 public class AnyOfValidatorFactory implements ValidatorFactory {
 
   @Override
@@ -46,6 +48,31 @@ public class AnyOfValidatorFactory implements ValidatorFactory {
       this.schemas = schemas.toArray(new Schema[schemas.size()]);
     }
 
+    @Override
+    public int getCost() {
+      return 100 * schemas.length;
+    }
+
+    @Override
+    public boolean isSync() {
+      for (Schema s : schemas) if (!s.isSync()) return false;
+      return true;
+    }
+
+    @Override
+    public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+      ValidationException cause = null;
+      for (Schema s : schemas) {
+        try {
+          s.validateSync(in);
+          return;
+        } catch (ValidationException e) {
+          cause = e;
+        }
+      }
+      throw NO_MATCH.createException("anyOf subschemas don't match", cause, "anyOf", in);
+    }
+
     @Override
     public Future<Void> validate(Object in) {
       return CompositeFuture.any(
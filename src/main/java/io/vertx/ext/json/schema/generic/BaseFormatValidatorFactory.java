@@ -4,7 +4,6 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
 
-import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -14,24 +13,35 @@ import java.util.regex.PatternSyntaxException;
 
 import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
 
+/**
+ * Table of the string formats supported by a json schema version. The parsers don't register it as a validator
+ * factory: {@link StringValidatorFactory} looks up the format predicates with {@link #getFormatPredicate(JsonObject)}
+ * and validates format together with the other string keywords, while
+ * {@link io.vertx.ext.json.schema.SchemaParserOptions#putAdditionalStringFormatValidator(String, Predicate)} adds
+ * formats to it. It's still a {@link ValidatorFactory}, validating only format, when added to the parser as an
+ * additional validator factory
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
 public abstract class BaseFormatValidatorFactory implements ValidatorFactory {
 
-  protected final static Predicate<String> URI_VALIDATOR = in -> {
-    try {
-      return URI.create(in).isAbsolute();
-    } catch (IllegalArgumentException e) {
-      return false;
-    }
-  };
+  protected final static Predicate<String> URI_VALIDATOR = Formats::isUri;
 
-  protected final static Predicate<String> URI_REFERENCE_VALIDATOR = in -> {
-    try {
-      URI.create(in);
-      return true;
-    } catch (IllegalArgumentException e) {
-      return false;
-    }
-  };
+  protected final static Predicate<String> URI_REFERENCE_VALIDATOR = Formats::isUriReference;
+
+  protected final static Predicate<String> DATE_VALIDATOR = Formats::isDate;
+
+  protected final static Predicate<String> DATE_TIME_VALIDATOR = Formats::isDateTime;
+
+  protected final static Predicate<String> EMAIL_VALIDATOR = Formats::isEmail;
+
+  protected final static Predicate<String> IPV4_VALIDATOR = Formats::isIpv4;
+
+  protected final static Predicate<String> IPV6_VALIDATOR = Formats::isIpv6;
+
+  protected final static Predicate<String> HOSTNAME_VALIDATOR = Formats::isHostname;
+
+  protected final static Predicate<String> BYTE_VALIDATOR = Formats::isBase64;
 
   protected final static Predicate<String> REGEX_VALIDATOR = in -> {
     try {
@@ -48,17 +58,29 @@ return true;
 
   class FormatValidator implements SyncValidator {
 
+    String format;
     Predicate<String> validator;
 
-    public FormatValidator(Predicate<String> validator) {
+    public FormatValidator(String format, Predicate<String> validator) {
+      this.format = format;
       this.validator = validator;
     }
 
+    @Override
+    public JsonSchemaType getApplicableType() {
+      return JsonSchemaType.STRING;
+    }
+
+    @Override
+    public int getCost() {
+      return 20;
+    }
+
     @Override
     public void validate(Object value) throws ValidationException {
       if (value instanceof String) {
         if (!validator.test((String) value)) {
-          throw NO_MATCH.createException("Provided value don't match pattern", "pattern", value);
+          throw NO_MATCH.createLazyException("provided string should respect format ", format, "format", value);
         }
       }
     }
@@ -91,17 +113,28 @@ return true;
     return (in) -> pattern.matcher(in).matches();
   }
 
-  @Override
-  public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
+  /**
+   * Returns the predicate that checks the format of the provided schema, or null if the format is ignored
+   *
+   * @param schema
+   * @return
+   */
+  public Predicate<String> getFormatPredicate(JsonObject schema) {
     String format = schema.getString("format");
     if (ignoringFormats.contains(format)) return null;
     else {
       Predicate<String> v = formats.get(format);
       if (v == null) throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Format not supported");
-      else return new FormatValidator(v);
+      else return v;
     }
   }
 
+  @Override
+  public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
+    Predicate<String> v = getFormatPredicate(schema);
+    return v != null ? new FormatValidator(schema.getString("format"), v) : null;
+  }
+
   @Override
   public boolean canConsumeSchema(JsonObject schema) {
     return schema.containsKey("format");
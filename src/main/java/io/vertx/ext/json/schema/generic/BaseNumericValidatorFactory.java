@@ -0,0 +1,35 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+
+/**
+ * Creates a single {@link NumericValidator} for all the numeric keywords of a schema
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public abstract class BaseNumericValidatorFactory implements ValidatorFactory {
+
+  @Override
+  public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
+    try {
+      Number multipleOf = (Number) schema.getValue("multipleOf");
+      if (multipleOf != null && NumericValidator.toDecimal(multipleOf).signum() <= 0)
+        throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "multipleOf must be greater than 0");
+      return createNumericValidator(schema, multipleOf);
+    } catch (ClassCastException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for numeric keywords");
+    }
+  }
+
+  /**
+   * Create the validator for minimum and maximum keywords of this json schema version
+   *
+   * @param schema
+   * @param multipleOf
+   * @return
+   */
+  protected abstract NumericValidator createNumericValidator(JsonObject schema, Number multipleOf);
+
+}
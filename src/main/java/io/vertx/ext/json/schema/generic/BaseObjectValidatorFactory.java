@@ -0,0 +1,167 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates a single {@link ObjectValidator} for all the object keywords of a schema. This class handles properties,
+ * patternProperties, additionalProperties, required, minProperties and maxProperties, while subclasses can parse the
+ * keywords specific of their json schema version
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public abstract class BaseObjectValidatorFactory implements ValidatorFactory {
+
+  // Validators without subschemas are stateless, so one instance per configuration is shared by all schemas. Like the
+  // shared validators of the parser, at most MAX_SHARED_VALIDATORS configurations are kept for the life of the parser
+  private final Map<List<Object>, ObjectValidator> sharedValidators = new ConcurrentHashMap<>();
+
+  @Override
+  public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
+    int minProperties = sizeKeyword(schema, "minProperties", 0);
+    int maxProperties = sizeKeyword(schema, "maxProperties", Integer.MAX_VALUE);
+    List<String> required = parseRequired(schema);
+    Map<String, Schema> properties;
+    Map<RegexEngine.Regex, Schema> patternProperties;
+    Object additionalProperties;
+    try {
+      JsonObject propertiesJson = schema.getJsonObject("properties");
+      JsonObject patternPropertiesJson = schema.getJsonObject("patternProperties");
+      additionalProperties = schema.getValue("additionalProperties");
+      properties = propertiesJson != null ? parseProperties(propertiesJson, scope, parser) : Collections.emptyMap();
+      patternProperties = patternPropertiesJson != null ? parsePatternProperties(patternPropertiesJson, scope, parser) : Collections.emptyMap();
+    } catch (ClassCastException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for properties/patternProperties keyword");
+    }
+    Schema additionalPropertiesSchema = additionalProperties instanceof JsonObject ?
+        parser.parse(additionalProperties, scope.copy().append("additionalProperties")) : null;
+    boolean allowAdditionalProperties = !Boolean.FALSE.equals(additionalProperties);
+
+    Map<String, Set<String>> keyDependencies = new HashMap<>();
+    Map<String, Schema> schemaDependencies = new HashMap<>();
+    parseDependencies(schema, scope, parser, keyDependencies, schemaDependencies);
+    Schema propertyNames = parsePropertyNames(schema, scope, parser);
+
+    if (properties.isEmpty() && patternProperties.isEmpty() && additionalPropertiesSchema == null &&
+        schemaDependencies.isEmpty() && propertyNames == null) {
+      List<Object> key = Arrays.asList(minProperties, maxProperties, required, allowAdditionalProperties, keyDependencies);
+      ObjectValidator shared = sharedValidators.get(key);
+      if (shared != null) return shared;
+      ObjectValidator validator = new ObjectValidator(
+          minProperties, maxProperties, required, properties, patternProperties, allowAdditionalProperties, null,
+          keyDependencies, schemaDependencies, null, StringPredicateCache.DISABLED
+      );
+      if (sharedValidators.size() >= BaseSchemaParser.MAX_SHARED_VALIDATORS) return validator;
+      shared = sharedValidators.putIfAbsent(key, validator);
+      return shared != null ? shared : validator;
+    }
+    return new ObjectValidator(
+        minProperties, maxProperties, required, properties, patternProperties, allowAdditionalProperties,
+        additionalPropertiesSchema, keyDependencies, schemaDependencies, propertyNames,
+        BaseSchemaParser.stringPredicateCache(parser)
+    );
+  }
+
+  /**
+   * Parse the dependencies keyword, if supported by this json schema version
+   *
+   * @param schema
+   * @param scope
+   * @param parser
+   * @param keyDependencies    filled with property dependencies
+   * @param schemaDependencies filled with schema dependencies
+   */
+  protected void parseDependencies(JsonObject schema, JsonPointer scope, SchemaParser parser,
+                                   Map<String, Set<String>> keyDependencies, Map<String, Schema> schemaDependencies) { }
+
+  /**
+   * Parse the propertyNames keyword, if supported by this json schema version
+   *
+   * @param schema
+   * @param scope
+   * @param parser
+   * @return the property names schema, or null if not present
+   */
+  protected Schema parsePropertyNames(JsonObject schema, JsonPointer scope, SchemaParser parser) {
+    return null;
+  }
+
+  @Override
+  public boolean canConsumeSchema(JsonObject schema) {
+    return schema.containsKey("properties") || schema.containsKey("patternProperties") ||
+        schema.containsKey("additionalProperties") || schema.containsKey("required") ||
+        schema.containsKey("minProperties") || schema.containsKey("maxProperties");
+  }
+
+  private int sizeKeyword(JsonObject schema, String keyword, int defaultValue) {
+    if (!schema.containsKey(keyword)) return defaultValue;
+    try {
+      Number n = (Number) schema.getValue(keyword);
+      if (n.intValue() < 0)
+        throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, keyword + " must be >= 0");
+      return n.intValue();
+    } catch (ClassCastException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for " + keyword + " keyword");
+    } catch (NullPointerException e) {
+      throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null " + keyword + " keyword");
+    }
+  }
+
+  private List<String> parseRequired(JsonObject schema) {
+    if (!schema.containsKey("required")) return Collections.emptyList();
+    try {
+      List<String> required = new ArrayList<>();
+      for (Object k : (JsonArray) schema.getValue("required")) required.add((String) k);
+      return required;
+    } catch (ClassCastException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for required keyword");
+    } catch (NullPointerException e) {
+      throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null required keyword");
+    }
+  }
+
+  private Map<String, Schema> parseProperties(JsonObject obj, JsonPointer scope, SchemaParser parser) {
+    JsonPointer basePointer = scope.copy().append("properties");
+    Map<String, Schema> parsedSchemas = new HashMap<>();
+    for (Map.Entry<String, Object> entry : obj) {
+      try {
+        parsedSchemas.put(entry.getKey(), parser.parse(
+            entry.getValue(),
+            basePointer.copy().append(entry.getKey())
+        ));
+      } catch (ClassCastException | NullPointerException e) {
+        throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(obj, "Property descriptor " + entry.getKey() + " should be a not null JsonObject");
+      }
+    }
+    return parsedSchemas;
+  }
+
+  private Map<RegexEngine.Regex, Schema> parsePatternProperties(JsonObject obj, JsonPointer scope, SchemaParser parser) {
+    JsonPointer basePointer = scope.copy().append("patternProperties");
+    RegexEngine engine = BaseSchemaParser.regexEngine(parser);
+    Map<RegexEngine.Regex, Schema> parsedSchemas = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> entry : obj) {
+      try {
+        parsedSchemas.put(engine.compile(entry.getKey()), parser.parse(
+            entry.getValue(),
+            basePointer.copy().append(entry.getKey())
+        ));
+      } catch (ClassCastException | NullPointerException e) {
+        throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(obj, "Property descriptor " + entry.getKey() + " should be a not null JsonObject");
+      } catch (IllegalArgumentException e) {
+        throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(obj, "Invalid pattern for pattern keyword");
+      }
+    }
+    return parsedSchemas;
+  }
+
+
+  int sharedValidatorsSize() {
+    return sharedValidators.size();
+  }
+}
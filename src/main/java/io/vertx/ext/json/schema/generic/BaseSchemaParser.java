@@ -1,12 +1,14 @@
 package io.vertx.ext.json.schema.generic;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
@@ -14,16 +16,42 @@ import java.util.concurrent.ConcurrentSkipListSet;
  */
 public abstract class BaseSchemaParser implements SchemaParser {
 
-  protected final static Schema TRUE_SCHEMA = (in) -> Future.succeededFuture();
-  protected final static Schema FALSE_SCHEMA = (in) -> Future.failedFuture(ValidationErrorType.NO_MATCH.createException("False schema always fail validation", null, in));
+  protected final static Schema TRUE_SCHEMA = new TrueSchema();
+  protected final static Schema FALSE_SCHEMA = new FalseSchema();
+
+  // Keywords without subschemas whose validators don't depend on the scope
+  private final static Set<String> LEAF_KEYWORDS = new HashSet<>(Arrays.asList(
+      "type", "format", "nullable", "enum", "const", "minimum", "maximum", "exclusiveMinimum", "exclusiveMaximum",
+      "multipleOf", "minLength", "maxLength", "pattern", "minItems", "maxItems", "uniqueItems", "minProperties",
+      "maxProperties", "required"
+  ));
+  // Keywords that don't change the validation. Extensions (x-*) are ignored too
+  private final static Set<String> ANNOTATION_KEYWORDS = new HashSet<>(Arrays.asList(
+      "title", "description", "default", "example", "examples", "readOnly", "writeOnly", "deprecated", "$comment",
+      "xml", "externalDocs", "discriminator"
+  ));
+  // Keywords whose values are not schemas, skipped when looking for refs
+  private final static Set<String> NON_SCHEMA_KEYWORDS = new HashSet<>(Arrays.asList(
+      "enum", "const", "default", "example", "examples", "required"
+  ));
+  // Max number of distinct leaf schemas whose validators are retained for sharing
+  static final int MAX_SHARED_VALIDATORS = 1024;
 
   protected final SchemaParserOptions options;
   protected final List<ValidatorFactory> validatorFactories;
   protected final SchemaRouter router;
+  // Validators of leaf schemas, shared by all the leaf schemas with the same leaf keywords. The entries live as long
+  // as the parser and are at most MAX_SHARED_VALIDATORS, after that new leaf schemas are not shared anymore
+  private final Map<JsonObject, Validator[]> sharedValidators;
+  private final StringPredicateCache stringPredicateCache;
 
   protected BaseSchemaParser(SchemaParserOptions options, SchemaRouter router) {
     this.options = options;
     this.router = router;
+    this.sharedValidators = new ConcurrentHashMap<>();
+    this.stringPredicateCache = options.getStringPredicateCacheSize() > 0 ?
+        new StringPredicateCache(options.getStringPredicateCacheSize(), options.getStringPredicateCacheMaxLength()) :
+        StringPredicateCache.DISABLED;
     this.validatorFactories = initValidatorFactories();
     loadOptions();
   }
@@ -33,12 +61,58 @@ public abstract class BaseSchemaParser implements SchemaParser {
     return router;
   }
 
+  /**
+   * Returns the validator factories used by this parser, including the additional ones provided with {@link SchemaParserOptions}
+   *
+   * @return
+   */
+  public List<ValidatorFactory> getValidatorFactories() {
+    return validatorFactories;
+  }
+
+  public SchemaParserOptions getOptions() {
+    return options;
+  }
+
+  /**
+   * Returns the regex engine configured in the options of the parser, or {@link RegexEngine#JDK} if the parser
+   * doesn't extend {@link BaseSchemaParser}
+   *
+   * @param parser
+   * @return
+   */
+  static RegexEngine regexEngine(SchemaParser parser) {
+    return parser instanceof BaseSchemaParser ? ((BaseSchemaParser) parser).options.getRegexEngine() : RegexEngine.JDK;
+  }
+
+  /**
+   * Returns the cache that memoizes format, pattern and propertyNames checks of the schemas parsed by this parser
+   *
+   * @return
+   */
+  public StringPredicateCache getStringPredicateCache() {
+    return stringPredicateCache;
+  }
+
+  static StringPredicateCache stringPredicateCache(SchemaParser parser) {
+    return parser instanceof BaseSchemaParser ? ((BaseSchemaParser) parser).stringPredicateCache : StringPredicateCache.DISABLED;
+  }
+
   @Override
   public Schema parse(Object jsonSchema, JsonPointer scope) {
     if (!scope.getURIWithoutFragment().isAbsolute()) throw new IllegalArgumentException("The scope provided must be absolute!");
     if (jsonSchema instanceof Map) jsonSchema = new JsonObject((Map<String, Object>) jsonSchema);
     if (jsonSchema instanceof JsonObject) {
       JsonObject json = (JsonObject) jsonSchema;
+      JsonObject leafKey = leafKey(json);
+      Validator[] shared = leafKey != null ? sharedValidators.get(leafKey) : null;
+      if (shared != null) {
+        // Every location still gets its own schema, to report the right scope
+        SchemaImpl s = new SchemaImpl(json, scope, shared);
+        router.addSchema(s, scope);
+        if (options.isAdaptiveValidatorOrdering()) s.enableAdaptiveOrdering();
+        return s;
+      }
       ConcurrentSkipListSet<Validator> validators = new ConcurrentSkipListSet<>(ValidatorPriority.VALIDATOR_COMPARATOR);
 
       Schema s = createSchema(json, scope, validators);
@@ -50,6 +124,13 @@ public abstract class BaseSchemaParser implements SchemaParser {
           if (v != null) validators.add(v);
         }
       }
+      if (s instanceof SchemaImpl) {
+        ((SchemaImpl) s).freeze();
+        // The key is copied because the schema json could be modified after parsing
+        if (leafKey != null && sharedValidators.size() < MAX_SHARED_VALIDATORS)
+          sharedValidators.putIfAbsent(leafKey.copy(), ((SchemaImpl) s).getValidators());
+        if (options.isAdaptiveValidatorOrdering()) ((SchemaImpl) s).enableAdaptiveOrdering();
+      }
 
       return s;
     } else if (jsonSchema instanceof Boolean) {
@@ -60,6 +141,77 @@ public abstract class BaseSchemaParser implements SchemaParser {
       throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(jsonSchema, "Schema should be a JsonObject or a Boolean");
   }
 
+  @Override
+  public Future<Schema> parseAndLink(Object jsonSchema, JsonPointer scope) {
+    Schema s;
+    try {
+      s = this.parse(jsonSchema, scope);
+    } catch (SchemaException | IllegalArgumentException e) {
+      return Future.failedFuture(e);
+    }
+    Set<Schema> visited = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    return linkRefs(s, visited).map(s);
+  }
+
+  /**
+   * Solve in parallel the refs of the provided schema, then the refs of the referenced schemas, until no schema
+   * reachable from the provided one has unsolved refs. Refs already being solved by concurrent calls are awaited,
+   * not solved again
+   */
+  private Future<Void> linkRefs(Schema schema, Set<Schema> visited) {
+    if (!(schema instanceof SchemaImpl) || !visited.add(schema)) return Future.succeededFuture();
+    List<RefSchema> refs = new ArrayList<>();
+    collectRefs(((SchemaImpl) schema).getSchema(), schema.getScope(), refs);
+    if (refs.isEmpty()) return Future.succeededFuture();
+    List<Future> solving = new ArrayList<>(refs.size());
+    for (RefSchema ref : refs)
+      solving.add(ref.solve().compose(v -> linkRefs(ref.getReferencedSchema(), visited)));
+    return CompositeFuture.all(solving).mapEmpty();
+  }
+
+  /**
+   * Collect the RefSchemas parsed from the provided json, looking them up in the router by their scope
+   */
+  private void collectRefs(Object json, JsonPointer scope, List<RefSchema> refs) {
+    if (json instanceof JsonObject) {
+      JsonObject obj = (JsonObject) json;
+      if (obj.getValue("$ref") instanceof String) {
+        Schema s = router.resolveCachedSchema(scope, scope, this);
+        if (s instanceof RefSchema) refs.add((RefSchema) s);
+      }
+      for (Map.Entry<String, Object> e : obj)
+        if (!NON_SCHEMA_KEYWORDS.contains(e.getKey())) collectRefs(e.getValue(), scope.copy().append(e.getKey()), refs);
+    } else if (json instanceof JsonArray) {
+      JsonArray arr = (JsonArray) json;
+      for (int i = 0; i < arr.size(); i++)
+        collectRefs(arr.getValue(i), scope.copy().append(Integer.toString(i)), refs);
+    }
+  }
+
+  /**
+   * Returns the leaf keywords of the schema, used to share its validators with all the schemas with the same leaf
+   * keywords, or null if the schema contains keywords that are neither leaf keywords nor annotations
+   *
+   * @param schema
+   * @return
+   */
+  private JsonObject leafKey(JsonObject schema) {
+    JsonObject key = new JsonObject();
+    for (Map.Entry<String, Object> e : schema.getMap().entrySet()) {
+      String keyword = e.getKey();
+      if (LEAF_KEYWORDS.contains(keyword)) key.put(keyword, e.getValue());
+      else if (!ANNOTATION_KEYWORDS.contains(keyword) && !keyword.startsWith("x-")) return null;
+    }
+    // Custom validators could depend on the scope
+    for (ValidatorFactory factory : options.getAdditionalValidatorFactories())
+      if (factory.canConsumeSchema(schema)) return null;
+    return key;
+  }
+
+  int sharedValidatorsSize() {
+    return sharedValidators.size();
+  }
+
   protected Schema createSchema(JsonObject schema, JsonPointer scope, ConcurrentSkipListSet<Validator> validators) {
     if (schema.containsKey("$ref")) return new RefSchema(schema, scope, validators, this);
     else return new SchemaImpl(schema, scope, validators);
@@ -74,6 +226,7 @@ public abstract class BaseSchemaParser implements SchemaParser {
     // Load additional string formats
     ValidatorFactory f = validatorFactories
         .stream()
+        .map(factory -> factory instanceof StringValidatorFactory ? ((StringValidatorFactory) factory).getFormatValidatorFactory() : factory)
         .filter(factory -> factory instanceof BaseFormatValidatorFactory)
         .findFirst()
         .orElseThrow(() -> new IllegalStateException("This json schema version doesn't support format keyword"));
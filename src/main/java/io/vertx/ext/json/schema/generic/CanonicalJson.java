@@ -0,0 +1,248 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Equality and hashing of json values following the json schema definition: numbers are equal when they have the same
+ * mathematical value (e.g. {@code 1} and {@code 1.0}), objects when they have the same keys with equal values and
+ * arrays when they have equal items in the same order. {@link Map} and {@link List} values are treated like
+ * {@link JsonObject} and {@link JsonArray}. <br/>
+ * Comparisons stop at the first difference of type or size. Values known when the schema is parsed should be wrapped
+ * in a {@link Constant}, that computes their hash once
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public final class CanonicalJson {
+
+  private static final double MIN_LONG = -0x1p63;
+  private static final double MAX_LONG = 0x1p63;
+
+  private CanonicalJson() {
+  }
+
+  /**
+   * Returns true if the number is an integer representable as long
+   */
+  public static boolean isLong(double d) {
+    return d >= MIN_LONG && d < MAX_LONG && d == Math.rint(d);
+  }
+
+  /**
+   * Returns true if the number is an {@link Integer}, {@link Long}, {@link Short} or {@link Byte}
+   */
+  public static boolean isIntegralType(Number n) {
+    return n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte;
+  }
+
+  /**
+   * Returns the canonical representation of the number: a {@link Long} if the number is an integer representable as
+   * long, otherwise a {@link Double} if the double represents exactly the number, otherwise a {@link BigDecimal}
+   * without trailing zeros
+   *
+   * @param n
+   * @return
+   */
+  public static Number normalize(Number n) {
+    if (isIntegralType(n)) return n.longValue();
+    if (n instanceof Double || n instanceof Float) {
+      double d = n.doubleValue();
+      return isLong(d) ? (Number) (long) d : (Number) d;
+    }
+    BigDecimal big;
+    if (n instanceof BigDecimal) big = (BigDecimal) n;
+    else if (n instanceof BigInteger) big = new BigDecimal((BigInteger) n);
+    else big = new BigDecimal(n.toString());
+    try {
+      return big.longValueExact();
+    } catch (ArithmeticException e) {
+      double d = big.doubleValue();
+      if (!Double.isInfinite(d) && new BigDecimal(d).compareTo(big) == 0) return d;
+      return big.stripTrailingZeros();
+    }
+  }
+
+  /**
+   * Hash of a number, consistent with {@link #numbersEqual(Number, Number)}
+   */
+  public static int hashNumber(Number n) {
+    if (isIntegralType(n)) return Long.hashCode(n.longValue());
+    if (n instanceof Double || n instanceof Float) {
+      double d = n.doubleValue();
+      return isLong(d) ? Long.hashCode((long) d) : Double.hashCode(d);
+    }
+    return normalize(n).hashCode();
+  }
+
+  /**
+   * Returns true if the numbers have the same mathematical value. Numbers of the common types are compared without
+   * allocations
+   */
+  public static boolean numbersEqual(Number a, Number b) {
+    boolean aIntegral = isIntegralType(a);
+    boolean bIntegral = isIntegralType(b);
+    if (aIntegral && bIntegral) return a.longValue() == b.longValue();
+    boolean aFloating = a instanceof Double || a instanceof Float;
+    boolean bFloating = b instanceof Double || b instanceof Float;
+    if (aIntegral && bFloating) return longEqualsDouble(a.longValue(), b.doubleValue());
+    if (aFloating && bIntegral) return longEqualsDouble(b.longValue(), a.doubleValue());
+    if (aFloating && bFloating) return a.doubleValue() == b.doubleValue();
+    return normalize(a).equals(normalize(b));
+  }
+
+  private static boolean longEqualsDouble(long l, double d) {
+    return isLong(d) && (long) d == l;
+  }
+
+  /**
+   * Hash consistent with {@link #equals(Object, Object)}
+   *
+   * @param value
+   * @return
+   */
+  @SuppressWarnings("unchecked")
+  public static int hash(Object value) {
+    if (value == null) return 0;
+    if (value instanceof String || value instanceof Boolean) return value.hashCode();
+    if (value instanceof Number) return hashNumber((Number) value);
+    if (value instanceof JsonObject) value = ((JsonObject) value).getMap();
+    if (value instanceof Map) {
+      int h = 0;
+      // Independent from the order of the entries
+      for (Map.Entry<String, Object> e : ((Map<String, Object>) value).entrySet())
+        h += e.getKey().hashCode() ^ hash(e.getValue());
+      return h;
+    }
+    if (value instanceof JsonArray) value = ((JsonArray) value).getList();
+    if (value instanceof List) {
+      int h = 1;
+      for (Object item : (List<Object>) value) h = 31 * h + hash(item);
+      return h;
+    }
+    return value.hashCode();
+  }
+
+  /**
+   * Returns true if the provided json values are equal
+   *
+   * @param a
+   * @param b
+   * @return
+   */
+  @SuppressWarnings("unchecked")
+  public static boolean equals(Object a, Object b) {
+    if (a == b) return true;
+    if (a == null || b == null) return false;
+    if (a instanceof String) return a.equals(b);
+    if (a instanceof Number) return b instanceof Number && numbersEqual((Number) a, (Number) b);
+    if (a instanceof JsonObject) a = ((JsonObject) a).getMap();
+    if (b instanceof JsonObject) b = ((JsonObject) b).getMap();
+    if (a instanceof Map) {
+      if (!(b instanceof Map)) return false;
+      Map<String, Object> am = (Map<String, Object>) a;
+      Map<String, Object> bm = (Map<String, Object>) b;
+      if (am.size() != bm.size()) return false;
+      for (Map.Entry<String, Object> e : am.entrySet()) {
+        Object other = bm.get(e.getKey());
+        if (other == null && !bm.containsKey(e.getKey())) return false;
+        if (!equals(e.getValue(), other)) return false;
+      }
+      return true;
+    }
+    if (a instanceof JsonArray) a = ((JsonArray) a).getList();
+    if (b instanceof JsonArray) b = ((JsonArray) b).getList();
+    if (a instanceof List) {
+      if (!(b instanceof List)) return false;
+      List<Object> al = (List<Object>) a;
+      List<Object> bl = (List<Object>) b;
+      int size = al.size();
+      if (size != bl.size()) return false;
+      for (int i = 0; i < size; i++) if (!equals(al.get(i), bl.get(i))) return false;
+      return true;
+    }
+    return a.equals(b);
+  }
+
+  /**
+   * Returns the size of objects and arrays, -1 for the other values
+   */
+  static int size(Object value) {
+    if (value instanceof JsonObject) return ((JsonObject) value).size();
+    if (value instanceof Map) return ((Map) value).size();
+    if (value instanceof JsonArray) return ((JsonArray) value).size();
+    if (value instanceof List) return ((List) value).size();
+    return -1;
+  }
+
+  private static int type(Object value) {
+    if (value == null) return 0;
+    if (value instanceof String) return 1;
+    if (value instanceof Number) return 2;
+    if (value instanceof Boolean) return 3;
+    if (value instanceof JsonObject || value instanceof Map) return 4;
+    if (value instanceof JsonArray || value instanceof List) return 5;
+    return 6;
+  }
+
+  /**
+   * A value of the schema, like the one of const, with its hash computed once
+   */
+  public static final class Constant {
+    private final Object value;
+    private final int hash;
+    private final int type;
+    private final int size;
+
+    public Constant(Object value) {
+      this.value = value;
+      this.hash = CanonicalJson.hash(value);
+      this.type = type(value);
+      this.size = size(value);
+    }
+
+    public Object value() {
+      return value;
+    }
+
+    /**
+     * Returns the hash of the value, consistent with {@link CanonicalJson#hash(Object)}
+     *
+     * @return
+     */
+    public int hash() {
+      return hash;
+    }
+
+    /**
+     * Returns true if the provided value is equal to this constant
+     *
+     * @param other
+     * @return
+     */
+    public boolean matches(Object other) {
+      if (type(other) != type || size(other) != size) return false;
+      return CanonicalJson.equals(value, other);
+    }
+
+    /**
+     * Like {@link #matches(Object)}, for a value whose hash is already known
+     *
+     * @param other
+     * @param otherHash
+     * @return
+     */
+    public boolean matches(Object other, int otherHash) {
+      return otherHash == hash && matches(other);
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+  }
+}
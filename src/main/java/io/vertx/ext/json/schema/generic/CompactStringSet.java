@@ -0,0 +1,188 @@
+package io.vertx.ext.json.schema.generic;
+
+import java.util.*;
+
+/**
+ * Immutable set of strings for very big enums, that takes a few bytes per string instead of a hash table entry. <br/>
+ * The strings are sorted and front coded in blocks: the first string of each block is stored entirely, the others as
+ * the length of the prefix shared with the previous string followed by the rest of the string. A lookup binary
+ * searches the block and then scans it, without decoding the strings. A bloom filter rejects most of the missing
+ * strings before the search
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+final class CompactStringSet extends AbstractSet<String> {
+
+  static final int BLOCK_SIZE = 16;
+  // Max length of a string in the set, so that lengths fit in a char
+  static final int MAX_STRING_LENGTH = Character.MAX_VALUE;
+
+  // Every string is stored as prefix length, suffix length and suffix chars
+  private final char[] data;
+  // Offset in data of the first string of each block
+  private final int[] blocks;
+  private final int size;
+  private final long[] bloom;
+  private final int bloomMask;
+
+  /**
+   * @param strings           the strings of the set, each at most {@link #MAX_STRING_LENGTH} long
+   * @param bloomBitsPerEntry bits of the bloom filter for each string, 0 disables the filter
+   */
+  CompactStringSet(Collection<String> strings, int bloomBitsPerEntry) {
+    String[] sorted = new TreeSet<>(strings).toArray(new String[0]);
+    this.size = sorted.length;
+    int dataLength = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (sorted[i].length() > MAX_STRING_LENGTH) throw new IllegalArgumentException("String too long for CompactStringSet");
+      dataLength += 2 + sorted[i].length() - (i % BLOCK_SIZE == 0 ? 0 : commonPrefix(sorted[i - 1], sorted[i]));
+    }
+    this.data = new char[dataLength];
+    this.blocks = new int[(sorted.length + BLOCK_SIZE - 1) / BLOCK_SIZE];
+    int offset = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      String s = sorted[i];
+      int prefix = 0;
+      if (i % BLOCK_SIZE == 0) blocks[i / BLOCK_SIZE] = offset;
+      else prefix = commonPrefix(sorted[i - 1], s);
+      data[offset++] = (char) prefix;
+      data[offset++] = (char) (s.length() - prefix);
+      s.getChars(prefix, s.length(), data, offset);
+      offset += s.length() - prefix;
+    }
+    if (bloomBitsPerEntry > 0 && size > 0) {
+      int bits = 64;
+      while (bits < (long) size * bloomBitsPerEntry && bits < (1 << 30)) bits <<= 1;
+      this.bloom = new long[bits / 64];
+      this.bloomMask = bits - 1;
+      for (String s : sorted) {
+        int h1 = s.hashCode();
+        int h2 = secondHash(h1);
+        for (int k = 0; k < 3; k++) {
+          int bit = (h1 + k * h2) & bloomMask;
+          bloom[bit >>> 6] |= 1L << bit;
+        }
+      }
+    } else {
+      this.bloom = null;
+      this.bloomMask = 0;
+    }
+  }
+
+  private static int commonPrefix(String a, String b) {
+    int n = Math.min(a.length(), b.length());
+    int i = 0;
+    while (i < n && a.charAt(i) == b.charAt(i)) i++;
+    return i;
+  }
+
+  private static int secondHash(int h) {
+    h *= 0x9E3779B9;
+    return (h ^ (h >>> 16)) | 1;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof String) || size == 0) return false;
+    String s = (String) o;
+    if (bloom != null) {
+      int h1 = s.hashCode();
+      int h2 = secondHash(h1);
+      for (int k = 0; k < 3; k++) {
+        int bit = (h1 + k * h2) & bloomMask;
+        if ((bloom[bit >>> 6] & (1L << bit)) == 0) return false;
+      }
+    }
+    // Last block whose first string is <= s
+    int lo = 0, hi = blocks.length - 1;
+    while (lo < hi) {
+      int mid = (lo + hi + 1) >>> 1;
+      if (compareHead(mid, s) <= 0) lo = mid;
+      else hi = mid - 1;
+    }
+    return scanBlock(lo, s);
+  }
+
+  /**
+   * Compare the first string of the block with s
+   */
+  private int compareHead(int block, String s) {
+    int offset = blocks[block];
+    int length = data[offset + 1];
+    offset += 2;
+    int n = Math.min(length, s.length());
+    for (int i = 0; i < n; i++) {
+      char c = data[offset + i];
+      char other = s.charAt(i);
+      if (c != other) return c - other;
+    }
+    return length - s.length();
+  }
+
+  /**
+   * Scan the strings of the block tracking the length of the prefix that the current string shares with s: since the
+   * strings are sorted, that is enough to know if s is before, equal or after the current string
+   */
+  private boolean scanBlock(int block, String s) {
+    int offset = blocks[block];
+    int end = block + 1 < blocks.length ? blocks[block + 1] : data.length;
+    int inputLength = s.length();
+    // Common prefix of s and the previous string, that is smaller than s
+    int matched = 0;
+    boolean first = true;
+    while (offset < end) {
+      int prefix = data[offset];
+      int suffixLength = data[offset + 1];
+      offset += 2;
+      int length = prefix + suffixLength;
+      if (!first) {
+        if (prefix > matched) {
+          // The string diverges from s where the previous did, so it's smaller too
+          offset += suffixLength;
+          continue;
+        }
+        // The string is greater than the previous one at position prefix, where the previous was equal to s
+        if (prefix < matched) return false;
+      }
+      first = false;
+      int i = matched;
+      while (i < length && i < inputLength && data[offset + i - prefix] == s.charAt(i)) i++;
+      if (i == length && i == inputLength) return true;
+      // Stop if the string is greater than s
+      if (i == inputLength || (i < length && data[offset + i - prefix] > s.charAt(i))) return false;
+      matched = i;
+      offset += suffixLength;
+    }
+    return false;
+  }
+
+  @Override
+  public Iterator<String> iterator() {
+    return new Iterator<String>() {
+      private int offset = 0;
+      private char[] previous = new char[0];
+
+      @Override
+      public boolean hasNext() {
+        return offset < data.length;
+      }
+
+      @Override
+      public String next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        int prefix = data[offset];
+        int suffixLength = data[offset + 1];
+        char[] current = Arrays.copyOf(previous, prefix + suffixLength);
+        System.arraycopy(data, offset + 2, current, prefix, suffixLength);
+        offset += 2 + suffixLength;
+        previous = current;
+        return new String(current);
+      }
+    };
+  }
+}
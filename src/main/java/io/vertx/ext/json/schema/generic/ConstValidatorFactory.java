@@ -20,11 +20,15 @@ public class ConstValidatorFactory implements ValidatorFactory {
     return schema.containsKey("const");
   }
 
+  /**
+   * The const value is wrapped in a {@link CanonicalJson.Constant}, so numbers are compared by their mathematical value
+   * and inputs of another type or size are rejected without a deep compare
+   */
   public class EnumValidator implements SyncValidator {
-    private final Object allowedValue;
+    private final CanonicalJson.Constant allowedValue;
 
     public EnumValidator(Object allowedValue) {
-      this.allowedValue = allowedValue;
+      this.allowedValue = new CanonicalJson.Constant(allowedValue);
     }
 
     @Override
@@ -32,12 +36,15 @@ public class ConstValidatorFactory implements ValidatorFactory {
       return ValidatorPriority.MAX_PRIORITY;
     }
 
+    @Override
+    public int getCost() {
+      return 2;
+    }
+
     @Override
     public void validate(Object value) throws ValidationException {
-      if (allowedValue != null) {
-        if (!allowedValue.equals(value))
-          throw NO_MATCH.createException("Input doesn't match const: " + allowedValue, "const", value);
-      } else if (value != null) throw NO_MATCH.createException("Input doesn't match const: " + allowedValue, "const", value);
+      if (!allowedValue.matches(value))
+        throw NO_MATCH.createLazyException("Input doesn't match const: ", allowedValue.value(), "const", value);
     }
   }
 
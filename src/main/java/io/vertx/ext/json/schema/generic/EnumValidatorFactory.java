@@ -5,28 +5,24 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.math.BigDecimal;
+import java.util.*;
 
 import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
 
 public class EnumValidatorFactory implements ValidatorFactory {
 
-  @SuppressWarnings("unchecked")
+  // Enums with more strings than this keep the strings in a CompactStringSet
+  static final int COMPACT_STRINGS_THRESHOLD = 1024;
+  static final int BLOOM_BITS_PER_STRING = 10;
+  // Max number of allowed values printed in the error message
+  static final int MESSAGE_MAX_VALUES = 16;
+
   @Override
   public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
     try {
       JsonArray allowedValues = (JsonArray) schema.getValue("enum");
-      Set allowedValuesParsed = (Set) allowedValues
-          .getList().stream()
-          .map(o ->
-              (o instanceof Map) ? new JsonObject((Map<String, Object>) o) :
-                  (o instanceof List) ? new JsonArray((List) o) :
-                      o
-          ).collect(Collectors.toSet());
-      return new EnumValidator(allowedValuesParsed);
+      return new EnumValidator(allowedValues.getList());
     } catch (ClassCastException e) {
       throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for enum keyword");
     } catch (NullPointerException e) {
@@ -39,11 +35,61 @@ public class EnumValidatorFactory implements ValidatorFactory {
     return schema.containsKey("enum");
   }
 
+  /**
+   * The allowed values are split by type when the validator is created, so a check looks only at the values with the
+   * type of the input. Numbers are compared by their mathematical value, like in {@link CanonicalJson}
+   */
   public class EnumValidator implements SyncValidator {
-    private final Set allowedValues;
+    // The values of the schema, not copied, printed only when an error message is requested
+    private final AllowedValues allowedValues;
+    private final boolean allowsNull;
+    private final boolean allowsTrue;
+    private final boolean allowsFalse;
+    private final Set<String> strings;
+    // Sorted, integers representable as long
+    private final long[] longs;
+    // Sorted, the other numbers representable as double
+    private final double[] doubles;
+    private final Set<BigDecimal> bigDecimals;
+    // Objects and arrays, sorted by canonical hash
+    private final int[] structureHashes;
+    private final CanonicalJson.Constant[] structures;
 
-    public EnumValidator(Set allowedValues) {
-      this.allowedValues = allowedValues;
+    public EnumValidator(Collection<?> allowedValues) {
+      this.allowedValues = new AllowedValues(allowedValues);
+      boolean allowsNull = false, allowsTrue = false, allowsFalse = false;
+      Set<String> strings = new HashSet<>();
+      Set<Long> longs = new TreeSet<>();
+      Set<Double> doubles = new TreeSet<>();
+      Set<BigDecimal> bigDecimals = new HashSet<>();
+      List<Object> structures = new ArrayList<>();
+      for (Object value : allowedValues) {
+        if (value == null) allowsNull = true;
+        else if (value instanceof Boolean) {
+          if ((Boolean) value) allowsTrue = true;
+          else allowsFalse = true;
+        } else if (value instanceof String) strings.add((String) value);
+        else if (value instanceof Number) {
+          Number n = CanonicalJson.normalize((Number) value);
+          if (n instanceof Long) longs.add((Long) n);
+          else if (n instanceof Double) doubles.add((Double) n);
+          else bigDecimals.add((BigDecimal) n);
+        } else structures.add(value);
+      }
+      this.allowsNull = allowsNull;
+      this.allowsTrue = allowsTrue;
+      this.allowsFalse = allowsFalse;
+      boolean compact = strings.size() > COMPACT_STRINGS_THRESHOLD &&
+          strings.stream().allMatch(str -> str.length() <= CompactStringSet.MAX_STRING_LENGTH);
+      this.strings = compact ? new CompactStringSet(strings, BLOOM_BITS_PER_STRING) : strings;
+      this.longs = longs.stream().mapToLong(Long::longValue).toArray();
+      this.doubles = doubles.stream().mapToDouble(Double::doubleValue).toArray();
+      this.bigDecimals = bigDecimals;
+      this.structures = structures.stream()
+          .map(CanonicalJson.Constant::new)
+          .sorted(Comparator.comparingInt(CanonicalJson.Constant::hash))
+          .toArray(CanonicalJson.Constant[]::new);
+      this.structureHashes = Arrays.stream(this.structures).mapToInt(CanonicalJson.Constant::hash).toArray();
     }
 
     @Override
@@ -51,9 +97,68 @@ public class EnumValidatorFactory implements ValidatorFactory {
       return ValidatorPriority.MAX_PRIORITY;
     }
 
+    @Override
+    public int getCost() {
+      return 2;
+    }
+
     @Override
     public void validate(Object value) throws ValidationException {
-      if (!allowedValues.contains(value)) throw NO_MATCH.createException("Input doesn't match one of allowed values of enum: " + allowedValues, "enum", value);
+      if (!contains(value)) throw NO_MATCH.createLazyException("Input doesn't match one of allowed values of enum: ", allowedValues, "enum", value);
+    }
+
+    private boolean contains(Object value) {
+      if (value == null) return allowsNull;
+      if (value instanceof String) return strings.contains(value);
+      if (value instanceof Boolean) return (Boolean) value ? allowsTrue : allowsFalse;
+      if (value instanceof Number) return containsNumber((Number) value);
+      return containsStructure(value);
+    }
+
+    private boolean containsNumber(Number n) {
+      if (CanonicalJson.isIntegralType(n)) return Arrays.binarySearch(longs, n.longValue()) >= 0;
+      if (n instanceof Double || n instanceof Float) {
+        double d = n.doubleValue();
+        return CanonicalJson.isLong(d) ? Arrays.binarySearch(longs, (long) d) >= 0 : Arrays.binarySearch(doubles, d) >= 0;
+      }
+      Number normalized = CanonicalJson.normalize(n);
+      if (normalized instanceof Long) return Arrays.binarySearch(longs, (Long) normalized) >= 0;
+      if (normalized instanceof Double) return Arrays.binarySearch(doubles, (Double) normalized) >= 0;
+      return bigDecimals.contains(normalized);
+    }
+
+    private boolean containsStructure(Object value) {
+      if (structures.length == 0) return false;
+      int hash = CanonicalJson.hash(value);
+      int i = Arrays.binarySearch(structureHashes, hash);
+      if (i < 0) return false;
+      while (i > 0 && structureHashes[i - 1] == hash) i--;
+      for (; i < structures.length && structureHashes[i] == hash; i++)
+        if (structures[i].matches(value)) return true;
+      return false;
+    }
+  }
+
+  /**
+   * Prints the first {@link #MESSAGE_MAX_VALUES} allowed values of an enum and how many values are not printed
+   */
+  private static final class AllowedValues {
+    private final Collection<?> values;
+
+    AllowedValues(Collection<?> values) {
+      this.values = values;
+    }
+
+    @Override
+    public String toString() {
+      List<Object> printed = new ArrayList<>();
+      for (Object value : values) {
+        if (printed.size() == MESSAGE_MAX_VALUES) break;
+        printed.add(value);
+      }
+      String json = new JsonArray(printed).encode();
+      int more = values.size() - printed.size();
+      return more > 0 ? json + " and " + more + " more" : json;
     }
   }
 
@@ -0,0 +1,28 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.Future;
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.ValidationException;
+
+import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
+
+/**
+ * Schema represented by json {@code false}. It always fails
+ */
+class FalseSchema implements Schema {
+
+  @Override
+  public Future<Void> validate(Object in) {
+    return Future.failedFuture(NO_MATCH.createException("False schema always fail validation", null, in));
+  }
+
+  @Override
+  public boolean isSync() {
+    return true;
+  }
+
+  @Override
+  public void validateSync(Object in) throws ValidationException {
+    throw NO_MATCH.createException("False schema always fail validation", null, in);
+  }
+}
@@ -0,0 +1,358 @@
+package io.vertx.ext.json.schema.generic;
+
+/**
+ * Scanners for the string formats that are validated most often. Each method walks the string once with
+ * {@link String#charAt(int)} and doesn't allocate
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+final class Formats {
+
+  private static final int MAX_HOSTNAME_LENGTH = 253;
+  private static final int MAX_LABEL_LENGTH = 63;
+
+  private Formats() {
+  }
+
+  /**
+   * full-date of RFC 3339, {@code yyyy-MM-dd}, with the day checked against the month and the year
+   */
+  static boolean isDate(String s) {
+    return s.length() == 10 && isDate(s, 0);
+  }
+
+  /**
+   * date-time of RFC 3339, with {@code T} or {@code t} between date and time. The seconds can be 60 to allow leap seconds
+   */
+  static boolean isDateTime(String s) {
+    int n = s.length();
+    if (n < 20 || !isDate(s, 0)) return false;
+    char t = s.charAt(10);
+    if (t != 'T' && t != 't') return false;
+    int hour = twoDigits(s, 11);
+    int minute = twoDigits(s, 14);
+    int second = twoDigits(s, 17);
+    if (hour < 0 || hour > 23 || s.charAt(13) != ':' || minute < 0 || minute > 59 || s.charAt(16) != ':' ||
+        second < 0 || second > 60) return false;
+    int i = 19;
+    if (s.charAt(i) == '.') {
+      int start = ++i;
+      while (i < n && isDigit(s.charAt(i))) i++;
+      if (i == start || i == n) return false;
+    }
+    char offset = s.charAt(i);
+    if (offset == 'Z' || offset == 'z') return i + 1 == n;
+    if ((offset != '+' && offset != '-') || i + 6 != n) return false;
+    int offsetHour = twoDigits(s, i + 1);
+    int offsetMinute = twoDigits(s, i + 4);
+    return offsetHour >= 0 && offsetHour <= 23 && s.charAt(i + 3) == ':' && offsetMinute >= 0 && offsetMinute <= 59;
+  }
+
+  private static boolean isDate(String s, int from) {
+    for (int i = from; i < from + 4; i++) if (!isDigit(s.charAt(i))) return false;
+    if (s.charAt(from + 4) != '-' || s.charAt(from + 7) != '-') return false;
+    int month = twoDigits(s, from + 5);
+    int day = twoDigits(s, from + 8);
+    if (month < 1 || month > 12 || day < 1) return false;
+    int year = (s.charAt(from) - '0') * 1000 + (s.charAt(from + 1) - '0') * 100 + (s.charAt(from + 2) - '0') * 10 +
+        (s.charAt(from + 3) - '0');
+    return day <= daysOfMonth(year, month);
+  }
+
+  private static int daysOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * Dotted decimal IPv4 address. Like the previous regex, leading zeros are allowed
+   */
+  static boolean isIpv4(String s) {
+    return isIpv4(s, 0, s.length());
+  }
+
+  private static boolean isIpv4(String s, int from, int to) {
+    int i = from;
+    for (int part = 0; part < 4; part++) {
+      if (part > 0) {
+        if (i == to || s.charAt(i) != '.') return false;
+        i++;
+      }
+      int start = i;
+      int value = 0;
+      while (i < to && i - start < 3 && isDigit(s.charAt(i))) value = value * 10 + (s.charAt(i++) - '0');
+      if (i == start || value > 255) return false;
+    }
+    return i == to;
+  }
+
+  /**
+   * IPv6 address in the text form of RFC 4291: 8 groups of at most 4 hex digits, at most one {@code ::} and an
+   * optional IPv4 address in place of the last two groups
+   */
+  static boolean isIpv6(String s) {
+    return isIpv6(s, 0, s.length());
+  }
+
+  private static boolean isIpv6(String s, int from, int to) {
+    if (to - from < 2) return false;
+    int i = from;
+    int groups = 0;
+    boolean compressed = false;
+    if (s.charAt(i) == ':') {
+      if (s.charAt(i + 1) != ':') return false;
+      compressed = true;
+      i += 2;
+      if (i == to) return true;
+    }
+    while (true) {
+      int start = i;
+      while (i < to && i - start < 5 && isHexDigit(s.charAt(i))) i++;
+      if (i < to && s.charAt(i) == '.') {
+        // The IPv4 address must be at the end
+        if (!isIpv4(s, start, to)) return false;
+        groups += 2;
+        break;
+      }
+      if (i == start || i - start > 4) return false;
+      groups++;
+      if (i == to) break;
+      if (s.charAt(i++) != ':' || i == to || groups == 8) return false;
+      if (s.charAt(i) == ':') {
+        if (compressed) return false;
+        compressed = true;
+        if (++i == to) break;
+      }
+    }
+    return compressed ? groups < 8 : groups == 8;
+  }
+
+  /**
+   * Host name of RFC 1123: labels of letters, digits and hyphens that don't start or end with an hyphen
+   */
+  static boolean isHostname(String s) {
+    return s.length() <= MAX_HOSTNAME_LENGTH && isDomain(s, 0, s.length(), 1);
+  }
+
+  private static boolean isDomain(String s, int from, int to, int minLabels) {
+    int labels = 0;
+    int labelStart = from;
+    for (int i = from; i <= to; i++) {
+      if (i < to && s.charAt(i) != '.') {
+        char c = s.charAt(i);
+        if (!isLetterOrDigit(c) && c != '-') return false;
+        continue;
+      }
+      int length = i - labelStart;
+      if (length == 0 || length > MAX_LABEL_LENGTH || s.charAt(labelStart) == '-' || s.charAt(i - 1) == '-')
+        return false;
+      labels++;
+      labelStart = i + 1;
+    }
+    return labels >= minLabels;
+  }
+
+  /**
+   * Email address with a dot-atom local part and a domain of at least two labels or an IPv4 address in square brackets
+   */
+  static boolean isEmail(String s) {
+    int at = s.lastIndexOf('@');
+    if (at <= 0 || at == s.length() - 1) return false;
+    boolean atomStart = true;
+    for (int i = 0; i < at; i++) {
+      char c = s.charAt(i);
+      if (c == '.') {
+        if (atomStart) return false;
+        atomStart = true;
+      } else if (isAtext(c)) {
+        atomStart = false;
+      } else {
+        return false;
+      }
+    }
+    if (atomStart) return false;
+    int n = s.length();
+    if (s.charAt(at + 1) == '[') return s.charAt(n - 1) == ']' && isIpv4(s, at + 2, n - 1);
+    return isDomain(s, at + 1, n, 2);
+  }
+
+  private static boolean isAtext(char c) {
+    return isLetterOrDigit(c) || "!#$%&'*+-/=?^_`{|}~".indexOf(c) >= 0;
+  }
+
+  /**
+   * Base64 encoded string, with padding
+   */
+  static boolean isBase64(String s) {
+    int n = s.length();
+    if (n == 0 || n % 4 != 0) return false;
+    int padding = s.charAt(n - 1) != '=' ? 0 : s.charAt(n - 2) != '=' ? 1 : 2;
+    for (int i = 0; i < n - padding; i++) {
+      char c = s.charAt(i);
+      if (!isLetterOrDigit(c) && c != '+' && c != '/') return false;
+    }
+    return true;
+  }
+
+  /**
+   * Absolute URI of RFC 3986
+   */
+  static boolean isUri(String s) {
+    return isUriReference(s, true);
+  }
+
+  /**
+   * URI reference of RFC 3986, that is an URI or a relative reference
+   */
+  static boolean isUriReference(String s) {
+    return isUriReference(s, false);
+  }
+
+  private static boolean isUriReference(String s, boolean requireScheme) {
+    int n = s.length();
+    int i = 0;
+    // The scheme ends at the first :, if it comes before any /, ? and #
+    int schemeEnd = -1;
+    for (int j = 0; j < n; j++) {
+      char c = s.charAt(j);
+      if (c == ':') {
+        schemeEnd = j;
+        break;
+      }
+      if (c == '/' || c == '?' || c == '#') break;
+    }
+    if (schemeEnd >= 0) {
+      if (schemeEnd == 0 || !isLetter(s.charAt(0))) return false;
+      for (int j = 1; j < schemeEnd; j++) {
+        char c = s.charAt(j);
+        if (!isLetterOrDigit(c) && c != '+' && c != '-' && c != '.') return false;
+      }
+      i = schemeEnd + 1;
+    } else if (requireScheme) {
+      return false;
+    }
+    if (s.startsWith("//", i)) {
+      i += 2;
+      int authorityEnd = i;
+      while (authorityEnd < n && "/?#".indexOf(s.charAt(authorityEnd)) < 0) authorityEnd++;
+      if (!isAuthority(s, i, authorityEnd)) return false;
+      i = authorityEnd;
+    }
+    // Path, then query after ? and fragment after #
+    boolean inFragment = false;
+    while (i < n) {
+      char c = s.charAt(i);
+      if (c == '%') {
+        if (!isPercentEncoded(s, i)) return false;
+        i += 3;
+        continue;
+      }
+      if (c == '#') {
+        if (inFragment) return false;
+        inFragment = true;
+      } else if (c != '/' && c != '?' && !isPchar(c)) {
+        return false;
+      }
+      i++;
+    }
+    return true;
+  }
+
+  private static boolean isAuthority(String s, int from, int to) {
+    // Userinfo ends at the last @
+    int hostStart = from;
+    for (int i = from; i < to; i++) if (s.charAt(i) == '@') hostStart = i + 1;
+    for (int i = from; i < hostStart - 1; i++) {
+      char c = s.charAt(i);
+      if (c == '%') {
+        if (!isPercentEncoded(s, i)) return false;
+        i += 2;
+      } else if (!isUnreserved(c) && !isSubDelim(c) && c != ':') {
+        return false;
+      }
+    }
+    int i = hostStart;
+    if (i < to && s.charAt(i) == '[') {
+      int close = s.indexOf(']', i);
+      if (close < 0 || close >= to || !isIpLiteral(s, i + 1, close)) return false;
+      i = close + 1;
+    } else {
+      while (i < to && s.charAt(i) != ':') {
+        char c = s.charAt(i);
+        if (c == '%') {
+          if (!isPercentEncoded(s, i)) return false;
+          i += 3;
+          continue;
+        }
+        if (!isUnreserved(c) && !isSubDelim(c)) return false;
+        i++;
+      }
+    }
+    // Port
+    if (i < to && s.charAt(i++) != ':') return false;
+    for (; i < to; i++) if (!isDigit(s.charAt(i))) return false;
+    return true;
+  }
+
+  private static boolean isIpLiteral(String s, int from, int to) {
+    if (from < to && (s.charAt(from) == 'v' || s.charAt(from) == 'V')) {
+      // IPvFuture
+      int i = from + 1;
+      int start = i;
+      while (i < to && isHexDigit(s.charAt(i))) i++;
+      if (i == start || i == to || s.charAt(i++) != '.' || i == to) return false;
+      for (; i < to; i++) {
+        char c = s.charAt(i);
+        if (!isUnreserved(c) && !isSubDelim(c) && c != ':') return false;
+      }
+      return true;
+    }
+    return isIpv6(s, from, to);
+  }
+
+  private static boolean isPercentEncoded(String s, int i) {
+    return i + 2 < s.length() && isHexDigit(s.charAt(i + 1)) && isHexDigit(s.charAt(i + 2));
+  }
+
+  private static boolean isPchar(char c) {
+    return isUnreserved(c) || isSubDelim(c) || c == ':' || c == '@';
+  }
+
+  private static boolean isUnreserved(char c) {
+    return isLetterOrDigit(c) || c == '-' || c == '.' || c == '_' || c == '~';
+  }
+
+  private static boolean isSubDelim(char c) {
+    return "!$&'()*+,;=".indexOf(c) >= 0;
+  }
+
+  private static int twoDigits(String s, int i) {
+    char a = s.charAt(i), b = s.charAt(i + 1);
+    return isDigit(a) && isDigit(b) ? (a - '0') * 10 + (b - '0') : -1;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isHexDigit(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  private static boolean isLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isLetterOrDigit(char c) {
+    return isLetter(c) || isDigit(c);
+  }
+}
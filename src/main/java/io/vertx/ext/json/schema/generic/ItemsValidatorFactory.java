@@ -9,6 +9,8 @@ import io.vertx.ext.json.schema.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public class ItemsValidatorFactory implements ValidatorFactory {
 
@@ -17,7 +19,7 @@ public class ItemsValidatorFactory implements ValidatorFactory {
     try {
       Object itemsSchema = schema.getValue("items");
       Schema parsedSchema = parser.parse(itemsSchema, scope.append("items"));
-      return new ItemsValidator(parsedSchema);
+      return new ItemsValidator(parsedSchema, parallelItemsThreshold(parser), parallelItemsExecutor(parser));
     } catch (ClassCastException e) {
       throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for items keyword");
     } catch (NullPointerException e) {
@@ -25,6 +27,26 @@ public class ItemsValidatorFactory implements ValidatorFactory {
     }
   }
 
+  /**
+   * Returns the min size of arrays validated in parallel configured with {@link SchemaParserOptions#setParallelItemsThreshold(int)}, or 0 if disabled
+   *
+   * @param parser
+   * @return
+   */
+  protected int parallelItemsThreshold(SchemaParser parser) {
+    return parser instanceof BaseSchemaParser ? ((BaseSchemaParser) parser).getOptions().getParallelItemsThreshold() : 0;
+  }
+
+  /**
+   * Returns the executor of arrays validated in parallel configured with {@link SchemaParserOptions#setParallelItemsExecutor(Executor)}
+   *
+   * @param parser
+   * @return
+   */
+  protected Executor parallelItemsExecutor(SchemaParser parser) {
+    return parser instanceof BaseSchemaParser ? ((BaseSchemaParser) parser).getOptions().getParallelItemsExecutor() : ForkJoinPool.commonPool();
+  }
+
   @Override
   public boolean canConsumeSchema(JsonObject schema) {
     return schema.containsKey("items");
@@ -33,15 +55,59 @@ public class ItemsValidatorFactory implements ValidatorFactory {
   class ItemsValidator implements AsyncValidator {
 
     private Schema schema;
+    private int parallelThreshold;
+    private Executor parallelExecutor;
 
-    public ItemsValidator(Schema schema) {
+    public ItemsValidator(Schema schema, int parallelThreshold, Executor parallelExecutor) {
       this.schema = schema;
+      this.parallelThreshold = parallelThreshold;
+      this.parallelExecutor = parallelExecutor;
+    }
+
+    private boolean isParallel(JsonArray arr) {
+      return parallelThreshold > 0 && arr.size() >= parallelThreshold;
+    }
+
+    @Override
+    public JsonSchemaType getApplicableType() {
+      return JsonSchemaType.ARRAY;
+    }
+
+    @Override
+    public boolean isSync() {
+      return schema.isSync();
+    }
+
+    @Override
+    public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+      if (in instanceof JsonArray) {
+        JsonArray arr = (JsonArray) in;
+        if (isParallel(arr)) {
+          ParallelItemsValidation.validateSync(arr, i -> schema, parallelExecutor);
+          return;
+        }
+        for (Object v : arr) {
+          schema.validateSync(v);
+        }
+      }
+    }
+
+    @Override
+    public void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+      if (in instanceof JsonArray) {
+        JsonArray arr = (JsonArray) in;
+        for (int i = 0; i < arr.size(); i++) {
+          schema.collectErrors(arr.getValue(i), inputLocation.copy().append(Integer.toString(i)), collector);
+        }
+      }
     }
 
     @Override
     public Future<Void> validate(Object in) {
       if (in instanceof JsonArray) {
         JsonArray arr = (JsonArray) in;
+        if (isParallel(arr) && schema.isSync())
+          return ParallelItemsValidation.validate(arr, i -> schema, parallelExecutor);
         List<Future> futs = new ArrayList<>();
         for (Object v : arr) {
           Future<Void> f = schema.validate(v);
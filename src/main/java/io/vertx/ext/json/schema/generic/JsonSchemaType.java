@@ -25,4 +25,21 @@ public enum JsonSchemaType {
   public boolean checkInstance(Object obj) {
     return checkInstancePredicate.test(obj);
   }
+
+  /**
+   * Returns the type of the provided json value, one of {@link #NULL}, {@link #BOOLEAN}, {@link #OBJECT}, {@link #ARRAY},
+   * {@link #NUMBER} and {@link #STRING}, or null if it's not a json value
+   *
+   * @param obj
+   * @return
+   */
+  public static JsonSchemaType classify(Object obj) {
+    if (obj instanceof String) return STRING;
+    if (obj instanceof JsonObject) return OBJECT;
+    if (obj instanceof Number) return NUMBER;
+    if (obj instanceof JsonArray) return ARRAY;
+    if (obj instanceof Boolean) return BOOLEAN;
+    if (obj == null) return NULL;
+    return null;
+  }
 }
@@ -0,0 +1,622 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.ext.json.schema.RegexEngine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link RegexEngine} that compiles patterns to a non deterministic automaton, simulated tracking all the states at once.
+ * Matching a string of length {@code n} takes at most {@code O(n * m)} steps, where {@code m} is the size of the
+ * automaton, regardless of the pattern, so crafted inputs can't cause catastrophic backtracking. <br/>
+ * The supported syntax is the ECMA 262 one without unicode flag: alternations, groups, greedy and lazy quantifiers,
+ * character classes, {@code .}, {@code ^}, {@code $}, {@code \b}, {@code \B} and the escapes {@code \d \D \w \W \s \S
+ * \t \n \v \f \r \cX \xHH \0} plus the unicode escapes with 4 hex digits. Backreferences and lookarounds are
+ * rejected. Like in ECMA 262, characters are UTF-16 code units, {@code $} matches only at the end of the input and
+ * {@code .} doesn't match line terminators
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public final class LinearRegexEngine implements RegexEngine {
+
+  // Limit to the automaton size, that could explode with nested counted repetitions
+  static final int MAX_PROGRAM_SIZE = 50_000;
+
+  private static final int CHAR = 0;
+  private static final int SPLIT = 1;
+  private static final int JMP = 2;
+  private static final int BEGIN = 3;
+  private static final int END = 4;
+  private static final int WORD_BOUNDARY = 5;
+  private static final int NOT_WORD_BOUNDARY = 6;
+  private static final int MATCH = 7;
+
+  @Override
+  public Regex compile(String pattern) {
+    Node node = new Parser(pattern).parse();
+    ProgramBuilder builder = new ProgramBuilder();
+    builder.emit(node);
+    builder.add(MATCH, 0, 0, null);
+    return new LinearRegex(pattern, builder, node.startsWithBegin());
+  }
+
+  private static final class LinearRegex implements Regex {
+
+    private final String pattern;
+    private final int[] ops;
+    private final int[] x;
+    private final int[] y;
+    private final CharMatcher[] matchers;
+    private final boolean anchored;
+
+    LinearRegex(String pattern, ProgramBuilder builder, boolean anchored) {
+      this.pattern = pattern;
+      int size = builder.size;
+      this.ops = new int[size];
+      this.x = new int[size];
+      this.y = new int[size];
+      this.matchers = new CharMatcher[size];
+      System.arraycopy(builder.ops, 0, ops, 0, size);
+      System.arraycopy(builder.x, 0, x, 0, size);
+      System.arraycopy(builder.y, 0, y, 0, size);
+      System.arraycopy(builder.matchers, 0, matchers, 0, size);
+      this.anchored = anchored;
+    }
+
+    @Override
+    public boolean find(String input) {
+      int size = ops.length;
+      int[] current = new int[size];
+      int[] next = new int[size];
+      // Generation of the last list that contains each instruction, to add every instruction once per step
+      int[] marks = new int[size];
+      int[] stack = new int[size * 2 + 1];
+      int generation = 1;
+      int currentSize = 0;
+      int n = input.length();
+      for (int pos = 0; ; pos++) {
+        // A new thread starts at every position, that is find semantics
+        if (pos == 0 || !anchored) {
+          currentSize = addThread(current, currentSize, 0, pos, input, marks, generation, stack);
+          if (currentSize < 0) return true;
+        }
+        if (pos == n || currentSize == 0 && anchored) return false;
+        char c = input.charAt(pos);
+        generation++;
+        int nextSize = 0;
+        for (int i = 0; i < currentSize; i++) {
+          int pc = current[i];
+          if (matchers[pc].matches(c)) {
+            nextSize = addThread(next, nextSize, pc + 1, pos + 1, input, marks, generation, stack);
+            if (nextSize < 0) return true;
+          }
+        }
+        int[] t = current;
+        current = next;
+        next = t;
+        currentSize = nextSize;
+      }
+    }
+
+    /**
+     * Follow the instructions that don't consume input starting from {@code start}, adding the ones that consume
+     * input to the list
+     *
+     * @return the new list size, or -1 if the match instruction was reached
+     */
+    private int addThread(int[] list, int listSize, int start, int pos, String input, int[] marks, int generation, int[] stack) {
+      int sp = 0;
+      stack[sp++] = start;
+      while (sp > 0) {
+        int pc = stack[--sp];
+        if (marks[pc] == generation) continue;
+        marks[pc] = generation;
+        switch (ops[pc]) {
+          case CHAR:
+            list[listSize++] = pc;
+            break;
+          case SPLIT:
+            // Order doesn't matter, since only the existence of a match is checked
+            stack[sp++] = y[pc];
+            stack[sp++] = x[pc];
+            break;
+          case JMP:
+            stack[sp++] = x[pc];
+            break;
+          case BEGIN:
+            if (pos == 0) stack[sp++] = pc + 1;
+            break;
+          case END:
+            if (pos == input.length()) stack[sp++] = pc + 1;
+            break;
+          case WORD_BOUNDARY:
+            if (isWordBoundary(input, pos)) stack[sp++] = pc + 1;
+            break;
+          case NOT_WORD_BOUNDARY:
+            if (!isWordBoundary(input, pos)) stack[sp++] = pc + 1;
+            break;
+          case MATCH:
+            return -1;
+        }
+      }
+      return listSize;
+    }
+
+    private static boolean isWordBoundary(String input, int pos) {
+      boolean before = pos > 0 && CharMatcher.WORD.matches(input.charAt(pos - 1));
+      boolean after = pos < input.length() && CharMatcher.WORD.matches(input.charAt(pos));
+      return before != after;
+    }
+
+    @Override
+    public String pattern() {
+      return pattern;
+    }
+
+    @Override
+    public String toString() {
+      return pattern;
+    }
+  }
+
+  private static final class ProgramBuilder {
+    int[] ops = new int[16];
+    int[] x = new int[16];
+    int[] y = new int[16];
+    CharMatcher[] matchers = new CharMatcher[16];
+    int size;
+
+    int add(int op, int x, int y, CharMatcher matcher) {
+      if (size == MAX_PROGRAM_SIZE) throw new IllegalArgumentException("Pattern is too big");
+      if (size == ops.length) {
+        int newLength = ops.length * 2;
+        ops = Arrays.copyOf(ops, newLength);
+        this.x = Arrays.copyOf(this.x, newLength);
+        this.y = Arrays.copyOf(this.y, newLength);
+        matchers = Arrays.copyOf(matchers, newLength);
+      }
+      ops[size] = op;
+      this.x[size] = x;
+      this.y[size] = y;
+      matchers[size] = matcher;
+      return size++;
+    }
+
+    void emit(Node node) {
+      if (node instanceof CharNode) {
+        add(CHAR, 0, 0, ((CharNode) node).matcher);
+      } else if (node instanceof AssertNode) {
+        add(((AssertNode) node).op, 0, 0, null);
+      } else if (node instanceof SeqNode) {
+        for (Node n : ((SeqNode) node).nodes) emit(n);
+      } else if (node instanceof AltNode) {
+        List<Node> alternatives = ((AltNode) node).alternatives;
+        List<Integer> jumps = new ArrayList<>();
+        for (int i = 0; i < alternatives.size() - 1; i++) {
+          int split = add(SPLIT, size + 1, 0, null);
+          emit(alternatives.get(i));
+          jumps.add(add(JMP, 0, 0, null));
+          y[split] = size;
+        }
+        emit(alternatives.get(alternatives.size() - 1));
+        for (int jump : jumps) x[jump] = size;
+      } else if (node instanceof RepeatNode) {
+        RepeatNode repeat = (RepeatNode) node;
+        for (int i = 0; i < repeat.min; i++) emit(repeat.node);
+        if (repeat.max < 0) {
+          int split = add(SPLIT, size + 1, 0, null);
+          emit(repeat.node);
+          add(JMP, split, 0, null);
+          y[split] = size;
+        } else {
+          List<Integer> splits = new ArrayList<>();
+          for (int i = repeat.min; i < repeat.max; i++) {
+            splits.add(add(SPLIT, size + 1, 0, null));
+            emit(repeat.node);
+          }
+          for (int split : splits) y[split] = size;
+        }
+      }
+    }
+  }
+
+  // Syntax tree
+
+  private interface Node {
+    default boolean startsWithBegin() {
+      return false;
+    }
+  }
+
+  private static final class CharNode implements Node {
+    final CharMatcher matcher;
+
+    CharNode(CharMatcher matcher) {
+      this.matcher = matcher;
+    }
+  }
+
+  private static final class AssertNode implements Node {
+    final int op;
+
+    AssertNode(int op) {
+      this.op = op;
+    }
+
+    @Override
+    public boolean startsWithBegin() {
+      return op == BEGIN;
+    }
+  }
+
+  private static final class SeqNode implements Node {
+    final List<Node> nodes = new ArrayList<>();
+
+    @Override
+    public boolean startsWithBegin() {
+      return !nodes.isEmpty() && nodes.get(0).startsWithBegin();
+    }
+  }
+
+  private static final class AltNode implements Node {
+    final List<Node> alternatives = new ArrayList<>();
+
+    @Override
+    public boolean startsWithBegin() {
+      for (Node n : alternatives) if (!n.startsWithBegin()) return false;
+      return true;
+    }
+  }
+
+  private static final class RepeatNode implements Node {
+    final Node node;
+    final int min;
+    // -1 if unbounded
+    final int max;
+
+    RepeatNode(Node node, int min, int max) {
+      this.node = node;
+      this.min = min;
+      this.max = max;
+    }
+
+    @Override
+    public boolean startsWithBegin() {
+      return min > 0 && node.startsWithBegin();
+    }
+  }
+
+  // Characters
+
+  @FunctionalInterface
+  private interface CharMatcher {
+    CharMatcher DIGIT = c -> c >= '0' && c <= '9';
+    CharMatcher WORD = c -> (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    CharMatcher SPACE = c -> c == ' ' || (c >= '\t' && c <= '\r') || c == 0xA0 || c == 0x1680 ||
+        (c >= 0x2000 && c <= 0x200A) || c == 0x2028 || c == 0x2029 || c == 0x202F || c == 0x205F ||
+        c == 0x3000 || c == 0xFEFF;
+    CharMatcher ANY_BUT_LINE_TERMINATOR = c -> c != '\n' && c != '\r' && c != 0x2028 && c != 0x2029;
+
+    boolean matches(char c);
+
+    default CharMatcher negate() {
+      return c -> !matches(c);
+    }
+  }
+
+  /**
+   * Character class, with a bitmap for ascii characters
+   */
+  private static final class ClassMatcher implements CharMatcher {
+    private final long low;
+    private final long high;
+    private final CharMatcher items;
+    private final boolean negated;
+
+    ClassMatcher(List<CharMatcher> items, boolean negated) {
+      CharMatcher[] array = items.toArray(new CharMatcher[0]);
+      this.items = c -> {
+        for (CharMatcher m : array) if (m.matches(c)) return true;
+        return false;
+      };
+      this.negated = negated;
+      long low = 0, high = 0;
+      for (char c = 0; c < 128; c++) {
+        if (this.items.matches(c) != negated) {
+          if (c < 64) low |= 1L << c;
+          else high |= 1L << (c - 64);
+        }
+      }
+      this.low = low;
+      this.high = high;
+    }
+
+    @Override
+    public boolean matches(char c) {
+      if (c < 64) return (low & (1L << c)) != 0;
+      if (c < 128) return (high & (1L << (c - 64))) != 0;
+      return items.matches(c) != negated;
+    }
+  }
+
+  private static final class Parser {
+    private final String pattern;
+    private int pos;
+
+    Parser(String pattern) {
+      this.pattern = pattern;
+    }
+
+    Node parse() {
+      Node node = parseAlternation();
+      if (pos < pattern.length()) throw error("Unmatched )");
+      return node;
+    }
+
+    private IllegalArgumentException error(String message) {
+      return new IllegalArgumentException(message + " near index " + pos + " of pattern " + pattern);
+    }
+
+    private boolean more() {
+      return pos < pattern.length();
+    }
+
+    private char peek() {
+      return pattern.charAt(pos);
+    }
+
+    private boolean accept(char c) {
+      if (more() && peek() == c) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private Node parseAlternation() {
+      Node first = parseSequence();
+      if (!more() || peek() != '|') return first;
+      AltNode alt = new AltNode();
+      alt.alternatives.add(first);
+      while (accept('|')) alt.alternatives.add(parseSequence());
+      return alt;
+    }
+
+    private Node parseSequence() {
+      SeqNode seq = new SeqNode();
+      while (more() && peek() != '|' && peek() != ')') {
+        Node atom = parseAtom();
+        if (atom instanceof AssertNode) seq.nodes.add(atom);
+        else seq.nodes.add(parseQuantifier(atom));
+      }
+      return seq.nodes.size() == 1 ? seq.nodes.get(0) : seq;
+    }
+
+    private Node parseQuantifier(Node atom) {
+      if (!more()) return atom;
+      int start = pos;
+      int min, max;
+      char c = peek();
+      if (c == '*') {
+        pos++;
+        min = 0;
+        max = -1;
+      } else if (c == '+') {
+        pos++;
+        min = 1;
+        max = -1;
+      } else if (c == '?') {
+        pos++;
+        min = 0;
+        max = 1;
+      } else if (c == '{') {
+        pos++;
+        min = parseInt();
+        max = min;
+        if (min >= 0 && accept(',')) max = more() && peek() == '}' ? -1 : parseInt();
+        if (min < 0 || !accept('}')) {
+          // Not a quantifier, so { is a literal
+          pos = start;
+          return atom;
+        }
+        if (max != -1 && max < min) throw error("Numbers out of order in quantifier");
+      } else {
+        return atom;
+      }
+      // Lazy quantifiers find the same matches
+      accept('?');
+      if (more() && isQuantifierStart()) throw error("Nothing to repeat");
+      return new RepeatNode(atom, min, max);
+    }
+
+    private boolean isQuantifierStart() {
+      char c = peek();
+      return c == '*' || c == '+' || c == '?';
+    }
+
+    private int parseInt() {
+      int start = pos;
+      long value = 0;
+      while (more() && peek() >= '0' && peek() <= '9') {
+        value = Math.min(value * 10 + (peek() - '0'), Integer.MAX_VALUE);
+        pos++;
+      }
+      return pos == start ? -1 : (int) value;
+    }
+
+    private Node parseAtom() {
+      char c = pattern.charAt(pos++);
+      switch (c) {
+        case '^':
+          return new AssertNode(BEGIN);
+        case '$':
+          return new AssertNode(END);
+        case '.':
+          return new CharNode(CharMatcher.ANY_BUT_LINE_TERMINATOR);
+        case '(':
+          if (accept('?')) {
+            if (!accept(':')) throw error("Lookarounds and named groups are not supported");
+          }
+          Node group = parseAlternation();
+          if (!accept(')')) throw error("Unclosed group");
+          return group;
+        case '[':
+          return new CharNode(parseClass());
+        case '\\':
+          return parseAtomEscape();
+        case '*':
+        case '+':
+        case '?':
+          throw error("Nothing to repeat");
+        default:
+          return literal(c);
+      }
+    }
+
+    private Node parseAtomEscape() {
+      if (!more()) throw error("Pattern can't end with \\");
+      char c = peek();
+      if (c == 'b') {
+        pos++;
+        return new AssertNode(WORD_BOUNDARY);
+      }
+      if (c == 'B') {
+        pos++;
+        return new AssertNode(NOT_WORD_BOUNDARY);
+      }
+      if (c >= '1' && c <= '9') throw error("Backreferences are not supported");
+      if (c == 'k' && pos + 1 < pattern.length() && pattern.charAt(pos + 1) == '<')
+        throw error("Backreferences are not supported");
+      return new CharNode(parseCharEscape(false));
+    }
+
+    /**
+     * Parse the escape after \ in atoms and classes
+     */
+    private CharMatcher parseCharEscape(boolean inClass) {
+      char c = pattern.charAt(pos++);
+      switch (c) {
+        case 'd':
+          return CharMatcher.DIGIT;
+        case 'D':
+          return CharMatcher.DIGIT.negate();
+        case 'w':
+          return CharMatcher.WORD;
+        case 'W':
+          return CharMatcher.WORD.negate();
+        case 's':
+          return CharMatcher.SPACE;
+        case 'S':
+          return CharMatcher.SPACE.negate();
+        default:
+          return single(parseSingleCharEscape(c, inClass));
+      }
+    }
+
+    private char parseSingleCharEscape(char c, boolean inClass) {
+      switch (c) {
+        case 't':
+          return '\t';
+        case 'n':
+          return '\n';
+        case 'v':
+          return '\u000b';
+        case 'f':
+          return '\f';
+        case 'r':
+          return '\r';
+        case 'b':
+          // Only reachable in classes
+          return '\b';
+        case '0':
+          if (more() && peek() >= '0' && peek() <= '9') throw error("Octal escapes are not supported");
+          return '\0';
+        case 'c':
+          if (more() && Character.isLetter(peek()) && peek() < 128) return (char) (pattern.charAt(pos++) % 32);
+          // Annex B: \c not followed by a letter is a literal backslash
+          pos--;
+          return '\\';
+        case 'x': {
+          int value = parseHex(2);
+          return value < 0 ? 'x' : (char) value;
+        }
+        case 'u': {
+          int value = parseHex(4);
+          return value < 0 ? 'u' : (char) value;
+        }
+        default:
+          if (inClass && c >= '1' && c <= '9') throw error("Octal escapes are not supported");
+          return c;
+      }
+    }
+
+    private int parseHex(int digits) {
+      if (pos + digits > pattern.length()) return -1;
+      int value = 0;
+      for (int i = 0; i < digits; i++) {
+        int d = Character.digit(pattern.charAt(pos + i), 16);
+        if (d < 0) return -1;
+        value = value * 16 + d;
+      }
+      pos += digits;
+      return value;
+    }
+
+    private CharMatcher parseClass() {
+      boolean negated = accept('^');
+      List<CharMatcher> items = new ArrayList<>();
+      while (true) {
+        if (!more()) throw error("Unclosed character class");
+        if (accept(']')) break;
+        CharMatcher from = parseClassAtom();
+        Character fromChar = lastSingle;
+        if (more() && peek() == '-' && pos + 1 < pattern.length() && pattern.charAt(pos + 1) != ']') {
+          pos++;
+          CharMatcher to = parseClassAtom();
+          Character toChar = lastSingle;
+          if (fromChar != null && toChar != null) {
+            if (fromChar > toChar) throw error("Range out of order in character class");
+            char lo = fromChar, hi = toChar;
+            items.add(c -> c >= lo && c <= hi);
+          } else {
+            // Annex B: a range with a class escape is a union with -
+            items.add(from);
+            items.add(single('-'));
+            items.add(to);
+          }
+        } else {
+          items.add(from);
+        }
+      }
+      return new ClassMatcher(items, negated);
+    }
+
+    // Character parsed by the last parseClassAtom, or null if it was a class escape
+    private Character lastSingle;
+
+    private CharMatcher parseClassAtom() {
+      lastSingle = null;
+      char c = pattern.charAt(pos++);
+      if (c != '\\') {
+        lastSingle = c;
+        return single(c);
+      }
+      if (!more()) throw error("Pattern can't end with \\");
+      char e = peek();
+      if ("dDwWsS".indexOf(e) >= 0) return parseCharEscape(true);
+      pos++;
+      char value = parseSingleCharEscape(e, true);
+      lastSingle = value;
+      return single(value);
+    }
+
+    private Node literal(char c) {
+      return new CharNode(single(c));
+    }
+
+    private static CharMatcher single(char expected) {
+      return c -> c == expected;
+    }
+  }
+}
@@ -35,11 +35,21 @@ public class MaxItemsValidatorFactory implements ValidatorFactory {
       this.maximum = maximum;
     }
 
+    @Override
+    public JsonSchemaType getApplicableType() {
+      return JsonSchemaType.ARRAY;
+    }
+
+    @Override
+    public int getCost() {
+      return 1;
+    }
+
     @Override
     public void validate(Object value) throws ValidationException {
       if (value instanceof JsonArray) {
         if (((JsonArray) value).size() > maximum) {
-          throw NO_MATCH.createException("provided array should have size <= " + maximum, "maxItems", value);
+          throw NO_MATCH.createLazyException("provided array should have size <= ", maximum, "maxItems", value);
         }
       }
     }
@@ -35,11 +35,21 @@ public class MinItemsValidatorFactory implements ValidatorFactory {
       this.minimum = minimum;
     }
 
+    @Override
+    public JsonSchemaType getApplicableType() {
+      return JsonSchemaType.ARRAY;
+    }
+
+    @Override
+    public int getCost() {
+      return 1;
+    }
+
     @Override
     public void validate(Object value) throws ValidationException {
       if (value instanceof JsonArray) {
         if (((JsonArray) value).size() < minimum) {
-          throw NO_MATCH.createException("provided array should have size >= " + minimum, "minItems", value);
+          throw NO_MATCH.createLazyException("provided array should have size >= ", minimum, "minItems", value);
         }
       }
     }
@@ -35,6 +35,21 @@ public class NotValidatorFactory implements ValidatorFactory {
       this.schema = schema;
     }
 
+    @Override
+    public boolean isSync() {
+      return schema.isSync();
+    }
+
+    @Override
+    public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+      try {
+        schema.validateSync(in);
+      } catch (ValidationException e) {
+        return;
+      }
+      throw NO_MATCH.createException("input should be invalid", "not", in);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Future<Void> validate(Object in) {
@@ -0,0 +1,221 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.ext.json.schema.SyncValidator;
+import io.vertx.ext.json.schema.ValidationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
+
+/**
+ * Validates minimum, maximum (inclusive or exclusive) and multipleOf with a single validator. <br/>
+ * Numbers are compared with the decimal value written in json, so {@code 0.3} is a multiple of {@code 0.1}:
+ * integers use long arithmetic, doubles use double comparisons when bounds are exact doubles, while all other cases
+ * use {@link BigDecimal}
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class NumericValidator implements SyncValidator {
+
+  // Integers up to this magnitude are exact doubles
+  private static final double MAX_EXACT_DOUBLE_INTEGER = 9007199254740992d;
+  private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+  private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+  private final Number minimum;
+  private final Number maximum;
+  private final String minimumKeyword;
+  private final String maximumKeyword;
+  private final boolean exclusiveMinimum;
+  private final boolean exclusiveMaximum;
+  private final Number multipleOf;
+
+  private final BigDecimal minimumDecimal;
+  private final BigDecimal maximumDecimal;
+  private final BigDecimal multipleOfDecimal;
+
+  // Valid longs are in [minimumLong, maximumLong]. When a bound can't be expressed with a long, longBounds is false
+  private final boolean longBounds;
+  private final long minimumLong;
+  private final long maximumLong;
+  // multipleOf as long, or 0 if it's not an integer in long range
+  private final long multipleOfLong;
+
+  // True if both bounds are exact doubles, so double comparisons are exact
+  private final boolean doubleBounds;
+  private final double minimumDouble;
+  private final double maximumDouble;
+
+  /**
+   * @param minimum          null if not present
+   * @param minimumKeyword   keyword reported by minimum errors
+   * @param exclusiveMinimum
+   * @param maximum          null if not present
+   * @param maximumKeyword   keyword reported by maximum errors
+   * @param exclusiveMaximum
+   * @param multipleOf       null if not present
+   */
+  public NumericValidator(Number minimum, String minimumKeyword, boolean exclusiveMinimum,
+                          Number maximum, String maximumKeyword, boolean exclusiveMaximum,
+                          Number multipleOf) {
+    this.minimum = minimum;
+    this.maximum = maximum;
+    this.minimumKeyword = minimumKeyword;
+    this.maximumKeyword = maximumKeyword;
+    this.exclusiveMinimum = exclusiveMinimum;
+    this.exclusiveMaximum = exclusiveMaximum;
+    this.multipleOf = multipleOf;
+
+    this.minimumDecimal = minimum != null ? toDecimal(minimum) : null;
+    this.maximumDecimal = maximum != null ? toDecimal(maximum) : null;
+    this.multipleOfDecimal = multipleOf != null ? toDecimal(multipleOf) : null;
+
+    BigDecimal minLong = minimumDecimal == null ? LONG_MIN :
+        exclusiveMinimum ? minimumDecimal.setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE) : minimumDecimal.setScale(0, RoundingMode.CEILING);
+    BigDecimal maxLong = maximumDecimal == null ? LONG_MAX :
+        exclusiveMaximum ? maximumDecimal.setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE) : maximumDecimal.setScale(0, RoundingMode.FLOOR);
+    this.longBounds = minLong.compareTo(LONG_MAX) <= 0 && maxLong.compareTo(LONG_MIN) >= 0;
+    this.minimumLong = minLong.max(LONG_MIN).min(LONG_MAX).longValue();
+    this.maximumLong = maxLong.max(LONG_MIN).min(LONG_MAX).longValue();
+    this.multipleOfLong = multipleOfDecimal != null && isLong(multipleOfDecimal) ? multipleOfDecimal.longValueExact() : 0;
+
+    this.doubleBounds = isExactDouble(minimumDecimal) && isExactDouble(maximumDecimal);
+    this.minimumDouble = minimum != null ? minimum.doubleValue() : Double.NEGATIVE_INFINITY;
+    this.maximumDouble = maximum != null ? maximum.doubleValue() : Double.POSITIVE_INFINITY;
+  }
+
+  @Override
+  public JsonSchemaType getApplicableType() {
+    return JsonSchemaType.NUMBER;
+  }
+
+  @Override
+  public int getCost() {
+    return multipleOf != null ? 2 : 1;
+  }
+
+  @Override
+  public void validate(Object value) throws ValidationException {
+    if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      validateLong(((Number) value).longValue(), value);
+    } else if (value instanceof Double) {
+      validateDouble(((Number) value).doubleValue(), value);
+    } else if (value instanceof Number) {
+      validateDecimal(toDecimal((Number) value), value);
+    }
+  }
+
+  private void validateLong(long l, Object value) {
+    if (!longBounds) {
+      validateDecimal(BigDecimal.valueOf(l), value);
+      return;
+    }
+    if (l < minimumLong) throw minimumError(value);
+    if (l > maximumLong) throw maximumError(value);
+    if (multipleOf != null) {
+      boolean multiple = multipleOfLong != 0 ? l % multipleOfLong == 0 : isMultiple(BigDecimal.valueOf(l));
+      if (!multiple) throw multipleOfError(value);
+    }
+  }
+
+  private void validateDouble(double d, Object value) {
+    if (Double.isNaN(d) || Double.isInfinite(d)) {
+      // Not representable as decimals
+      if (exclusiveMinimum ? d <= minimumDouble : d < minimumDouble) throw minimumError(value);
+      if (exclusiveMaximum ? d >= maximumDouble : d > maximumDouble) throw maximumError(value);
+      if (multipleOf != null) throw multipleOfError(value);
+      return;
+    }
+    BigDecimal decimal = null;
+    if (doubleBounds) {
+      if (exclusiveMinimum ? d <= minimumDouble : d < minimumDouble) throw minimumError(value);
+      if (exclusiveMaximum ? d >= maximumDouble : d > maximumDouble) throw maximumError(value);
+    } else {
+      decimal = toDecimal(d);
+      checkDecimalBounds(decimal, value);
+    }
+    if (multipleOf != null) {
+      boolean multiple;
+      if (multipleOfLong != 0 && d == Math.rint(d) && Math.abs(d) <= MAX_EXACT_DOUBLE_INTEGER)
+        multiple = ((long) d) % multipleOfLong == 0;
+      else
+        multiple = isMultiple(decimal != null ? decimal : toDecimal(d));
+      if (!multiple) throw multipleOfError(value);
+    }
+  }
+
+  private void validateDecimal(BigDecimal decimal, Object value) {
+    checkDecimalBounds(decimal, value);
+    if (multipleOf != null && !isMultiple(decimal)) throw multipleOfError(value);
+  }
+
+  private void checkDecimalBounds(BigDecimal decimal, Object value) {
+    if (minimumDecimal != null) {
+      int c = decimal.compareTo(minimumDecimal);
+      if (exclusiveMinimum ? c <= 0 : c < 0) throw minimumError(value);
+    }
+    if (maximumDecimal != null) {
+      int c = decimal.compareTo(maximumDecimal);
+      if (exclusiveMaximum ? c >= 0 : c > 0) throw maximumError(value);
+    }
+  }
+
+  private boolean isMultiple(BigDecimal decimal) {
+    return decimal.remainder(multipleOfDecimal).signum() == 0;
+  }
+
+  private ValidationException minimumError(Object value) {
+    return NO_MATCH.createLazyException(exclusiveMinimum ? "value should be > " : "value should be >= ", minimum, minimumKeyword, value);
+  }
+
+  private ValidationException maximumError(Object value) {
+    return NO_MATCH.createLazyException(exclusiveMaximum ? "value should be < " : "value should be <= ", maximum, maximumKeyword, value);
+  }
+
+  private ValidationException multipleOfError(Object value) {
+    return NO_MATCH.createLazyException("provided number should be multiple of ", multipleOf, "multipleOf", value);
+  }
+
+  /**
+   * Compare two json numbers
+   *
+   * @param a
+   * @param b
+   * @return
+   */
+  public static int compare(Number a, Number b) {
+    return toDecimal(a).compareTo(toDecimal(b));
+  }
+
+  private static boolean isLong(BigDecimal d) {
+    return d.signum() == 0 || (d.stripTrailingZeros().scale() <= 0 && d.compareTo(LONG_MIN) >= 0 && d.compareTo(LONG_MAX) <= 0);
+  }
+
+  private static boolean isExactDouble(BigDecimal d) {
+    if (d == null) return true;
+    double asDouble = d.doubleValue();
+    return !Double.isInfinite(asDouble) && toDecimal(asDouble).compareTo(d) == 0;
+  }
+
+  private static BigDecimal toDecimal(double d) {
+    // The shortest decimal that identifies the double, that is the number written in json
+    return new BigDecimal(Double.toString(d));
+  }
+
+  /**
+   * Convert a json number to the decimal written in json
+   *
+   * @param n
+   * @return
+   */
+  static BigDecimal toDecimal(Number n) {
+    if (n instanceof BigDecimal) return (BigDecimal) n;
+    if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) return BigDecimal.valueOf(n.longValue());
+    if (n instanceof Double) return toDecimal(n.doubleValue());
+    if (n instanceof Float) return new BigDecimal(Float.toString(n.floatValue()));
+    if (n instanceof BigInteger) return new BigDecimal((BigInteger) n);
+    return new BigDecimal(n.toString());
+  }
+}
@@ -0,0 +1,364 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
+
+/**
+ * Validates properties, patternProperties, additionalProperties, required, dependencies, propertyNames, minProperties
+ * and maxProperties with a single validator. <br/>
+ * Size bounds are checked before touching the entries, then all the other keywords are evaluated walking the entries
+ * of the input once. When no keyword needs the entries the walk is skipped. <br/>
+ * Each input key needs a single probe of a {@link PropertyTable} and found required keys are marked in a bitmask,
+ * so the missing ones are found without looking up the required keys in the input
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class ObjectValidator implements AsyncValidator {
+
+  // Everything the schema declares about a key, so each input key needs one lookup
+  private static final class DeclaredKey {
+    Schema schema;
+    // Bit of the key in the required bitmask, -1 if the key is not required
+    int requiredIndex = -1;
+    Set<String> dependencies;
+    Schema schemaDependency;
+  }
+
+  private final int minProperties;
+  private final int maxProperties;
+  private final List<String> required;
+  private final PropertyTable<DeclaredKey> declaredKeys;
+  private final List<DeclaredKey> declaredKeysList;
+  private final PatternSet patterns;
+  private final Schema[] patternSchemas;
+  private final boolean allowAdditionalProperties;
+  private final Schema additionalPropertiesSchema;
+  private final Schema propertyNames;
+  // Memoized check of propertyNames, null if not memoized
+  private final Predicate<String> validPropertyName;
+  private final boolean walkEntries;
+  private final boolean hasSubschemas;
+
+  /**
+   * @param minProperties              0 if not present
+   * @param maxProperties              {@link Integer#MAX_VALUE} if not present
+   * @param required                   empty if not present
+   * @param properties                 empty if not present
+   * @param patternProperties          empty if not present
+   * @param allowAdditionalProperties  false if additionalProperties is false
+   * @param additionalPropertiesSchema null if additionalProperties is not a schema
+   * @param keyDependencies            property dependencies, empty if not present
+   * @param schemaDependencies         schema dependencies, empty if not present
+   * @param propertyNames              null if not present
+   * @param cache                      memoizes the propertyNames checks
+   */
+  public ObjectValidator(int minProperties, int maxProperties, Collection<String> required,
+                         Map<String, Schema> properties, Map<RegexEngine.Regex, Schema> patternProperties,
+                         boolean allowAdditionalProperties, Schema additionalPropertiesSchema,
+                         Map<String, Set<String>> keyDependencies, Map<String, Schema> schemaDependencies,
+                         Schema propertyNames, StringPredicateCache cache) {
+    this.minProperties = minProperties;
+    this.maxProperties = maxProperties;
+    this.required = new ArrayList<>(new LinkedHashSet<>(required));
+    Map<String, DeclaredKey> declared = new HashMap<>();
+    properties.forEach((k, s) -> declared.computeIfAbsent(k, n -> new DeclaredKey()).schema = s);
+    for (int i = 0; i < this.required.size(); i++)
+      declared.computeIfAbsent(this.required.get(i), n -> new DeclaredKey()).requiredIndex = i;
+    keyDependencies.forEach((k, deps) -> declared.computeIfAbsent(k, n -> new DeclaredKey()).dependencies = deps);
+    schemaDependencies.forEach((k, s) -> declared.computeIfAbsent(k, n -> new DeclaredKey()).schemaDependency = s);
+    this.declaredKeys = new PropertyTable<>(declared);
+    this.declaredKeysList = new ArrayList<>(declared.values());
+    this.patterns = new PatternSet(patternProperties.keySet().toArray(new RegexEngine.Regex[0]));
+    this.patternSchemas = patternProperties.values().toArray(new Schema[0]);
+    this.allowAdditionalProperties = allowAdditionalProperties;
+    this.additionalPropertiesSchema = additionalPropertiesSchema;
+    this.propertyNames = propertyNames;
+    this.validPropertyName = cache.memoizeValidation(propertyNames);
+    this.walkEntries = !declaredKeys.isEmpty() || patterns.size() != 0 || !allowAdditionalProperties ||
+        additionalPropertiesSchema != null || propertyNames != null;
+    this.hasSubschemas = !properties.isEmpty() || patterns.size() != 0 || additionalPropertiesSchema != null ||
+        !schemaDependencies.isEmpty() || propertyNames != null;
+  }
+
+  @Override
+  public JsonSchemaType getApplicableType() {
+    return JsonSchemaType.OBJECT;
+  }
+
+  @Override
+  public int getCost() {
+    if (hasSubschemas) return 100;
+    return walkEntries ? 3 : 1;
+  }
+
+  @Override
+  public boolean isSync() {
+    for (DeclaredKey declared : declaredKeysList) {
+      if (declared.schema != null && !declared.schema.isSync()) return false;
+      if (declared.schemaDependency != null && !declared.schemaDependency.isSync()) return false;
+    }
+    for (Schema s : patternSchemas) if (!s.isSync()) return false;
+    return (additionalPropertiesSchema == null || additionalPropertiesSchema.isSync()) &&
+        (propertyNames == null || propertyNames.isSync());
+  }
+
+  @Override
+  public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+    if (!(in instanceof JsonObject)) return;
+    JsonObject obj = (JsonObject) in;
+    int size = obj.size();
+    if (size > maxProperties) throw maxPropertiesError(in);
+    if (size < minProperties) throw minPropertiesError(in);
+    if (!walkEntries) return;
+    if (size < required.size()) throw requiredError(firstMissingRequired(obj), in);
+    long[] requiredFound = requiredBitmask();
+    for (Map.Entry<String, Object> entry : obj) {
+      String key = entry.getKey();
+      Object value = entry.getValue();
+      if (propertyNames != null && (validPropertyName == null || !validPropertyName.test(key))) {
+        try {
+          propertyNames.validateSync(key);
+        } catch (ValidationException e) {
+          throw propertyNamesError(e, in);
+        }
+      }
+      boolean found = false;
+      DeclaredKey declared = declaredKeys.get(key);
+      if (declared != null) {
+        if (declared.requiredIndex >= 0) markRequired(requiredFound, declared.requiredIndex);
+        if (declared.dependencies != null && !containsAll(obj, declared.dependencies))
+          throw dependenciesError(key, declared.dependencies, in);
+        if (declared.schemaDependency != null) declared.schemaDependency.validateSync(in);
+        if (declared.schema != null) {
+          declared.schema.validateSync(value);
+          found = true;
+        }
+      }
+      for (int i : patterns.matching(key)) {
+        patternSchemas[i].validateSync(value);
+        found = true;
+      }
+      if (!found) {
+        if (!allowAdditionalProperties) throw additionalPropertiesError(in);
+        if (additionalPropertiesSchema != null) {
+          try {
+            additionalPropertiesSchema.validateSync(value);
+          } catch (ValidationException e) {
+            throw NO_MATCH.createException("additionalProperties schema should match", e, "additionalProperties", in);
+          }
+        }
+      }
+    }
+    if (requiredFound != null) {
+      int missing = firstMissingRequired(requiredFound);
+      if (missing >= 0) throw requiredError(required.get(missing), in);
+    }
+  }
+
+  @Override
+  public void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+    if (!(in instanceof JsonObject)) return;
+    JsonObject obj = (JsonObject) in;
+    int size = obj.size();
+    if (size > maxProperties) collector.add(maxPropertiesError(in), inputLocation);
+    if (size < minProperties) collector.add(minPropertiesError(in), inputLocation);
+    if (!walkEntries) return;
+    long[] requiredFound = requiredBitmask();
+    for (Map.Entry<String, Object> entry : obj) {
+      String key = entry.getKey();
+      Object value = entry.getValue();
+      JsonPointer propertyLocation = inputLocation.copy().append(key);
+      if (propertyNames != null && (validPropertyName == null || !validPropertyName.test(key))) {
+        try {
+          propertyNames.validateSync(key);
+        } catch (ValidationException e) {
+          collector.add(propertyNamesError(e, in), inputLocation);
+        }
+      }
+      boolean found = false;
+      DeclaredKey declared = declaredKeys.get(key);
+      if (declared != null) {
+        if (declared.requiredIndex >= 0) markRequired(requiredFound, declared.requiredIndex);
+        if (declared.dependencies != null && !containsAll(obj, declared.dependencies))
+          collector.add(dependenciesError(key, declared.dependencies, in), inputLocation);
+        if (declared.schemaDependency != null) declared.schemaDependency.collectErrors(in, inputLocation, collector);
+        if (declared.schema != null) {
+          declared.schema.collectErrors(value, propertyLocation, collector);
+          found = true;
+        }
+      }
+      for (int i : patterns.matching(key)) {
+        patternSchemas[i].collectErrors(value, propertyLocation, collector);
+        found = true;
+      }
+      if (!found) {
+        if (!allowAdditionalProperties) collector.add(additionalPropertiesError(in), propertyLocation);
+        else if (additionalPropertiesSchema != null)
+          additionalPropertiesSchema.collectErrors(value, propertyLocation, collector);
+      }
+    }
+    if (requiredFound != null) {
+      for (int i = firstMissingRequired(requiredFound); i >= 0; i = nextMissingRequired(requiredFound, i + 1))
+        collector.add(requiredError(required.get(i), in), inputLocation);
+    }
+  }
+
+  @Override
+  public Future<Void> validate(Object in) {
+    if (!(in instanceof JsonObject)) return Future.succeededFuture();
+    JsonObject obj = (JsonObject) in;
+    int size = obj.size();
+    if (size > maxProperties) return Future.failedFuture(maxPropertiesError(in));
+    if (size < minProperties) return Future.failedFuture(minPropertiesError(in));
+    if (!walkEntries) return Future.succeededFuture();
+    if (size < required.size()) return Future.failedFuture(requiredError(firstMissingRequired(obj), in));
+    List<Future> futs = new ArrayList<>();
+    long[] requiredFound = requiredBitmask();
+    for (Map.Entry<String, Object> entry : obj) {
+      String key = entry.getKey();
+      Object value = entry.getValue();
+      if (propertyNames != null) {
+        Future<Void> fut = propertyNames.validate(key);
+        if (fut.isComplete()) {
+          if (fut.failed()) return Future.failedFuture(propertyNamesError(fut.cause(), in));
+        } else {
+          futs.add(fut.recover(t -> Future.failedFuture(propertyNamesError(t, in))));
+        }
+      }
+      boolean found = false;
+      DeclaredKey declared = declaredKeys.get(key);
+      if (declared != null) {
+        if (declared.requiredIndex >= 0) markRequired(requiredFound, declared.requiredIndex);
+        if (declared.dependencies != null && !containsAll(obj, declared.dependencies))
+          return Future.failedFuture(dependenciesError(key, declared.dependencies, in));
+        if (declared.schemaDependency != null) {
+          Future<Void> fut = declared.schemaDependency.validate(in);
+          if (!addFuture(fut, futs)) return fut;
+        }
+        if (declared.schema != null) {
+          Future<Void> fut = declared.schema.validate(value);
+          if (!addFuture(fut, futs)) return fut;
+          found = true;
+        }
+      }
+      for (int i : patterns.matching(key)) {
+        Future<Void> fut = patternSchemas[i].validate(value);
+        if (!addFuture(fut, futs)) return fut;
+        found = true;
+      }
+      if (!found) {
+        if (!allowAdditionalProperties) return Future.failedFuture(additionalPropertiesError(in));
+        if (additionalPropertiesSchema != null) {
+          Future<Void> fut = additionalPropertiesSchema.validate(value);
+          if (fut.isComplete()) {
+            if (fut.failed()) return fillAdditionalPropertyException(fut.cause(), in);
+          } else {
+            futs.add(fut.recover(t -> fillAdditionalPropertyException(t, in)));
+          }
+        }
+      }
+    }
+    if (requiredFound != null) {
+      int missing = firstMissingRequired(requiredFound);
+      if (missing >= 0) return Future.failedFuture(requiredError(required.get(missing), in));
+    }
+    if (futs.isEmpty()) return Future.succeededFuture();
+    else return CompositeFuture.all(futs).compose(cf -> Future.succeededFuture());
+  }
+
+  /**
+   * Add the future to the pending ones if it's not completed yet
+   *
+   * @param fut
+   * @param futs
+   * @return false if the future already failed
+   */
+  private boolean addFuture(Future<Void> fut, List<Future> futs) {
+    if (!fut.isComplete()) futs.add(fut);
+    return !fut.failed();
+  }
+
+  private boolean containsAll(JsonObject obj, Set<String> keys) {
+    for (String k : keys) if (!obj.containsKey(k)) return false;
+    return true;
+  }
+
+  private String firstMissingRequired(JsonObject obj) {
+    for (String k : required) if (!obj.containsKey(k)) return k;
+    return null;
+  }
+
+  /**
+   * Returns the bitmask of the found required keys, or null if there are no required keys
+   *
+   * @return
+   */
+  private long[] requiredBitmask() {
+    return required.isEmpty() ? null : new long[(required.size() + 63) >>> 6];
+  }
+
+  private static void markRequired(long[] bitmask, int index) {
+    bitmask[index >>> 6] |= 1L << index;
+  }
+
+  private int firstMissingRequired(long[] bitmask) {
+    return nextMissingRequired(bitmask, 0);
+  }
+
+  /**
+   * Returns the index of the first required key not found starting from {@code from}, or -1 if all were found
+   *
+   * @param bitmask
+   * @param from
+   * @return
+   */
+  private int nextMissingRequired(long[] bitmask, int from) {
+    int word = from >>> 6;
+    if (word >= bitmask.length) return -1;
+    long missing = ~bitmask[word] & (-1L << from);
+    while (true) {
+      if (missing != 0) {
+        int i = (word << 6) + Long.numberOfTrailingZeros(missing);
+        return i < required.size() ? i : -1;
+      }
+      if (++word == bitmask.length) return -1;
+      missing = ~bitmask[word];
+    }
+  }
+
+  private ValidationException maxPropertiesError(Object in) {
+    return NO_MATCH.createLazyException("provided object should have size <= ", maxProperties, "maxProperties", in);
+  }
+
+  private ValidationException minPropertiesError(Object in) {
+    return NO_MATCH.createLazyException("provided object should have size >= ", minProperties, "minProperties", in);
+  }
+
+  private ValidationException requiredError(String key, Object in) {
+    return NO_MATCH.createLazyException("provided object should contain property ", key, "required", in);
+  }
+
+  private ValidationException dependenciesError(String key, Set<String> dependencies, Object in) {
+    return NO_MATCH.createException("dependencies of key " + key + " are not satisfied: " + dependencies.toString(), "dependencies", in);
+  }
+
+  private ValidationException propertyNamesError(Throwable cause, Object in) {
+    return NO_MATCH.createException("provided object contains a key not matching the propertyNames schema", cause, "propertyNames", in);
+  }
+
+  private ValidationException additionalPropertiesError(Object in) {
+    return NO_MATCH.createException("provided object should not contain additional properties", "additionalProperties", in);
+  }
+
+  private Future<Void> fillAdditionalPropertyException(Throwable t, Object in) {
+    return Future.failedFuture(NO_MATCH.createException("additionalProperties schema should match", t, "additionalProperties", in));
+  }
+}
@@ -6,10 +6,9 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
+
+import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
 
 public class OneOfValidatorFactory implements ValidatorFactory {
 
@@ -21,10 +20,13 @@ public class OneOfValidatorFactory implements ValidatorFactory {
         throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "oneOf must have at least one element");
       JsonPointer basePointer = scope.append("oneOf");
       List<Schema> parsedSchemas = new ArrayList<>();
+      BranchGuard[] guards = new BranchGuard[oneOfSchemas.size()];
       for (int i = 0; i < oneOfSchemas.size(); i++) {
-        parsedSchemas.add(parser.parse(oneOfSchemas.getValue(i), basePointer.copy().append(Integer.toString(i))));
+        Object branch = oneOfSchemas.getValue(i);
+        parsedSchemas.add(parser.parse(branch, basePointer.copy().append(Integer.toString(i))));
+        if (branch instanceof JsonObject) guards[i] = BranchGuard.create((JsonObject) branch, parser);
       }
-      return new OneOfValidator(parsedSchemas);
+      return new OneOfValidator(parsedSchemas, guards);
     } catch (ClassCastException e) {
       throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for oneOf keyword");
     } catch (NullPointerException e) {
@@ -37,17 +39,150 @@ public class OneOfValidatorFactory implements ValidatorFactory {
     return schema.containsKey("oneOf");
   }
 
+  /**
+   * Cheap checks of a branch that reject, without running the branch schema, the inputs that the branch can't match:
+   * inputs with a type not allowed by {@code type}, objects without a {@code required} property and objects with a
+   * property that doesn't match its single {@code const} or {@code enum} value (the discriminator of polymorphic
+   * schemas). Only keywords handled by the builtin validator factories of the parser are used
+   */
+  static final class BranchGuard {
+    private final Set<String> types;
+    private final String[] required;
+    private final Map<String, CanonicalJson.Constant> discriminators;
+
+    private BranchGuard(Set<String> types, String[] required, Map<String, CanonicalJson.Constant> discriminators) {
+      this.types = types;
+      this.required = required;
+      this.discriminators = discriminators;
+    }
+
+    /**
+     * Returns the guard of the provided branch, or null if the branch has nothing to check
+     */
+    static BranchGuard create(JsonObject branch, SchemaParser parser) {
+      // Keywords near $ref are ignored
+      if (branch.containsKey("$ref") || !(parser instanceof BaseSchemaParser)) return null;
+      List<ValidatorFactory> factories = ((BaseSchemaParser) parser).getValidatorFactories();
+      Set<String> types = null;
+      Object type = branch.getValue("type");
+      if (type != null && uses(factories, io.vertx.ext.json.schema.draft7.TypeValidatorFactory.class, io.vertx.ext.json.schema.openapi3.TypeValidatorFactory.class)) {
+        types = new HashSet<>();
+        if (type instanceof String) types.add((String) type);
+        else if (type instanceof JsonArray) for (Object t : (JsonArray) type) types.add(String.valueOf(t));
+        else types = null;
+      }
+      String[] required = null;
+      Object req = branch.getValue("required");
+      if (req instanceof JsonArray && uses(factories, BaseObjectValidatorFactory.class))
+        required = ((JsonArray) req).stream().filter(r -> r instanceof String).toArray(String[]::new);
+      Map<String, CanonicalJson.Constant> discriminators = new HashMap<>();
+      Object properties = branch.getValue("properties");
+      if (properties instanceof JsonObject && uses(factories, BaseObjectValidatorFactory.class)) {
+        for (Map.Entry<String, Object> e : (JsonObject) properties) {
+          if (!(e.getValue() instanceof JsonObject)) continue;
+          JsonObject property = (JsonObject) e.getValue();
+          if (property.containsKey("$ref")) continue;
+          if (property.containsKey("const") && uses(factories, ConstValidatorFactory.class))
+            discriminators.put(e.getKey(), new CanonicalJson.Constant(property.getValue("const")));
+          else if (property.getValue("enum") instanceof JsonArray && property.getJsonArray("enum").size() == 1 &&
+              uses(factories, EnumValidatorFactory.class))
+            discriminators.put(e.getKey(), new CanonicalJson.Constant(property.getJsonArray("enum").getValue(0)));
+        }
+      }
+      if (types == null && (required == null || required.length == 0) && discriminators.isEmpty()) return null;
+      return new BranchGuard(types, required, discriminators.isEmpty() ? null : discriminators);
+    }
+
+    private static boolean uses(List<ValidatorFactory> factories, Class<?>... factoryClasses) {
+      for (ValidatorFactory f : factories)
+        for (Class<?> c : factoryClasses) if (c.isInstance(f)) return true;
+      return false;
+    }
+
+    /**
+     * Returns true if the branch surely fails for the provided input
+     */
+    boolean rejects(Object in) {
+      if (types != null && !allowsType(in)) return true;
+      if (in instanceof JsonObject) {
+        JsonObject obj = (JsonObject) in;
+        if (required != null)
+          for (String r : required) if (!obj.containsKey(r)) return true;
+        if (discriminators != null)
+          for (Map.Entry<String, CanonicalJson.Constant> e : discriminators.entrySet()) {
+            Object value = obj.getValue(e.getKey());
+            if ((value != null || obj.containsKey(e.getKey())) && !e.getValue().matches(value)) return true;
+          }
+      }
+      return false;
+    }
+
+    private boolean allowsType(Object in) {
+      // Checks only the cases that are the same for every dialect, e.g. null can be allowed by nullable
+      if (in instanceof String) return types.contains("string");
+      if (in instanceof JsonObject) return types.contains("object");
+      if (in instanceof JsonArray) return types.contains("array");
+      if (in instanceof Boolean) return types.contains("boolean");
+      if (in instanceof Number) return types.contains("number") || types.contains("integer");
+      return true;
+    }
+  }
+
+  /**
+   * The sync validation evaluates the branches in order and stops at the second match, skipping the branches
+   * rejected by their {@link BranchGuard}
+   */
   class OneOfValidator implements AsyncValidator {
 
-    private Schema[] schemas;
+    private final Schema[] schemas;
+    private final BranchGuard[] guards;
 
     public OneOfValidator(List<Schema> schemas) {
+      this(schemas, new BranchGuard[schemas.size()]);
+    }
+
+    OneOfValidator(List<Schema> schemas, BranchGuard[] guards) {
       this.schemas = schemas.toArray(new Schema[schemas.size()]);
+      this.guards = guards;
+    }
+
+    @Override
+    public int getCost() {
+      return 100 * schemas.length;
+    }
+
+    @Override
+    public boolean isSync() {
+      for (Schema s : schemas) if (!s.isSync()) return false;
+      return true;
+    }
+
+    private boolean rejects(int i, Object in) {
+      return guards[i] != null && guards[i].rejects(in);
+    }
+
+    @Override
+    public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+      int matched = 0;
+      for (int i = 0; i < schemas.length && matched < 2; i++) {
+        if (rejects(i, in)) continue;
+        try {
+          schemas[i].validateSync(in);
+          matched++;
+        } catch (ValidationException e) { }
+      }
+      if (matched != 1)
+        throw NO_MATCH.createLazyException("input should match exactly one oneOf subschema, matched ", matched, "oneOf", in);
     }
 
     @Override
     public Future<Void> validate(Object in) {
-      return FutureUtils.oneOf(Arrays.stream(schemas).map(s -> s.validate(in)).collect(Collectors.toList()));
+      List<Future<Void>> results = new ArrayList<>();
+      for (int i = 0; i < schemas.length; i++)
+        if (!rejects(i, in)) results.add(schemas[i].validate(in));
+      if (results.isEmpty())
+        return Future.failedFuture(NO_MATCH.createLazyException("input should match exactly one oneOf subschema, matched ", 0, "oneOf", in));
+      return FutureUtils.oneOf(results);
     }
   }
 
@@ -0,0 +1,189 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.json.schema.NoSyncValidationException;
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.ValidationException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Validates the items of big arrays splitting them in chunks validated in an {@link Executor}, by default the
+ * {@link ForkJoinPool#commonPool()}. When an item fails, the items after it are not validated anymore. The reported
+ * error is always the one of the first invalid item, like in the sequential validation. <br/>
+ * {@link #validateSync(JsonArray, IntFunction, Executor)} waits for the chunks, while
+ * {@link #validate(JsonArray, IntFunction, Executor)} returns a future completed on the context of the caller. When
+ * {@link Schema#validate(Object)} runs a sync schema with {@link #nonBlocking(Runnable)}, the sync validation of big
+ * arrays throws {@link NoSyncValidationException}, so the schema falls back to the async validation and the caller
+ * is never blocked. The fallback runs with {@link #asyncOnly(Supplier)}, so the subschemas it validates don't try the
+ * sync validation again
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public final class ParallelItemsValidation {
+
+  // Don't split in chunks so small that the tasks overhead is bigger than the validation
+  static final int MIN_CHUNK_SIZE = 256;
+
+  // Depth of nonBlocking and asyncOnly calls running in the current thread
+  private static final ThreadLocal<int[]> NON_BLOCKING = ThreadLocal.withInitial(() -> new int[2]);
+
+  private ParallelItemsValidation() { }
+
+  /**
+   * Run the provided sync validation, making the validation of big arrays throw {@link NoSyncValidationException}
+   * instead of waiting for the chunks
+   *
+   * @param validation
+   */
+  public static void nonBlocking(Runnable validation) {
+    int[] depth = NON_BLOCKING.get();
+    depth[0]++;
+    try {
+      validation.run();
+    } finally {
+      depth[0]--;
+    }
+  }
+
+  /**
+   * Run the provided async validation, started after a sync validation failed with {@link NoSyncValidationException}.
+   * While it runs, {@link #isAsyncOnly()} returns true, so the schemas it validates in this thread go straight to
+   * the async validation instead of trying the sync one again
+   *
+   * @param validation
+   * @return the future returned by the validation
+   */
+  public static Future<Void> asyncOnly(Supplier<Future<Void>> validation) {
+    int[] depth = NON_BLOCKING.get();
+    depth[1]++;
+    try {
+      return validation.get();
+    } finally {
+      depth[1]--;
+    }
+  }
+
+  /**
+   * Returns true if the current thread is running an {@link #asyncOnly(Supplier)} validation
+   *
+   * @return
+   */
+  public static boolean isAsyncOnly() {
+    return NON_BLOCKING.get()[1] > 0;
+  }
+
+  /**
+   * Validate the provided items, waiting for the chunks validated in the provided executor
+   *
+   * @param items
+   * @param schemaForIndex returns the schema of the item at the provided index, or null if the item must not be validated
+   * @param executor
+   * @throws ValidationException the error of the first invalid item
+   * @throws NoSyncValidationException if called inside {@link #nonBlocking(Runnable)}
+   */
+  public static void validateSync(JsonArray items, IntFunction<Schema> schemaForIndex, Executor executor) throws ValidationException, NoSyncValidationException {
+    if (NON_BLOCKING.get()[0] > 0)
+      throw new NoSyncValidationException("Big arrays are validated in parallel without blocking the caller");
+    Chunks chunks = new Chunks(items, schemaForIndex, executor);
+    try {
+      chunks.run().join();
+    } catch (CompletionException e) {
+      // Rethrow unchecked exceptions (like NoSyncValidationException) of the tasks
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      throw e;
+    }
+    chunks.throwFirstError();
+  }
+
+  /**
+   * Validate the provided items in the provided executor, without blocking the caller
+   *
+   * @param items
+   * @param schemaForIndex returns the schema of the item at the provided index, or null if the item must not be validated
+   * @param executor
+   * @return a future failed with the error of the first invalid item, completed on the context of the caller if any
+   */
+  public static Future<Void> validate(JsonArray items, IntFunction<Schema> schemaForIndex, Executor executor) {
+    Context context = Vertx.currentContext();
+    Future<Void> result = Future.future();
+    Chunks chunks = new Chunks(items, schemaForIndex, executor);
+    chunks.run().whenComplete((v, t) -> {
+      Runnable complete = () -> {
+        if (t != null) result.fail(t instanceof CompletionException ? t.getCause() : t);
+        else {
+          try {
+            chunks.throwFirstError();
+            result.complete();
+          } catch (ValidationException e) {
+            result.fail(e);
+          }
+        }
+      };
+      if (context != null) context.runOnContext(x -> complete.run());
+      else complete.run();
+    });
+    return result;
+  }
+
+  private static final class Chunks {
+    private final JsonArray items;
+    private final IntFunction<Schema> schemaForIndex;
+    private final Executor executor;
+    private final int size;
+    private final int chunkSize;
+    private final ValidationException[] errors;
+    private final AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+
+    Chunks(JsonArray items, IntFunction<Schema> schemaForIndex, Executor executor) {
+      this.items = items;
+      this.schemaForIndex = schemaForIndex;
+      this.executor = executor;
+      this.size = items.size();
+      int parallelism = executor instanceof ForkJoinPool ?
+          ((ForkJoinPool) executor).getParallelism() :
+          Runtime.getRuntime().availableProcessors();
+      this.chunkSize = Math.max(MIN_CHUNK_SIZE, (size + parallelism * 4 - 1) / (parallelism * 4));
+      this.errors = new ValidationException[(size + chunkSize - 1) / chunkSize];
+    }
+
+    CompletableFuture<Void> run() {
+      CompletableFuture<?>[] tasks = new CompletableFuture<?>[errors.length];
+      for (int c = 0; c < errors.length; c++) {
+        int chunk = c;
+        tasks[c] = CompletableFuture.runAsync(() -> validateChunk(chunk), executor);
+      }
+      return CompletableFuture.allOf(tasks);
+    }
+
+    private void validateChunk(int chunk) {
+      int end = Math.min(size, (chunk + 1) * chunkSize);
+      for (int i = chunk * chunkSize; i < end; i++) {
+        // An item before this one already failed
+        if (firstFailure.get() < i) return;
+        Schema s = schemaForIndex.apply(i);
+        if (s == null) continue;
+        try {
+          s.validateSync(items.getValue(i));
+        } catch (ValidationException e) {
+          errors[chunk] = e;
+          firstFailure.accumulateAndGet(i, Math::min);
+          return;
+        }
+      }
+    }
+
+    void throwFirstError() throws ValidationException {
+      for (ValidationException e : errors) if (e != null) throw e;
+    }
+  }
+}
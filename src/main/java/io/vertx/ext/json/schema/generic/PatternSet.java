@@ -0,0 +1,284 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.ext.json.schema.RegexEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds all the patterns of a patternProperties keyword matching a key. <br/>
+ * When the patterns are created, each one is analyzed to find a literal substring that every match must contain:
+ * patterns made only of a literal (optionally anchored at the start) are solved without the regex engine, while the
+ * other patterns run only on keys containing their literal. Results are memoized per key, since the keys of
+ * validated objects repeat a lot
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public final class PatternSet {
+
+  private static final int[] NO_MATCHES = new int[0];
+  // Memo bounds: when the memo is full it's cleared, keys longer than the limit are never memoized
+  static final int MAX_MEMO_SIZE = 4096;
+  static final int MAX_MEMO_KEY_LENGTH = 256;
+
+  private enum Kind {
+    // The key must contain the literal
+    CONTAINS,
+    // The key must start with the literal
+    STARTS_WITH,
+    // The key must contain the literal, then the regex decides
+    PREFILTERED,
+    // Only the regex decides
+    REGEX
+  }
+
+  private final RegexEngine.Regex[] patterns;
+  private final Kind[] kinds;
+  private final String[] literals;
+  private final Map<String, int[]> memo;
+
+  /**
+   * @param patterns the compiled patterns, analyzed through their source {@link RegexEngine.Regex#pattern()}
+   */
+  public PatternSet(RegexEngine.Regex[] patterns) {
+    this.patterns = patterns;
+    this.kinds = new Kind[patterns.length];
+    this.literals = new String[patterns.length];
+    for (int i = 0; i < patterns.length; i++) analyze(i);
+    this.memo = new ConcurrentHashMap<>();
+  }
+
+  public int size() {
+    return patterns.length;
+  }
+
+  /**
+   * Returns the indexes of the patterns that find a match in the provided key, in ascending order. Don't modify the
+   * returned array
+   *
+   * @param key
+   * @return
+   */
+  public int[] matching(String key) {
+    if (patterns.length == 0) return NO_MATCHES;
+    if (key.length() > MAX_MEMO_KEY_LENGTH) return computeMatching(key);
+    int[] result = memo.get(key);
+    if (result == null) {
+      result = computeMatching(key);
+      if (memo.size() >= MAX_MEMO_SIZE) memo.clear();
+      memo.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns true if at least one pattern finds a match in the provided key
+   *
+   * @param key
+   * @return
+   */
+  public boolean matchesAny(String key) {
+    return matching(key).length != 0;
+  }
+
+  private int[] computeMatching(String key) {
+    int[] result = null;
+    int count = 0;
+    for (int i = 0; i < patterns.length; i++) {
+      if (!matches(i, key)) continue;
+      if (result == null) result = new int[patterns.length - i];
+      result[count++] = i;
+    }
+    if (result == null) return NO_MATCHES;
+    if (count == result.length) return result;
+    int[] trimmed = new int[count];
+    System.arraycopy(result, 0, trimmed, 0, count);
+    return trimmed;
+  }
+
+  private boolean matches(int i, String key) {
+    switch (kinds[i]) {
+      case CONTAINS:
+        return key.contains(literals[i]);
+      case STARTS_WITH:
+        return key.startsWith(literals[i]);
+      case PREFILTERED:
+        return key.contains(literals[i]) && patterns[i].find(key);
+      default:
+        return patterns[i].find(key);
+    }
+  }
+
+  private void analyze(int i) {
+    kinds[i] = Kind.REGEX;
+    String source = patterns[i].pattern();
+    boolean anchored = source.startsWith("^");
+    int start = anchored ? 1 : 0;
+    String fullLiteral = fullLiteral(source, start);
+    if (fullLiteral != null) {
+      kinds[i] = anchored ? Kind.STARTS_WITH : Kind.CONTAINS;
+      literals[i] = fullLiteral;
+      return;
+    }
+    String literal = requiredLiteral(source);
+    if (literal != null && !literal.isEmpty()) {
+      kinds[i] = Kind.PREFILTERED;
+      literals[i] = literal;
+    }
+  }
+
+  /**
+   * Returns the literal if the pattern from {@code start} is only made of literal characters, otherwise null
+   */
+  private static String fullLiteral(String source, int start) {
+    StringBuilder literal = new StringBuilder();
+    for (int i = start; i < source.length(); i++) {
+      char c = source.charAt(i);
+      if (c == '\\') {
+        if (i + 1 >= source.length() || Character.isLetterOrDigit(source.charAt(i + 1))) return null;
+        literal.append(source.charAt(++i));
+      } else if (isMetaChar(c)) {
+        return null;
+      } else {
+        literal.append(c);
+      }
+    }
+    return literal.toString();
+  }
+
+  /**
+   * Returns the longest literal that every match of the pattern must contain, or null if the analysis can't tell.
+   * Only literals outside groups are considered, while alternations and inline flags on the top level disable the analysis
+   */
+  private static String requiredLiteral(String source) {
+    List<String> runs = new ArrayList<>();
+    StringBuilder run = new StringBuilder();
+    int depth = 0;
+    for (int i = 0; i < source.length(); i++) {
+      char c = source.charAt(i);
+      switch (c) {
+        case '\\':
+          if (i + 1 >= source.length()) return null;
+          char escaped = source.charAt(++i);
+          if (escaped == 'Q' || escaped == 'E') return null;
+          if (depth == 0 && !Character.isLetterOrDigit(escaped)) run.append(escaped);
+          else {
+            i = skipEscape(source, i);
+            if (i < 0) return null;
+            breakRun(runs, run);
+          }
+          break;
+        case '[':
+          i = skipCharClass(source, i);
+          if (i < 0) return null;
+          breakRun(runs, run);
+          break;
+        case '(':
+          if (i + 2 < source.length() && source.charAt(i + 1) == '?' && ":=!<".indexOf(source.charAt(i + 2)) < 0)
+            return null;
+          depth++;
+          breakRun(runs, run);
+          break;
+        case ')':
+          depth--;
+          break;
+        case '|':
+          if (depth == 0) return null;
+          break;
+        case '?':
+        case '*':
+        case '{':
+          // The previous atom is optional, so it's not part of the literal
+          if (run.length() != 0) run.setLength(run.length() - 1);
+          breakRun(runs, run);
+          if (c == '{') {
+            i = source.indexOf('}', i);
+            if (i < 0) return null;
+          }
+          // Skip reluctant and possessive modifiers
+          if (i + 1 < source.length() && (source.charAt(i + 1) == '?' || source.charAt(i + 1) == '+')) i++;
+          break;
+        case '+':
+          breakRun(runs, run);
+          if (i + 1 < source.length() && (source.charAt(i + 1) == '?' || source.charAt(i + 1) == '+')) i++;
+          break;
+        case '.':
+        case '^':
+        case '$':
+          breakRun(runs, run);
+          break;
+        default:
+          if (depth == 0) run.append(c);
+      }
+    }
+    breakRun(runs, run);
+    String longest = null;
+    for (String r : runs) if (longest == null || r.length() > longest.length()) longest = r;
+    return longest;
+  }
+
+  /**
+   * Returns the index of the last char of the alphanumeric escape whose letter is at {@code i}, so the hex, octal or
+   * unicode digits and the names of the escape are not taken as literals. Returns -1 if the escape is malformed
+   */
+  private static int skipEscape(String source, int i) {
+    char escaped = source.charAt(i);
+    int last;
+    switch (escaped) {
+      case 'x':
+        last = (i + 1 < source.length() && source.charAt(i + 1) == '{') ? source.indexOf('}', i) : i + 2;
+        break;
+      case 'u':
+        last = i + 4;
+        break;
+      case 'c':
+        last = i + 1;
+        break;
+      case 'k':
+        last = source.indexOf('>', i);
+        break;
+      case 'p':
+      case 'P':
+      case 'N':
+        last = (i + 1 < source.length() && source.charAt(i + 1) == '{') ? source.indexOf('}', i) : i + 1;
+        break;
+      case '0':
+        // Up to 3 octal digits
+        last = i;
+        while (last < i + 3 && last + 1 < source.length() && source.charAt(last + 1) >= '0' && source.charAt(last + 1) <= '7') last++;
+        break;
+      default:
+        last = i;
+        // Back references can have more than one digit
+        if (escaped >= '1' && escaped <= '9')
+          while (last + 1 < source.length() && Character.isDigit(source.charAt(last + 1))) last++;
+    }
+    return last < source.length() ? last : -1;
+  }
+
+  private static void breakRun(List<String> runs, StringBuilder run) {
+    if (run.length() != 0) runs.add(run.toString());
+    run.setLength(0);
+  }
+
+  private static int skipCharClass(String source, int open) {
+    int depth = 0;
+    // A ] right after [ or [^ is a literal
+    int classStart = open;
+    for (int i = open; i < source.length(); i++) {
+      char c = source.charAt(i);
+      if (c == '\\') i++;
+      else if (c == '[') {
+        depth++;
+        classStart = i + 1 < source.length() && source.charAt(i + 1) == '^' ? i + 1 : i;
+      } else if (c == ']' && i > classStart + 1 && --depth == 0) return i;
+    }
+    return -1;
+  }
+
+  private static boolean isMetaChar(char c) {
+    return "()[]{}.*+?^$|".indexOf(c) >= 0;
+  }
+}
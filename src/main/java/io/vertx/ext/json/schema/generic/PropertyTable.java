@@ -0,0 +1,93 @@
+package io.vertx.ext.json.schema.generic;
+
+import java.util.Map;
+
+/**
+ * Immutable open addressing hash table from property names to values, built when the schema is parsed. <br/>
+ * The table looks for a multiplier that places every key in a different slot, so usually a lookup is a single probe.
+ * If no such multiplier is found in a few attempts, colliding keys use linear probing
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+final class PropertyTable<V> {
+
+  private static final int MAX_SEED_ATTEMPTS = 32;
+  private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+  private final String[] keys;
+  private final Object[] values;
+  private final int multiplier;
+  private final int shift;
+  private final int size;
+
+  PropertyTable(Map<String, V> map) {
+    this.size = map.size();
+    int bits = 1;
+    while ((1 << bits) < map.size() * 2) bits++;
+    // Try a slightly bigger table when the smaller one has no perfect multiplier
+    int chosenBits = bits;
+    int chosenMultiplier = GOLDEN_RATIO;
+    search:
+    for (int b = bits; b <= bits + 1; b++) {
+      int m = GOLDEN_RATIO;
+      for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS; attempt++, m += 2 * GOLDEN_RATIO) {
+        if (isPerfect(map, m | 1, 32 - b, 1 << b)) {
+          chosenBits = b;
+          chosenMultiplier = m | 1;
+          break search;
+        }
+      }
+    }
+    this.multiplier = chosenMultiplier;
+    this.shift = 32 - chosenBits;
+    this.keys = new String[1 << chosenBits];
+    this.values = new Object[1 << chosenBits];
+    int mask = keys.length - 1;
+    for (Map.Entry<String, V> e : map.entrySet()) {
+      int i = slot(e.getKey());
+      while (keys[i] != null) i = (i + 1) & mask;
+      keys[i] = e.getKey();
+      values[i] = e.getValue();
+    }
+  }
+
+  private static boolean isPerfect(Map<String, ?> map, int multiplier, int shift, int length) {
+    boolean[] used = new boolean[length];
+    for (String k : map.keySet()) {
+      int i = (k.hashCode() * multiplier) >>> shift;
+      if (used[i]) return false;
+      used[i] = true;
+    }
+    return true;
+  }
+
+  private int slot(String key) {
+    return (key.hashCode() * multiplier) >>> shift;
+  }
+
+  /**
+   * Returns the value of the provided property, or null if the property is not in the table
+   *
+   * @param key
+   * @return
+   */
+  @SuppressWarnings("unchecked")
+  V get(String key) {
+    int mask = keys.length - 1;
+    int i = slot(key);
+    String k;
+    while ((k = keys[i]) != null) {
+      if (k == key || k.equals(key)) return (V) values[i];
+      i = (i + 1) & mask;
+    }
+    return null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+}
@@ -1,16 +1,16 @@
 package io.vertx.ext.json.schema.generic;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.json.pointer.JsonPointer;
-import io.vertx.ext.json.schema.Schema;
-import io.vertx.ext.json.schema.SchemaErrorType;
-import io.vertx.ext.json.schema.SchemaParser;
-import io.vertx.ext.json.schema.Validator;
+import io.vertx.ext.json.schema.*;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 import static io.vertx.ext.json.schema.ValidationErrorType.REF_ERROR;
@@ -18,10 +18,17 @@ import static io.vertx.ext.json.schema.ValidationErrorType.REF_ERROR;
 public class RefSchema extends SchemaImpl {
 
   private static final Logger log = LoggerFactory.getLogger(RefSchema.class);
+  // Guards waitingFor of all RefSchemas, so two refs can't start waiting for each other at the same time
+  private static final Object WAITING_LOCK = new Object();
 
   private final JsonPointer refPointer;
   private final SchemaParser schemaParser;
-  private Schema cachedSchema;
+  private volatile Schema cachedSchema;
+  // True when cachedSchema is set and its validators are merged in this schema
+  private volatile boolean solved;
+  private List<Future<Void>> solvingSubscribers;
+  // The referenced RefSchema this one is waiting for while solving, guarded by WAITING_LOCK
+  private RefSchema waitingFor;
 
   public RefSchema(JsonObject schema, JsonPointer scope, ConcurrentSkipListSet<Validator> validators, SchemaParser schemaParser) {
     super(schema, scope, validators);
@@ -45,44 +52,154 @@ public class RefSchema extends SchemaImpl {
 //      ((SchemaImpl)cachedSchema).getValidators().stream().map(v -> validator.getClass().equals(v.getClass())).filter(b -> b).findFirst().orElse(false)
 //    );
 //    this.getValidators().addAll(((SchemaImpl)this.cachedSchema).getValidators());
-    this.getValidators().clear();
-    this.getValidators().addAll(((SchemaImpl)this.cachedSchema).getValidators());
+    this.replaceValidators(((SchemaImpl)this.cachedSchema).getValidators());
+    this.solved = true;
   }
 
   private synchronized void registerCachedSchema(Schema s) {
     this.cachedSchema = s;
+    if (BaseSchemaParser.FALSE_SCHEMA == s || BaseSchemaParser.TRUE_SCHEMA == s) this.solved = true;
+  }
+
+  /**
+   * Returns the referenced schema, or null if the reference is not solved yet
+   *
+   * @return
+   */
+  public Schema getReferencedSchema() {
+    return solved ? cachedSchema : null;
+  }
+
+  /**
+   * Returns true if the reference is solved and this schema contains the validators of the referenced one
+   *
+   * @return
+   */
+  public boolean isSolved() {
+    return solved;
+  }
+
+  /**
+   * Solve the reference, merging the validators of the referenced schema in this schema. If the referenced schema
+   * is a {@link RefSchema} too, it's solved before. Concurrent calls share the same resolution. A circular chain of
+   * references fails with {@link SchemaErrorType#WRONG_KEYWORD_VALUE}
+   *
+   * @return a future that succeeds when the reference is solved
+   */
+  public Future<Void> solve() {
+    if (solved) return Future.succeededFuture();
+    Future<Void> fut = Future.future();
+    boolean trigger;
+    synchronized (this) {
+      if (solved) return Future.succeededFuture();
+      trigger = solvingSubscribers == null;
+      if (trigger) solvingSubscribers = new ArrayList<>();
+      solvingSubscribers.add(fut);
+    }
+    if (trigger) triggerSolve();
+    return fut;
+  }
+
+  private void triggerSolve() {
+    schemaParser.getSchemaRouter().resolveRef(refPointer, this.getScope(), schemaParser).setHandler(ar -> {
+      if (ar.failed()) {
+        completeSolving(Future.failedFuture(ar.cause()));
+        return;
+      }
+      Schema s = ar.result();
+      if (s == null) {
+        completeSolving(Future.failedFuture(SchemaErrorType.WRONG_KEYWORD_VALUE.createException(this.getSchema(), "Cannot resolve reference " + this.refPointer.buildURI())));
+        return;
+      }
+      registerCachedSchema(s);
+      if (s instanceof RefSchema) {
+        RefSchema ref = (RefSchema) s;
+        if (!startWaitingFor(ref)) {
+          completeSolving(Future.failedFuture(SchemaErrorType.WRONG_KEYWORD_VALUE.createException(this.getSchema(), "Circular $ref " + this.refPointer.buildURI())));
+          return;
+        }
+        // We need to solve the referenced schema before merging its validators
+        ref.solve().setHandler(refAr -> {
+          synchronized (WAITING_LOCK) {
+            waitingFor = null;
+          }
+          if (refAr.succeeded()) removeOverrides();
+          completeSolving(refAr);
+        });
+      } else {
+        if (!solved) {
+          if (log.isDebugEnabled()) log.debug("Solved schema {}", s.getScope());
+          removeOverrides();
+        }
+        completeSolving(Future.succeededFuture());
+      }
+    });
+  }
+
+  /**
+   * Returns false if the provided ref is already waiting, directly or through other refs, for this one
+   */
+  private boolean startWaitingFor(RefSchema ref) {
+    synchronized (WAITING_LOCK) {
+      for (RefSchema r = ref; r != null; r = r.waitingFor)
+        if (r == this) return false;
+      waitingFor = ref;
+      return true;
+    }
+  }
+
+  private void completeSolving(AsyncResult<Void> result) {
+    List<Future<Void>> subscribers;
+    synchronized (this) {
+      subscribers = solvingSubscribers;
+      solvingSubscribers = null;
+    }
+    subscribers.forEach(f -> f.handle(result));
+  }
+
+  @Override
+  public boolean isSync() {
+    if (!solved) return false;
+    Schema s = this.cachedSchema;
+    if (BaseSchemaParser.FALSE_SCHEMA == s || BaseSchemaParser.TRUE_SCHEMA == s) return true;
+    return super.isSync();
+  }
+
+  @Override
+  public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+    if (!solved)
+      throw new NoSyncValidationException("Reference " + this.refPointer.buildURI() + " is not solved yet");
+    Schema s = this.cachedSchema;
+    if (BaseSchemaParser.FALSE_SCHEMA == s || BaseSchemaParser.TRUE_SCHEMA == s)
+      s.validateSync(in);
+    else
+      super.validateSync(in);
+  }
+
+  @Override
+  public void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+    if (!solved)
+      throw new NoSyncValidationException("Reference " + this.refPointer.buildURI() + " is not solved yet");
+    Schema s = this.cachedSchema;
+    if (BaseSchemaParser.FALSE_SCHEMA == s || BaseSchemaParser.TRUE_SCHEMA == s)
+      s.collectErrors(in, inputLocation, collector);
+    else
+      super.collectErrors(in, inputLocation, collector);
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public Future<Void> validate(Object in) {
-    if (cachedSchema == null) {
-      return FutureUtils.andThen(
-          schemaParser.getSchemaRouter().resolveRef(refPointer, this.getScope(), schemaParser),
-          s -> {
-            if (s == null) return Future.failedFuture(REF_ERROR.createException("Cannot resolve reference " + this.refPointer.buildURI(), "$ref", in));
-            registerCachedSchema(s);
-            if (s instanceof RefSchema) {
-              // We need to call solved schema validate to solve upper ref, then we can merge validators
-              return s.validate(in).compose(f -> {
-                removeOverrides();
-                return super.validate(in);
-              });
-            } else if (BaseSchemaParser.FALSE_SCHEMA == s || BaseSchemaParser.TRUE_SCHEMA == s) {
-              return s.validate(in);
-            } else {
-              if (log.isDebugEnabled()) log.debug("Solved schema {}", s.getScope());
-              removeOverrides();
-              return super.validate(in);
-            }
-          },
-          err -> Future.failedFuture(REF_ERROR.createException("Error while resolving reference " + this.refPointer.buildURI(), err, "$ref", in))
-          );
-    } else {
-      if (BaseSchemaParser.FALSE_SCHEMA == cachedSchema || BaseSchemaParser.TRUE_SCHEMA == cachedSchema)
-        return cachedSchema.validate(in);
+    if (solved) {
+      Schema s = this.cachedSchema;
+      if (BaseSchemaParser.FALSE_SCHEMA == s || BaseSchemaParser.TRUE_SCHEMA == s)
+        return s.validate(in);
       else
         return super.validate(in);
     }
+    return FutureUtils.andThen(
+        solve(),
+        v -> this.validate(in),
+        err -> Future.failedFuture(REF_ERROR.createException("Error while resolving reference " + this.refPointer.buildURI(), err, "$ref", in))
+    );
   }
 }
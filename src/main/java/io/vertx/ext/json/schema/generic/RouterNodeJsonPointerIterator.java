@@ -38,7 +38,7 @@ public class RouterNodeJsonPointerIterator implements JsonPointerIterator {
 
   @Override
   public boolean objectContainsKey(String key) {
-    return actualNode.getChilds().containsKey(key);
+    return actualNode != null && actualNode.getChilds().containsKey(key);
   }
 
   @Override
@@ -8,8 +8,7 @@ import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
@@ -18,16 +17,110 @@ public class SchemaImpl implements Schema {
 
   private static final Logger log = LoggerFactory.getLogger(SchemaImpl.class);
 
+  // Schemas currently visited by isSync() in this thread, used to break $ref cycles
+  private static final ThreadLocal<Set<Schema>> SYNC_CHECK_VISITING = ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+
   private final JsonObject schema;
   private final JsonPointer scope;
-  private final ConcurrentSkipListSet<Validator> validators;
+  // Filled by the parser while building the schema, then dropped by freeze()
+  private ConcurrentSkipListSet<Validator> validatorsSet;
+  // Ordered by priority, then by cost
+  private volatile Validator[] validators;
+  // Validators applicable to each json type, indexed by JsonSchemaType ordinal. Always updated before validators
+  private volatile Validator[][] validatorsByType;
+  // Not null when adaptive ordering is enabled, used by sync validation instead of validators
+  private volatile AdaptiveValidatorOrder adaptiveOrder;
+  // A schema can only become sync (when its refs are solved), so once true we can cache it
+  private volatile boolean sync;
 
   public SchemaImpl(JsonObject schema, JsonPointer scope, ConcurrentSkipListSet<Validator> validators) {
     this.schema = schema;
     this.scope = scope;
+    this.validatorsSet = validators;
+  }
+
+  /**
+   * Create a schema with already frozen validators. The array could be shared with other schemas, so it's never modified
+   *
+   * @param schema
+   * @param scope
+   * @param validators
+   */
+  public SchemaImpl(JsonObject schema, JsonPointer scope, Validator[] validators) {
+    this.schema = schema;
+    this.scope = scope;
+    setValidators(validators);
+  }
+
+  /**
+   * Convert the validators set filled during parsing into the array used for validation.
+   * After this call the validators set is not used anymore
+   */
+  public synchronized void freeze() {
+    if (validators != null) return;
+    List<Validator> sorted = new ArrayList<>(validatorsSet);
+    // Stable sort, validators with same priority and cost keep the insertion order
+    sorted.sort(Comparator
+        .<Validator, Integer>comparing(v -> v.getPriority().getPriority())
+        .thenComparingInt(Validator::getCost)
+    );
+    setValidators(sorted.toArray(new Validator[sorted.size()]));
+    this.validatorsSet = null;
+  }
+
+  /**
+   * Enable the adaptive ordering of validators: sync validation periodically reorders the validators
+   * with same priority, running first the ones that fail more often compared to their cost
+   */
+  public synchronized void enableAdaptiveOrdering() {
+    this.adaptiveOrder = new AdaptiveValidatorOrder(frozenValidators());
+  }
+
+  /**
+   * Replace the validators of this schema, used when a {@link RefSchema} is solved
+   *
+   * @param validators
+   */
+  synchronized void replaceValidators(Validator[] validators) {
+    setValidators(validators);
+    this.validatorsSet = null;
+    if (this.adaptiveOrder != null) this.adaptiveOrder = new AdaptiveValidatorOrder(validators);
+  }
+
+  private void setValidators(Validator[] validators) {
+    Validator[][] byType = new Validator[JsonSchemaType.values().length][];
+    for (JsonSchemaType type : JsonSchemaType.values()) {
+      Validator[] applicable = Arrays.stream(validators)
+          .filter(v -> v.getApplicableType() == null || v.getApplicableType() == type)
+          .toArray(Validator[]::new);
+      // Share the array when no validator is skipped
+      byType[type.ordinal()] = applicable.length == validators.length ? validators : applicable;
+    }
+    this.validatorsByType = byType;
     this.validators = validators;
   }
 
+  /**
+   * Returns the validators to run for the provided input, skipping the ones that don't check its type
+   *
+   * @param in
+   * @return
+   */
+  private Validator[] validatorsFor(Object in) {
+    Validator[] all = frozenValidators();
+    JsonSchemaType type = JsonSchemaType.classify(in);
+    return type == null ? all : validatorsByType[type.ordinal()];
+  }
+
+  private Validator[] frozenValidators() {
+    Validator[] v = this.validators;
+    if (v == null) {
+      freeze();
+      v = this.validators;
+    }
+    return v;
+  }
+
   @Override
   public JsonPointer getScope() {
     return scope;
@@ -37,11 +130,94 @@ public class SchemaImpl implements Schema {
     return schema;
   }
 
+  @Override
+  public boolean isSync() {
+    if (sync) return true;
+    Set<Schema> visiting = SYNC_CHECK_VISITING.get();
+    // If this schema is already visiting we are inside a $ref cycle, that is sync if the rest of the cycle is sync
+    if (!visiting.add(this)) return true;
+    boolean outermost = visiting.size() == 1;
+    try {
+      for (Validator validator : frozenValidators()) {
+        if (!validator.isSync()) return false;
+      }
+      // Inner results could depend on the assumption done for the cycle, so only the outermost one is cached
+      if (outermost) sync = true;
+      return true;
+    } finally {
+      visiting.remove(this);
+    }
+  }
+
+  @Override
+  public void validateSync(Object in) throws ValidationException, NoSyncValidationException {
+    AdaptiveValidatorOrder adaptive = this.adaptiveOrder;
+    if (adaptive != null) {
+      validateSyncAdaptive(in, adaptive);
+      return;
+    }
+    for (Validator validator : validatorsFor(in)) {
+      try {
+        if (validator.isAsync()) ((AsyncValidator) validator).validateSync(in);
+        else ((SyncValidator) validator).validate(in);
+      } catch (ValidationException e) {
+        e.setSchema(this);
+        e.setScope(this.scope);
+        throw e;
+      }
+    }
+  }
+
+  private void validateSyncAdaptive(Object in, AdaptiveValidatorOrder adaptive) throws ValidationException, NoSyncValidationException {
+    if (adaptive.recordValidation()) this.adaptiveOrder = adaptive.reorder();
+    Validator[] validators = adaptive.validators;
+    JsonSchemaType type = JsonSchemaType.classify(in);
+    for (int i = 0; i < validators.length; i++) {
+      Validator validator = validators[i];
+      JsonSchemaType applicableType = validator.getApplicableType();
+      if (type != null && applicableType != null && applicableType != type) continue;
+      try {
+        if (validator.isAsync()) ((AsyncValidator) validator).validateSync(in);
+        else ((SyncValidator) validator).validate(in);
+      } catch (ValidationException e) {
+        adaptive.recordFailure(i);
+        e.setSchema(this);
+        e.setScope(this.scope);
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void collectErrors(Object in, JsonPointer inputLocation, ValidationErrorCollector collector) throws NoSyncValidationException {
+    int firstError = collector.size();
+    try {
+      for (Validator validator : validatorsFor(in)) validator.collectErrors(in, inputLocation, collector);
+    } finally {
+      collector.fillSchema(firstError, this);
+    }
+  }
+
   @Override
   public Future<Void> validate(Object in) {
     if (log.isDebugEnabled()) log.debug("Starting validation for schema {} and input ", schema, in);
+    if (isSync() && !ParallelItemsValidation.isAsyncOnly()) {
+      try {
+        ParallelItemsValidation.nonBlocking(() -> validateSync(in));
+        return Future.succeededFuture();
+      } catch (ValidationException e) {
+        return Future.failedFuture(e);
+      } catch (NoSyncValidationException e) {
+        // Something changed while validating, fallback to async validation also for the subschemas
+        return ParallelItemsValidation.asyncOnly(() -> validateAsync(in));
+      }
+    }
+    return validateAsync(in);
+  }
+
+  private Future<Void> validateAsync(Object in) {
     List<Future> futures = new ArrayList<>();
-    for (Validator validator : validators) {
+    for (Validator validator : validatorsFor(in)) {
       if (validator.isAsync()) {
         Future<Void> asyncValidate = ((AsyncValidator) validator).validate(in);
         if (asyncValidate.isComplete()) {
@@ -67,8 +243,13 @@ public class SchemaImpl implements Schema {
     }
   }
 
-  public ConcurrentSkipListSet<Validator> getValidators() {
-    return validators;
+  /**
+   * Returns the validators of this schema. Don't modify the returned array
+   *
+   * @return
+   */
+  public Validator[] getValidators() {
+    return frozenValidators();
   }
 
   private Future<Void> fillException(Throwable e, Object in) {
@@ -0,0 +1,215 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.ext.json.schema.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Memoizes the results of the checks on strings: formats, pattern keywords and propertyNames schemas. <br/>
+ * Every predicate has a bounded table that keeps the last results, evicting the least recently used entry of each
+ * pair of slots. Strings longer than the max length are never memoized. The tables of formats and patterns are shared
+ * by all the schemas of a parser, so the same format or pattern uses the same table. At most {@link #MAX_SHARED_MEMOS}
+ * of them are kept for the life of the parser, the formats and patterns after that are not memoized. The tables of
+ * propertyNames schemas are owned by their validator, so they don't keep the schemas alive. Tables are allocated on
+ * first use. Reads and writes don't lock: a lost write only costs a recomputation
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public final class StringPredicateCache {
+
+  /**
+   * Cache that doesn't memoize anything
+   */
+  public static final StringPredicateCache DISABLED = new StringPredicateCache(0, 0);
+
+  /**
+   * Max number of formats and patterns with a shared table
+   */
+  public static final int MAX_SHARED_MEMOS = 1024;
+
+  private final int maxSize;
+  private final int maxLength;
+  private final int capacity;
+  // Shared tables of formats, by predicate instance, and of patterns, by source
+  private final Map<Object, Memo> memos;
+  private final LongAdder hits;
+  private final LongAdder misses;
+
+  /**
+   * @param maxSize   max number of results memoized for each predicate, 0 disables the cache
+   * @param maxLength max length of memoized strings
+   */
+  public StringPredicateCache(int maxSize, int maxLength) {
+    this.maxSize = maxSize;
+    this.maxLength = maxLength;
+    int capacity = 2;
+    while (capacity < maxSize) capacity <<= 1;
+    this.capacity = capacity;
+    this.memos = new ConcurrentHashMap<>();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+  }
+
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * Returns the number of checks solved by the cache
+   *
+   * @return
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of memoizable checks that the cache couldn't solve
+   *
+   * @return
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Memoize a format predicate. Memoized predicates are shared by instance
+   *
+   * @param format
+   * @return
+   */
+  public Predicate<String> memoizeFormat(Predicate<String> format) {
+    if (!isEnabled() || format == null) return format;
+    Memo memo = sharedMemo(format, format);
+    return memo != null ? memo::test : format;
+  }
+
+  /**
+   * Memoize a regular expression. Memoized regular expressions are shared by source pattern
+   *
+   * @param regex
+   * @return
+   */
+  public RegexEngine.Regex memoizePattern(RegexEngine.Regex regex) {
+    if (!isEnabled() || regex == null) return regex;
+    String source = regex.pattern();
+    Memo memo = sharedMemo(new PatternKey(source), regex::find);
+    if (memo == null) return regex;
+    return new RegexEngine.Regex() {
+      @Override
+      public boolean find(String input) {
+        return memo.test(input);
+      }
+
+      @Override
+      public String pattern() {
+        return source;
+      }
+
+      @Override
+      public String toString() {
+        return source;
+      }
+    };
+  }
+
+  /**
+   * Memoize whether a string is valid against a synchronous schema, like the one of propertyNames.
+   * The table is not shared, it lives as long as the returned predicate
+   *
+   * @param schema
+   * @return the memoized predicate, or null if the cache is disabled
+   */
+  public Predicate<String> memoizeValidation(Schema schema) {
+    if (!isEnabled() || schema == null) return null;
+    Predicate<String> predicate = s -> {
+      try {
+        schema.validateSync(s);
+        return true;
+      } catch (ValidationException e) {
+        return false;
+      }
+    };
+    return new Memo(predicate)::test;
+  }
+
+  int sharedMemos() {
+    return memos.size();
+  }
+
+  private Memo sharedMemo(Object key, Predicate<String> predicate) {
+    Memo memo = memos.get(key);
+    if (memo != null || memos.size() >= MAX_SHARED_MEMOS) return memo;
+    return memos.computeIfAbsent(key, k -> new Memo(predicate));
+  }
+
+  private static final class PatternKey {
+    private final String source;
+
+    PatternKey(String source) {
+      this.source = source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof PatternKey && ((PatternKey) o).source.equals(source);
+    }
+
+    @Override
+    public int hashCode() {
+      return source.hashCode();
+    }
+  }
+
+  private static final class Entry {
+    final String key;
+    final int hash;
+    final boolean result;
+
+    Entry(String key, int hash, boolean result) {
+      this.key = key;
+      this.hash = hash;
+      this.result = result;
+    }
+  }
+
+  private final class Memo {
+    private final Predicate<String> predicate;
+    // Pairs of slots, the first of each pair is the most recently used. Null until the first memoizable check
+    private Entry[] entries;
+
+    Memo(Predicate<String> predicate) {
+      this.predicate = predicate;
+    }
+
+    boolean test(String s) {
+      if (s.length() > maxLength) return predicate.test(s);
+      int h = s.hashCode();
+      h ^= h >>> 16;
+      Entry[] table = entries;
+      // A racing allocation only loses the results of the other table
+      if (table == null) entries = table = new Entry[capacity];
+      int i = h & (table.length - 2);
+      Entry first = table[i];
+      if (first != null && first.hash == h && first.key.equals(s)) {
+        hits.increment();
+        return first.result;
+      }
+      Entry second = table[i + 1];
+      if (second != null && second.hash == h && second.key.equals(s)) {
+        hits.increment();
+        table[i] = second;
+        table[i + 1] = first;
+        return second.result;
+      }
+      misses.increment();
+      boolean result = predicate.test(s);
+      table[i + 1] = first;
+      table[i] = new Entry(s, h, result);
+      return result;
+    }
+  }
+}
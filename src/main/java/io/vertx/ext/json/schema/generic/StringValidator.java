@@ -0,0 +1,97 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.ext.json.schema.RegexEngine;
+import io.vertx.ext.json.schema.SyncValidator;
+import io.vertx.ext.json.schema.ValidationException;
+
+import java.util.function.Predicate;
+
+import static io.vertx.ext.json.schema.ValidationErrorType.NO_MATCH;
+
+/**
+ * Validates minLength, maxLength, pattern and format with a single validator. <br/>
+ * A string of {@code n} chars has between {@code n / 2} and {@code n} code points, so code points are counted
+ * only when {@link String#length()} can't decide the length constraints
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class StringValidator implements SyncValidator {
+
+  private final int minLength;
+  private final int maxLength;
+  private final RegexEngine.Regex pattern;
+  private final String format;
+  private final Predicate<String> formatPredicate;
+
+  /**
+   * @param minLength       0 if not present
+   * @param maxLength       {@link Integer#MAX_VALUE} if not present
+   * @param pattern         null if not present
+   * @param format          null if not present
+   * @param formatPredicate null if format is not present or ignored
+   */
+  public StringValidator(int minLength, int maxLength, RegexEngine.Regex pattern, String format, Predicate<String> formatPredicate) {
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+    this.pattern = pattern;
+    this.format = format;
+    this.formatPredicate = formatPredicate;
+  }
+
+  @Override
+  public JsonSchemaType getApplicableType() {
+    return JsonSchemaType.STRING;
+  }
+
+  @Override
+  public int getCost() {
+    return pattern != null || formatPredicate != null ? 20 : 2;
+  }
+
+  @Override
+  public void validate(Object value) throws ValidationException {
+    if (!(value instanceof String)) return;
+    String s = (String) value;
+    int chars = s.length();
+    // Code points are at most chars and at least half of chars
+    if (chars < minLength) throw minLengthError(value);
+    if (chars - chars / 2 > maxLength) throw maxLengthError(value);
+    if (chars > maxLength || chars - chars / 2 < minLength) {
+      int codePoints = codePointCount(s);
+      if (codePoints > maxLength) throw maxLengthError(value);
+      if (codePoints < minLength) throw minLengthError(value);
+    }
+    if (pattern != null && !pattern.find(s))
+      throw NO_MATCH.createLazyException("provided string should respect pattern ", pattern.pattern(), "pattern", value);
+    if (formatPredicate != null && !formatPredicate.test(s))
+      throw NO_MATCH.createLazyException("provided string should respect format ", format, "format", value);
+  }
+
+  private ValidationException minLengthError(Object value) {
+    return NO_MATCH.createLazyException("provided string should have size >= ", minLength, "minLength", value);
+  }
+
+  private ValidationException maxLengthError(Object value) {
+    return NO_MATCH.createLazyException("provided string should have size <= ", maxLength, "maxLength", value);
+  }
+
+  /**
+   * Count the code points of the string, like {@link String#codePointCount(int, int)}
+   *
+   * @param s
+   * @return
+   */
+  static int codePointCount(String s) {
+    int length = s.length();
+    int pairs = 0;
+    for (int i = 0; i < length; i++) {
+      // Chars below the surrogates range, including ascii, are always one code point
+      if (s.charAt(i) < Character.MIN_HIGH_SURROGATE) continue;
+      if (Character.isHighSurrogate(s.charAt(i)) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+        pairs++;
+        i++;
+      }
+    }
+    return length - pairs;
+  }
+}
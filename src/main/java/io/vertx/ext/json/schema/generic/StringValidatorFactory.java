@@ -0,0 +1,68 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+
+import java.util.function.Predicate;
+
+/**
+ * Creates a single {@link StringValidator} for minLength, maxLength, pattern and format keywords of a schema.
+ * Formats are looked up in the provided {@link BaseFormatValidatorFactory}
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class StringValidatorFactory implements ValidatorFactory {
+
+  private final BaseFormatValidatorFactory formatValidatorFactory;
+
+  public StringValidatorFactory(BaseFormatValidatorFactory formatValidatorFactory) {
+    this.formatValidatorFactory = formatValidatorFactory;
+  }
+
+  public BaseFormatValidatorFactory getFormatValidatorFactory() {
+    return formatValidatorFactory;
+  }
+
+  @Override
+  public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
+    int minLength = lengthKeyword(schema, "minLength", 0);
+    int maxLength = lengthKeyword(schema, "maxLength", Integer.MAX_VALUE);
+    RegexEngine.Regex pattern = null;
+    try {
+      if (schema.containsKey("pattern"))
+        pattern = BaseSchemaParser.regexEngine(parser).compile((String) schema.getValue("pattern"));
+    } catch (ClassCastException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for pattern keyword");
+    } catch (NullPointerException e) {
+      throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null pattern keyword");
+    } catch (IllegalArgumentException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Invalid pattern in pattern keyword");
+    }
+    Predicate<String> formatPredicate = schema.containsKey("format") ? formatValidatorFactory.getFormatPredicate(schema) : null;
+    if (minLength == 0 && maxLength == Integer.MAX_VALUE && pattern == null && formatPredicate == null) return null;
+    StringPredicateCache cache = BaseSchemaParser.stringPredicateCache(parser);
+    pattern = cache.memoizePattern(pattern);
+    formatPredicate = cache.memoizeFormat(formatPredicate);
+    return new StringValidator(minLength, maxLength, pattern, schema.getString("format"), formatPredicate);
+  }
+
+  private int lengthKeyword(JsonObject schema, String keyword, int defaultValue) {
+    if (!schema.containsKey(keyword)) return defaultValue;
+    try {
+      Number n = (Number) schema.getValue(keyword);
+      if (n.intValue() < 0)
+        throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, keyword + " must be >= 0");
+      return n.intValue();
+    } catch (ClassCastException e) {
+      throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for " + keyword + " keyword");
+    } catch (NullPointerException e) {
+      throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null " + keyword + " keyword");
+    }
+  }
+
+  @Override
+  public boolean canConsumeSchema(JsonObject schema) {
+    return schema.containsKey("minLength") || schema.containsKey("maxLength") || schema.containsKey("pattern") || schema.containsKey("format");
+  }
+}
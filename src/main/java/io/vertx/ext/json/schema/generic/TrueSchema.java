@@ -0,0 +1,23 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.Future;
+import io.vertx.ext.json.schema.Schema;
+
+/**
+ * Schema represented by json {@code true}. It always succeeds
+ */
+class TrueSchema implements Schema {
+
+  @Override
+  public Future<Void> validate(Object in) {
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public boolean isSync() {
+    return true;
+  }
+
+  @Override
+  public void validateSync(Object in) { }
+}
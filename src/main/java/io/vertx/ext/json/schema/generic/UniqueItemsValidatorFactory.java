@@ -6,17 +6,145 @@ import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 public class UniqueItemsValidatorFactory implements ValidatorFactory {
 
-  private final static SyncValidator UNIQUE_VALIDATOR = (value) -> {
-    if (value instanceof JsonArray) {
-      JsonArray arr = (JsonArray) value;
-      if (new HashSet(arr.getList()).size() != arr.size())
-        throw ValidationErrorType.NO_MATCH.createException("array elements must be unique", "uniqueItems", value);
+  private final static SyncValidator UNIQUE_VALIDATOR = new SyncValidator() {
+    @Override
+    public JsonSchemaType getApplicableType() {
+      return JsonSchemaType.ARRAY;
+    }
+
+    @Override
+    public int getCost() {
+      return 30;
+    }
+
+    @Override
+    public void validate(Object value) throws ValidationException {
+      if (value instanceof JsonArray) {
+        int duplicate = firstDuplicate(((JsonArray) value).getList());
+        if (duplicate >= 0)
+          throw ValidationErrorType.NO_MATCH.createLazyException("array elements must be unique, found a duplicate at index ", duplicate, "uniqueItems", value);
+      }
     }
   };
 
+  // Arrays up to this size are checked comparing every pair of items
+  static final int PAIRWISE_THRESHOLD = 8;
+
+  static boolean hasDuplicates(List<Object> list) {
+    return firstDuplicate(list) >= 0;
+  }
+
+  /**
+   * Returns the index of the first item equal to a previous one, according to {@link CanonicalJson}, or -1. Small
+   * arrays compare every pair of items. The other arrays use a set specialized for the type of the first item, strings
+   * or integers, switching to an index of canonical hashes when an item of another type is found
+   */
+  static int firstDuplicate(List<Object> list) {
+    int size = list.size();
+    if (size < 2) return -1;
+    if (size <= PAIRWISE_THRESHOLD) return firstDuplicatePairwise(list);
+    Object first = list.get(0);
+    if (first instanceof String) return firstDuplicateString(list);
+    if (isInteger(first)) return firstDuplicateInteger(list);
+    return firstDuplicateByHash(list);
+  }
+
+  private static int firstDuplicatePairwise(List<Object> list) {
+    int size = list.size();
+    for (int i = 1; i < size; i++) {
+      Object item = list.get(i);
+      for (int j = 0; j < i; j++)
+        if (CanonicalJson.equals(list.get(j), item)) return i;
+    }
+    return -1;
+  }
+
+  private static boolean isInteger(Object item) {
+    if (!(item instanceof Number)) return false;
+    Number n = (Number) item;
+    if (CanonicalJson.isIntegralType(n)) return true;
+    return (n instanceof Double || n instanceof Float) && CanonicalJson.isLong(n.doubleValue());
+  }
+
+  // The items before the first one that is not a string are distinct, so the fallback reindexes at most them
+  private static int firstDuplicateString(List<Object> list) {
+    int size = list.size();
+    Set<Object> seen = new HashSet<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      Object item = list.get(i);
+      if (!(item instanceof String)) return firstDuplicateByHash(list);
+      if (!seen.add(item)) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Open addressing set of longs, where the slot value 0 means free and the long 0 is tracked apart
+   */
+  private static int firstDuplicateInteger(List<Object> list) {
+    int size = list.size();
+    long[] slots = new long[tableCapacity(size)];
+    int mask = slots.length - 1;
+    boolean seenZero = false;
+    for (int i = 0; i < size; i++) {
+      Object item = list.get(i);
+      if (!isInteger(item)) return firstDuplicateByHash(list);
+      Number n = (Number) item;
+      long l = CanonicalJson.isIntegralType(n) ? n.longValue() : (long) n.doubleValue();
+      if (l == 0) {
+        if (seenZero) return i;
+        seenZero = true;
+        continue;
+      }
+      int slot = mix(Long.hashCode(l)) & mask;
+      while (slots[slot] != 0) {
+        if (slots[slot] == l) return i;
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = l;
+    }
+    return -1;
+  }
+
+  /**
+   * The items are indexed in an open addressing table of canonical hashes, so an item is deep compared only with the
+   * previous items with the same hash
+   */
+  private static int firstDuplicateByHash(List<Object> list) {
+    int size = list.size();
+    // Index of the item + 1 for each slot, 0 if the slot is free
+    int[] slots = new int[tableCapacity(size)];
+    int mask = slots.length - 1;
+    int[] hashes = new int[size];
+    for (int i = 0; i < size; i++) {
+      Object item = list.get(i);
+      int hash = CanonicalJson.hash(item);
+      hashes[i] = hash;
+      int slot = mix(hash) & mask;
+      while (slots[slot] != 0) {
+        int other = slots[slot] - 1;
+        if (hashes[other] == hash && CanonicalJson.equals(list.get(other), item)) return i;
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = i + 1;
+    }
+    return -1;
+  }
+
+  private static int tableCapacity(int size) {
+    return Integer.highestOneBit(size * 2 - 1) << 1;
+  }
+
+  private static int mix(int h) {
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
   @Override
   public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
     try {
@@ -0,0 +1,23 @@
+package io.vertx.ext.json.schema.openapi3;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.generic.BaseNumericValidatorFactory;
+import io.vertx.ext.json.schema.generic.NumericValidator;
+
+public class NumericValidatorFactory extends BaseNumericValidatorFactory {
+
+  @Override
+  protected NumericValidator createNumericValidator(JsonObject schema, Number multipleOf) {
+    return new NumericValidator(
+        (Number) schema.getValue("minimum"), "minimum", Boolean.TRUE.equals(schema.getValue("exclusiveMinimum")) && schema.containsKey("minimum"),
+        (Number) schema.getValue("maximum"), "maximum", Boolean.TRUE.equals(schema.getValue("exclusiveMaximum")) && schema.containsKey("maximum"),
+        multipleOf
+    );
+  }
+
+  @Override
+  public boolean canConsumeSchema(JsonObject schema) {
+    return schema.containsKey("minimum") || schema.containsKey("maximum") || schema.containsKey("multipleOf");
+  }
+
+}
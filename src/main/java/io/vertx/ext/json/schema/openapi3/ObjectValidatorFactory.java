@@ -0,0 +1,11 @@
+package io.vertx.ext.json.schema.openapi3;
+
+import io.vertx.ext.json.schema.generic.BaseObjectValidatorFactory;
+
+/**
+ * Object keywords of OpenAPI 3 schemas, that doesn't support dependencies and propertyNames
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class ObjectValidatorFactory extends BaseObjectValidatorFactory {
+}
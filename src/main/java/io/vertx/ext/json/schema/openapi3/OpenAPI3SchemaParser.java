@@ -21,9 +21,8 @@ public class OpenAPI3SchemaParser extends BaseSchemaParser {
   @Override
   protected List<ValidatorFactory> initValidatorFactories() {
     List<ValidatorFactory> factories = new ArrayList<>();
-    factories.add(new FormatValidatorFactory());
-    factories.add(new MaximumValidatorFactory());
-    factories.add(new MinimumValidatorFactory());
+    factories.add(new StringValidatorFactory(new FormatValidatorFactory()));
+    factories.add(new NumericValidatorFactory());
     factories.add(new NullableValidatorFactory());
     factories.add(new TypeValidatorFactory());
     factories.add(new AllOfValidatorFactory());
@@ -31,17 +30,10 @@ public class OpenAPI3SchemaParser extends BaseSchemaParser {
     factories.add(new EnumValidatorFactory());
     factories.add(new ItemsValidatorFactory());
     factories.add(new MaxItemsValidatorFactory());
-    factories.add(new MaxLengthValidatorFactory());
-    factories.add(new MaxPropertiesValidatorFactory());
     factories.add(new MinItemsValidatorFactory());
-    factories.add(new MinLengthValidatorFactory());
-    factories.add(new MinPropertiesValidatorFactory());
-    factories.add(new MultipleOfValidatorFactory());
     factories.add(new NotValidatorFactory());
     factories.add(new OneOfValidatorFactory());
-    factories.add(new PatternValidatorFactory());
-    factories.add(new PropertiesValidatorFactory());
-    factories.add(new RequiredValidatorFactory());
+    factories.add(new ObjectValidatorFactory());
     factories.add(new UniqueItemsValidatorFactory());
     factories.add(new DefinitionsValidatorFactory());
     return factories;
@@ -5,15 +5,21 @@ import io.vertx.ext.json.pointer.JsonPointer;
 import io.vertx.ext.json.schema.*;
 import io.vertx.ext.json.schema.generic.JsonSchemaType;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class TypeValidatorFactory implements ValidatorFactory {
 
+  // Type validators are stateless, so one instance per type is shared by all schemas
+  private final Map<JsonSchemaType, TypeValidator> validators = new ConcurrentHashMap<>();
+
   @Override
   public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
     try {
       String type = schema.getString("type");
       String format = schema.getString("format");
       if (type == null) throw SchemaErrorType.NULL_KEYWORD_VALUE.createException(schema, "Null type keyword");
-      return new TypeValidator(parseType(type, format, schema));
+      return validators.computeIfAbsent(parseType(type, format, schema), TypeValidator::new);
     } catch (ClassCastException e) {
       throw SchemaErrorType.WRONG_KEYWORD_VALUE.createException(schema, "Wrong type for type/format/nullable keyword");
     }
@@ -56,10 +62,15 @@ public class TypeValidatorFactory implements ValidatorFactory {
       return ValidatorPriority.MAX_PRIORITY;
     }
 
+    @Override
+    public int getCost() {
+      return 1;
+    }
+
     @Override
     public void validate(Object value) throws ValidationException {
       if (value != null) {
-        if (!type.checkInstance(value)) throw ValidationErrorType.NO_MATCH.createException("input don't match type " + type.name(), "type", value);
+        if (!type.checkInstance(value)) throw ValidationErrorType.NO_MATCH.createLazyException("input don't match type ", type, "type", value);
       }
     }
   }
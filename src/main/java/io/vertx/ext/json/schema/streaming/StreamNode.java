@@ -0,0 +1,79 @@
+package io.vertx.ext.json.schema.streaming;
+
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.generic.PatternSet;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming view of a schema node. When {@link #materialize} is false, objects and arrays matching this node are
+ * validated event by event, otherwise they are materialized and validated with {@link #schema}
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+final class StreamNode {
+
+  static final StreamNode[] NO_NODES = new StreamNode[0];
+
+  // Accepts everything, so the subtree is just skipped
+  static final StreamNode ACCEPT_ALL = new StreamNode(null);
+
+  final Schema schema;
+  boolean materialize;
+  boolean allowsObject = true;
+  boolean allowsArray = true;
+
+  // Object keywords
+  Map<String, StreamNode[]> properties;
+  PatternSet patterns;
+  StreamNode[] patternNodes;
+  StreamNode[] additionalProperties = NO_NODES;
+  boolean additionalPropertiesAllowed = true;
+  Schema propertyNames;
+  String[] required;
+  Map<String, Set<String>> keyDependencies;
+  int minProperties = 0;
+  int maxProperties = Integer.MAX_VALUE;
+
+  // Array keywords
+  StreamNode[] items = NO_NODES;
+  StreamNode[][] tupleItems;
+  int minItems = 0;
+  int maxItems = Integer.MAX_VALUE;
+
+  StreamNode(Schema schema) {
+    this.schema = schema;
+  }
+
+  boolean tracksKeys() {
+    return required != null || keyDependencies != null;
+  }
+
+  StreamNode[] propertyNodes(String key) {
+    StreamNode[] byName = properties != null ? properties.get(key) : null;
+    if (patterns == null) return byName != null ? byName : additionalProperties;
+    boolean matched = byName != null;
+    StreamNode[] result = matched ? byName : NO_NODES;
+    for (int i : patterns.matching(key)) {
+      // A matching pattern excludes additionalProperties, even if it accepts everything
+      matched = true;
+      if (patternNodes[i] == ACCEPT_ALL) continue;
+      StreamNode[] r = new StreamNode[result.length + 1];
+      System.arraycopy(result, 0, r, 0, result.length);
+      r[result.length] = patternNodes[i];
+      result = r;
+    }
+    return matched ? result : additionalProperties;
+  }
+
+  boolean isAdditionalProperty(String key) {
+    if (properties != null && properties.containsKey(key)) return false;
+    return patterns == null || !patterns.matchesAny(key);
+  }
+
+  StreamNode[] itemNodes(int index) {
+    if (tupleItems != null) return index < tupleItems.length ? tupleItems[index] : items;
+    return items;
+  }
+}
@@ -0,0 +1,211 @@
+package io.vertx.ext.json.schema.streaming;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+import io.vertx.ext.json.schema.generic.BaseSchemaParser;
+import io.vertx.ext.json.schema.generic.PatternSet;
+import io.vertx.ext.json.schema.generic.RefSchema;
+import io.vertx.ext.json.schema.generic.SchemaImpl;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Prepares a schema to validate JSON documents as a stream of {@link io.vertx.core.parsetools.JsonEvent}, without
+ * materializing the whole document. <br/>
+ * Objects and arrays are validated event by event when their schemas contain only keywords that can be checked
+ * incrementally (type, properties, patternProperties, additionalProperties, required, min/maxProperties, propertyNames,
+ * key dependencies, items, additionalItems, min/maxItems). Values whose schemas need the whole value (e.g. enum, const,
+ * allOf, anyOf, oneOf, not, if, contains, uniqueItems, custom keywords) are materialized and validated with the parsed schema. <br/>
+ * The schema must be sync (see {@link SchemaParser#parseAndLink(Object, JsonPointer)}). A {@link StreamingSchema} is thread safe,
+ * while every document needs a new {@link StreamingValidator}
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class StreamingSchema {
+
+  private static final Set<String> MATERIALIZING_KEYWORDS = new HashSet<>(Arrays.asList(
+      "enum", "const", "allOf", "anyOf", "oneOf", "not", "if", "contains", "uniqueItems"
+  ));
+
+  private final StreamNode root;
+
+  private StreamingSchema(StreamNode root) {
+    this.root = root;
+  }
+
+  /**
+   * Create a new streaming schema
+   *
+   * @param parser the parser used to parse the schema
+   * @param schema a sync schema
+   * @return
+   * @throws NoSyncValidationException if the schema is not sync
+   */
+  public static StreamingSchema create(SchemaParser parser, Schema schema) {
+    if (!(parser instanceof BaseSchemaParser))
+      throw new IllegalArgumentException("StreamingSchema supports only parsers extending BaseSchemaParser");
+    if (!schema.isSync())
+      throw new NoSyncValidationException("Schema " + schema.getScope() + " must be sync to be validated as a stream");
+    return new StreamingSchema(new Planner((BaseSchemaParser) parser).plan(schema));
+  }
+
+  /**
+   * Create a new validator for a single document
+   *
+   * @return
+   */
+  public StreamingValidator newValidator() {
+    return new StreamingValidator(root);
+  }
+
+  private static class Planner {
+
+    private final BaseSchemaParser parser;
+    private final List<ValidatorFactory> customFactories;
+    private final Map<String, StreamNode> nodes;
+
+    Planner(BaseSchemaParser parser) {
+      this.parser = parser;
+      this.customFactories = parser.getOptions().getAdditionalValidatorFactories();
+      this.nodes = new HashMap<>();
+    }
+
+    StreamNode plan(Schema schema) {
+      if (schema instanceof SchemaImpl) return nodeFor(((SchemaImpl) schema).getSchema(), schema.getScope());
+      StreamNode node = new StreamNode(schema);
+      node.materialize = true;
+      return node;
+    }
+
+    private StreamNode[] nodesFor(Object json, JsonPointer scope) {
+      StreamNode node = nodeFor(json, scope);
+      return node == StreamNode.ACCEPT_ALL ? StreamNode.NO_NODES : new StreamNode[]{node};
+    }
+
+    private StreamNode nodeFor(Object json, JsonPointer scope) {
+      if (json instanceof Map) json = new JsonObject((Map<String, Object>) json);
+      if (Boolean.TRUE.equals(json)) return StreamNode.ACCEPT_ALL;
+      String key = scope.buildURI().toString();
+      StreamNode node = nodes.get(key);
+      if (node != null) return node;
+      if (Boolean.FALSE.equals(json)) {
+        node = new StreamNode(lookupSchema(scope));
+        node.allowsObject = false;
+        node.allowsArray = false;
+        nodes.put(key, node);
+        return node;
+      }
+      JsonObject schemaJson = (JsonObject) json;
+      Schema schema = lookupSchema(scope);
+      if (schemaJson.containsKey("$ref")) {
+        Schema target = resolveRef(schema);
+        node = plan(target);
+        nodes.put(key, node);
+        return node;
+      }
+      node = new StreamNode(schema);
+      // Register before visiting subschemas to handle recursive schemas
+      nodes.put(key, node);
+      node.materialize = needsMaterialization(schemaJson);
+      if (!node.materialize) fill(node, schemaJson, scope);
+      return node;
+    }
+
+    private boolean needsMaterialization(JsonObject json) {
+      for (String keyword : json.fieldNames())
+        if (MATERIALIZING_KEYWORDS.contains(keyword)) return true;
+      JsonObject dependencies = json.getJsonObject("dependencies");
+      if (dependencies != null)
+        for (Object dep : dependencies.getMap().values())
+          if (!(dep instanceof List)) return true;
+      for (ValidatorFactory f : customFactories)
+        if (f.canConsumeSchema(json)) return true;
+      return false;
+    }
+
+    private void fill(StreamNode node, JsonObject json, JsonPointer scope) {
+      Object type = json.getValue("type");
+      if (type != null) {
+        List<Object> types = type instanceof JsonArray ? ((JsonArray) type).getList() : Collections.singletonList(type);
+        node.allowsObject = types.contains("object");
+        node.allowsArray = types.contains("array");
+      }
+
+      JsonObject properties = json.getJsonObject("properties");
+      if (properties != null) {
+        node.properties = new HashMap<>();
+        for (Map.Entry<String, Object> e : properties.getMap().entrySet())
+          node.properties.put(e.getKey(), nodesFor(e.getValue(), scope.copy().append("properties").append(e.getKey())));
+      }
+      JsonObject patternProperties = json.getJsonObject("patternProperties");
+      if (patternProperties != null) {
+        RegexEngine engine = parser.getOptions().getRegexEngine();
+        RegexEngine.Regex[] patterns = new RegexEngine.Regex[patternProperties.size()];
+        node.patternNodes = new StreamNode[patternProperties.size()];
+        int i = 0;
+        for (Map.Entry<String, Object> e : patternProperties.getMap().entrySet()) {
+          patterns[i] = engine.compile(e.getKey());
+          node.patternNodes[i] = nodeFor(e.getValue(), scope.copy().append("patternProperties").append(e.getKey()));
+          i++;
+        }
+        node.patterns = new PatternSet(patterns);
+      }
+      Object additionalProperties = json.getValue("additionalProperties");
+      if (additionalProperties instanceof JsonObject)
+        node.additionalProperties = nodesFor(additionalProperties, scope.copy().append("additionalProperties"));
+      else if (Boolean.FALSE.equals(additionalProperties))
+        node.additionalPropertiesAllowed = false;
+      if (json.containsKey("propertyNames"))
+        node.propertyNames = lookupSchema(scope.copy().append("propertyNames"));
+      JsonArray required = json.getJsonArray("required");
+      if (required != null && !required.isEmpty())
+        node.required = ((List<String>) required.getList()).stream().distinct().toArray(String[]::new);
+      JsonObject dependencies = json.getJsonObject("dependencies");
+      if (dependencies != null) {
+        for (Map.Entry<String, Object> e : dependencies.getMap().entrySet()) {
+          if (((List) e.getValue()).isEmpty()) continue;
+          if (node.keyDependencies == null) node.keyDependencies = new HashMap<>();
+          node.keyDependencies.put(e.getKey(), ((List<String>) e.getValue()).stream().collect(Collectors.toSet()));
+        }
+      }
+      if (json.containsKey("minProperties")) node.minProperties = ((Number) json.getValue("minProperties")).intValue();
+      if (json.containsKey("maxProperties")) node.maxProperties = ((Number) json.getValue("maxProperties")).intValue();
+
+      Object items = json.getValue("items");
+      if (items instanceof JsonArray) {
+        JsonArray tuple = (JsonArray) items;
+        node.tupleItems = new StreamNode[tuple.size()][];
+        for (int i = 0; i < tuple.size(); i++)
+          node.tupleItems[i] = nodesFor(tuple.getValue(i), scope.copy().append("items").append(Integer.toString(i)));
+        // With tuple items, items holds the additionalItems schema
+        if (json.containsKey("additionalItems"))
+          node.items = nodesFor(json.getValue("additionalItems"), scope.copy().append("additionalItems"));
+      } else if (items != null) {
+        node.items = nodesFor(items, scope.copy().append("items"));
+      }
+      if (json.containsKey("minItems")) node.minItems = ((Number) json.getValue("minItems")).intValue();
+      if (json.containsKey("maxItems")) node.maxItems = ((Number) json.getValue("maxItems")).intValue();
+    }
+
+    private Schema lookupSchema(JsonPointer scope) {
+      Schema s = parser.getSchemaRouter().resolveCachedSchema(JsonPointer.fromURI(scope.buildURI()), scope, parser);
+      if (s == null) throw new IllegalStateException("Cannot find parsed schema " + scope.buildURI());
+      return s;
+    }
+
+    private Schema resolveRef(Schema schema) {
+      Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+      Schema target = schema;
+      while (target instanceof RefSchema) {
+        Schema next = visited.add(target) ? ((RefSchema) target).getReferencedSchema() : null;
+        if (next == null)
+          throw new NoSyncValidationException("Reference " + target.getScope() + " is not solved");
+        target = next;
+      }
+      return target;
+    }
+  }
+}
@@ -0,0 +1,284 @@
+package io.vertx.ext.json.schema.streaming;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonEvent;
+import io.vertx.core.parsetools.JsonParser;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.ValidationErrorType;
+import io.vertx.ext.json.schema.ValidationException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validates a single JSON document while it's parsed. Feed it with {@link #handle(Buffer)} (e.g. as handler of a
+ * {@link io.vertx.core.streams.ReadStream}) and call {@link #end()} when the document is complete. <br/>
+ * The {@link #result()} future fails with the first {@link ValidationException} found, as soon as the invalid token is
+ * parsed, or with a {@link io.vertx.core.json.DecodeException} if the document is not valid JSON. After the failure
+ * the following buffers are ignored. <br/>
+ * Errors are reported by the innermost schema that fails, with {@link ValidationException#inputLocation()} pointing to
+ * the invalid value. The error could differ from the one reported by {@link Schema#validateSync(Object)}, e.g. a
+ * property that doesn't match the {@code additionalProperties} schema is reported with the error of that schema
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class StreamingValidator implements Handler<Buffer> {
+
+  private enum FrameKind {
+    // Container validated event by event
+    STREAM,
+    // Container materialized and validated when it ends
+    MATERIALIZE,
+    // Container accepted without any check
+    SKIP
+  }
+
+  private static final class Frame {
+    final FrameKind kind;
+    final boolean isObject;
+    final StreamNode node;
+    final Schema[] schemas;
+    final Object container;
+    final Set<String> seenKeys;
+    int count;
+    // Location of the value being parsed inside this container
+    String currentField;
+    int currentIndex = -1;
+
+    Frame(FrameKind kind, boolean isObject, StreamNode node, Schema[] schemas, Object container) {
+      this.kind = kind;
+      this.isObject = isObject;
+      this.node = node;
+      this.schemas = schemas;
+      this.container = container;
+      this.seenKeys = node != null && node.tracksKeys() ? new HashSet<>() : null;
+    }
+  }
+
+  private static final Schema[] NO_SCHEMAS = new Schema[0];
+
+  private final StreamNode root;
+  private final JsonParser parser;
+  private final List<Frame> stack;
+  private final Future<Void> result;
+  private boolean rootSeen;
+
+  StreamingValidator(StreamNode root) {
+    this.root = root;
+    this.stack = new ArrayList<>();
+    this.result = Future.future();
+    this.parser = JsonParser.newParser();
+    this.parser.handler(this::handleEvent);
+    this.parser.exceptionHandler(t -> fail(t.getCause() != null ? t.getCause() : t));
+  }
+
+  /**
+   * Parse and validate the provided chunk of the document
+   *
+   * @param buffer
+   */
+  @Override
+  public void handle(Buffer buffer) {
+    if (!result.isComplete()) parser.handle(buffer);
+  }
+
+  /**
+   * Signal the end of the document
+   *
+   * @return the result of the validation
+   */
+  public Future<Void> end() {
+    if (!result.isComplete()) parser.end();
+    if (!result.isComplete()) {
+      if (!rootSeen || !stack.isEmpty())
+        result.fail(ValidationErrorType.NO_MATCH.createException("Incomplete JSON document", null, null));
+      else
+        result.complete();
+    }
+    return result;
+  }
+
+  /**
+   * Returns the result of the validation. It completes after {@link #end()} or fails as soon as an error is found
+   *
+   * @return
+   */
+  public Future<Void> result() {
+    return result;
+  }
+
+  private void handleEvent(JsonEvent event) {
+    if (result.isComplete()) return;
+    try {
+      switch (event.type()) {
+        case START_OBJECT:
+          startContainer(event.fieldName(), true);
+          break;
+        case START_ARRAY:
+          startContainer(event.fieldName(), false);
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          endContainer();
+          break;
+        case VALUE:
+          value(event.fieldName(), event.value());
+          break;
+      }
+    } catch (ValidationException e) {
+      if (e.inputLocation() == null) e.setInputLocation(currentLocation());
+      fail(e);
+    }
+  }
+
+  private void fail(Throwable t) {
+    if (!result.isComplete()) result.fail(t);
+  }
+
+  private void value(String fieldName, Object value) {
+    if (value instanceof Long) {
+      long l = (Long) value;
+      if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) value = (int) l;
+    }
+    Frame parent = top();
+    if (parent != null && parent.kind == FrameKind.MATERIALIZE) {
+      addToContainer(parent, fieldName, value);
+      return;
+    }
+    if (parent != null && parent.kind == FrameKind.SKIP) {
+      trackSlot(parent, fieldName);
+      return;
+    }
+    for (StreamNode node : enterSlot(parent, fieldName))
+      node.schema.validateSync(value);
+  }
+
+  private void startContainer(String fieldName, boolean isObject) {
+    Frame parent = top();
+    if (parent != null && parent.kind == FrameKind.MATERIALIZE) {
+      Object container = isObject ? new JsonObject() : new JsonArray();
+      addToContainer(parent, fieldName, container);
+      stack.add(new Frame(FrameKind.MATERIALIZE, isObject, null, NO_SCHEMAS, container));
+      return;
+    }
+    if (parent != null && parent.kind == FrameKind.SKIP) {
+      trackSlot(parent, fieldName);
+      stack.add(new Frame(FrameKind.SKIP, isObject, null, null, null));
+      return;
+    }
+    StreamNode[] nodes = enterSlot(parent, fieldName);
+    if (nodes.length == 0) {
+      stack.add(new Frame(FrameKind.SKIP, isObject, null, null, null));
+    } else if (nodes.length == 1 && !nodes[0].materialize) {
+      StreamNode node = nodes[0];
+      if (isObject ? !node.allowsObject : !node.allowsArray) {
+        // Let the schema report the right error
+        node.schema.validateSync(isObject ? new JsonObject() : new JsonArray());
+        throw ValidationErrorType.NO_MATCH.createException("Wrong type", "type", null);
+      }
+      stack.add(new Frame(FrameKind.STREAM, isObject, node, null, null));
+    } else {
+      Schema[] schemas = new Schema[nodes.length];
+      for (int i = 0; i < nodes.length; i++) schemas[i] = nodes[i].schema;
+      stack.add(new Frame(FrameKind.MATERIALIZE, isObject, null, schemas, isObject ? new JsonObject() : new JsonArray()));
+    }
+  }
+
+  private void endContainer() {
+    Frame frame = stack.get(stack.size() - 1);
+    // Errors found now are about the container itself
+    frame.currentField = null;
+    frame.currentIndex = -1;
+    if (frame.kind == FrameKind.STREAM) {
+      checkEnd(frame);
+    } else if (frame.kind == FrameKind.MATERIALIZE) {
+      for (Schema s : frame.schemas) s.validateSync(frame.container);
+    }
+    stack.remove(stack.size() - 1);
+  }
+
+  private StreamNode[] enterSlot(Frame parent, String fieldName) {
+    if (parent == null) {
+      rootSeen = true;
+      return root == StreamNode.ACCEPT_ALL ? StreamNode.NO_NODES : new StreamNode[]{root};
+    }
+    StreamNode node = parent.node;
+    // Inside arrays the parser still reports the name of the field containing the array
+    if (parent.isObject) {
+      parent.currentField = fieldName;
+      parent.count++;
+      if (parent.count > node.maxProperties)
+        throw error(node, "maxProperties", "provided object should not contain more properties than ", node.maxProperties);
+      if (!node.additionalPropertiesAllowed && node.isAdditionalProperty(fieldName))
+        throw error(node, "additionalProperties", "Property not allowed: ", fieldName);
+      if (node.propertyNames != null) node.propertyNames.validateSync(fieldName);
+      if (parent.seenKeys != null) parent.seenKeys.add(fieldName);
+      return node.propertyNodes(fieldName);
+    } else {
+      int index = parent.currentIndex = parent.count++;
+      if (parent.count > node.maxItems)
+        throw error(node, "maxItems", "provided array should not contain more items than ", node.maxItems);
+      return node.itemNodes(index);
+    }
+  }
+
+  private void checkEnd(Frame frame) {
+    StreamNode node = frame.node;
+    if (frame.isObject) {
+      if (node.required != null)
+        for (String key : node.required)
+          if (!frame.seenKeys.contains(key))
+            throw error(node, "required", "provided object should contain property ", key);
+      if (node.keyDependencies != null)
+        for (String key : node.keyDependencies.keySet())
+          if (frame.seenKeys.contains(key) && !frame.seenKeys.containsAll(node.keyDependencies.get(key)))
+            throw error(node, "dependencies", "dependencies of property " + key + " not satisfied: ", node.keyDependencies.get(key));
+      if (frame.count < node.minProperties)
+        throw error(node, "minProperties", "provided object should contain more properties than ", node.minProperties);
+    } else if (frame.count < node.minItems) {
+      throw error(node, "minItems", "provided array should contain more items than ", node.minItems);
+    }
+  }
+
+  private void addToContainer(Frame frame, String fieldName, Object value) {
+    if (frame.isObject) {
+      frame.currentField = fieldName;
+      ((JsonObject) frame.container).getMap().put(fieldName, value);
+    } else {
+      frame.currentIndex = frame.count++;
+      ((JsonArray) frame.container).getList().add(value);
+    }
+  }
+
+  private void trackSlot(Frame frame, String fieldName) {
+    if (frame.isObject) frame.currentField = fieldName;
+    else frame.currentIndex = frame.count++;
+  }
+
+  private Frame top() {
+    return stack.isEmpty() ? null : stack.get(stack.size() - 1);
+  }
+
+  private ValidationException error(StreamNode node, String keyword, String messagePrefix, Object messageArgument) {
+    ValidationException e = ValidationErrorType.NO_MATCH.createLazyException(messagePrefix, messageArgument, keyword, null);
+    e.setSchema(node.schema);
+    e.setScope(node.schema.getScope());
+    return e;
+  }
+
+  private JsonPointer currentLocation() {
+    JsonPointer pointer = JsonPointer.create();
+    for (Frame frame : stack) {
+      if (frame.currentField != null) pointer.append(frame.currentField);
+      else if (frame.currentIndex >= 0) pointer.append(Integer.toString(frame.currentIndex));
+    }
+    return pointer;
+  }
+}
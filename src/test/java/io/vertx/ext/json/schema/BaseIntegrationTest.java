@@ -1,5 +1,6 @@
 package io.vertx.ext.json.schema;
 
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
@@ -30,7 +31,6 @@ import java.nio.file.Path;
 import java.util.AbstractMap;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -55,7 +55,7 @@ public abstract class BaseIntegrationTest {
 
   public Vertx vertx;
   HttpServer schemaServer;
-  String testName;
+  public String testName;
   public String testFileName;
   JsonObject test;
 
@@ -121,12 +121,11 @@ public abstract class BaseIntegrationTest {
     stopSchemaServer(context);
   }
 
-  private Optional<Schema> buildSchema(Object schema) {
+  private Future<Schema> buildSchema(Object schema) {
     try {
-      return Optional.of(buildSchemaFunction(schema));
+      return buildSchemaFunctionAsync(schema);
     } catch (Exception e) {
-      t.fail("Something went wrong during schema initialization for test \"" + testName + "\"", e);
-      return Optional.empty();
+      return Future.failedFuture(e);
     }
   }
 
@@ -135,6 +134,15 @@ public abstract class BaseIntegrationTest {
     schema.validate(obj).setHandler(event -> {
       if (event.failed())
         t.fail(String.format("\"%s\" -> \"%s\" should be valid", testName, testCaseName), event.cause());
+      if (schema.isSync()) {
+        try {
+          schema.validateSync(obj);
+        } catch (ValidationException e) {
+          t.fail(String.format("\"%s\" -> \"%s\" should be valid with sync validation", testName, testCaseName), e);
+        }
+        if (!schema.validateAll(obj, 10).isEmpty())
+          t.fail(String.format("\"%s\" -> \"%s\" should be valid collecting all errors", testName, testCaseName));
+      }
       async.complete();
     });
   }
@@ -146,26 +154,46 @@ public abstract class BaseIntegrationTest {
         t.fail("\"%s\" -> \"%s\" should be invalid", testName, testCaseName);
       else
         log.debug(event.cause().toString());
+      if (schema.isSync()) {
+        try {
+          schema.validateSync(obj);
+          t.fail("\"%s\" -> \"%s\" should be invalid with sync validation", testName, testCaseName);
+        } catch (ValidationException e) {
+          log.debug(e.toString());
+        }
+        if (schema.validateAll(obj, 10).isEmpty())
+          t.fail("\"%s\" -> \"%s\" should be invalid collecting all errors", testName, testCaseName);
+      }
       async.complete();
     });
   }
 
   @Test
   public void test(TestContext context) {
-    buildSchema(test.getValue("schema"))
-        .ifPresent(schema -> {
-          for (Object tc : test.getJsonArray("tests").stream().collect(Collectors.toList())) {
-            JsonObject testCase = (JsonObject) tc;
-            if (testCase.getBoolean("valid"))
-              validateSuccess(schema, testCase.getValue("data"), testCase.getString("description"), context);
-            else
-              validateFailure(schema, testCase.getValue("data"), testCase.getString("description"), context);
-          }
-        });
+    Async async = context.async();
+    buildSchema(test.getValue("schema")).setHandler(ar -> {
+      if (ar.failed()) {
+        t.fail("Something went wrong during schema initialization for test \"" + testName + "\"", ar.cause());
+      } else {
+        Schema schema = ar.result();
+        for (Object tc : test.getJsonArray("tests").stream().collect(Collectors.toList())) {
+          JsonObject testCase = (JsonObject) tc;
+          if (testCase.getBoolean("valid"))
+            validateSuccess(schema, testCase.getValue("data"), testCase.getString("description"), context);
+          else
+            validateFailure(schema, testCase.getValue("data"), testCase.getString("description"), context);
+        }
+      }
+      async.complete();
+    });
   }
 
   public abstract Schema buildSchemaFunction(Object schema) throws URISyntaxException;
 
+  public Future<Schema> buildSchemaFunctionAsync(Object schema) throws URISyntaxException {
+    return Future.succeededFuture(buildSchemaFunction(schema));
+  }
+
   public abstract String getSchemasPath();
 
   public abstract String getRemotesPath();
@@ -0,0 +1,63 @@
+package io.vertx.ext.json.schema;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.draft7.Draft7SchemaParser;
+import org.junit.After;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Base class of the tests that parse schemas with local refs only. The {@link Vertx} instance is created only by the
+ * tests that need a parser and closed after each test
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public abstract class SchemaTestBase {
+
+  public static final URI SCHEMA_URI = URI.create("http://localhost/schema.json");
+
+  private Vertx vertx;
+
+  @After
+  public void closeVertx() {
+    if (vertx != null) vertx.close();
+    vertx = null;
+  }
+
+  protected Vertx vertx() {
+    if (vertx == null) vertx = Vertx.vertx();
+    return vertx;
+  }
+
+  protected SchemaRouter router() {
+    return SchemaRouter.create(vertx());
+  }
+
+  protected SchemaParser draft7Parser(SchemaParserOptions options) {
+    return Draft7SchemaParser.create(options, router());
+  }
+
+  protected SchemaParser draft7Parser() {
+    return draft7Parser(new SchemaParserOptions());
+  }
+
+  protected Schema parse(JsonObject schema) {
+    return draft7Parser().parse(schema, SCHEMA_URI);
+  }
+
+  protected boolean isValid(Schema schema, Object in) {
+    return catchThrowableOfType(() -> schema.validateSync(in), ValidationException.class) == null;
+  }
+
+  /**
+   * Returns the keyword of the validation error, or null if the input is valid
+   */
+  protected String failingKeyword(Schema schema, Object in) {
+    ValidationException e = catchThrowableOfType(() -> schema.validateSync(in), ValidationException.class);
+    return e == null ? null : e.keyword();
+  }
+
+}
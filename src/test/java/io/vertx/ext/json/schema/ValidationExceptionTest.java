@@ -0,0 +1,41 @@
+package io.vertx.ext.json.schema;
+
+import io.vertx.core.json.JsonArray;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValidationExceptionTest {
+
+  @Test
+  public void lazyMessage() {
+    ValidationException e = ValidationErrorType.NO_MATCH.createLazyException("Input doesn't match one of allowed values of enum: ", new JsonArray().add(1).add("a"), "enum", 2);
+    assertThat(e.getMessage()).isEqualTo("Input doesn't match one of allowed values of enum: [1,\"a\"]");
+    assertThat(e.keyword()).isEqualTo("enum");
+  }
+
+  @Test
+  public void lazyMessageWithArray() {
+    ValidationException e = ValidationErrorType.NO_MATCH.createLazyException("input don't match any of types ", new Object[]{"a", new Object[]{"b"}}, "type", 2);
+    assertThat(e.getMessage()).isEqualTo("input don't match any of types [a, [b]]");
+  }
+
+  @Test
+  public void noStackTraceByDefault() {
+    assertThat(ValidationErrorType.NO_MATCH.createException("error", "type", 1).getStackTrace()).isEmpty();
+    assertThat(ValidationErrorType.NO_MATCH.createLazyException("error ", 1, "type", 1).getStackTrace()).isEmpty();
+  }
+
+  @Test
+  public void lazyMessageWithThrowableArgument() {
+    IllegalStateException argument = new IllegalStateException("boom");
+    ValidationException lazy = ValidationErrorType.NO_MATCH.createLazyException("error ", argument, "type", 1);
+    assertThat(lazy.getMessage()).isEqualTo("error " + argument);
+    assertThat(lazy.getCause()).isNull();
+
+    ValidationException withCause = ValidationErrorType.NO_MATCH.createException("error", argument, "type", 1);
+    assertThat(withCause.getMessage()).isEqualTo("error");
+    assertThat(withCause.getCause()).isSameAs(argument);
+  }
+
+}
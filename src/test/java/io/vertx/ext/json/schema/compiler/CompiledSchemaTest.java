@@ -0,0 +1,47 @@
+package io.vertx.ext.json.schema.compiler;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.Assume.assumeTrue;
+
+public class CompiledSchemaTest extends SchemaTestBase {
+
+  private ValidationException fail(Schema schema, Object in) {
+    return catchThrowableOfType(() -> schema.validateSync(in), ValidationException.class);
+  }
+
+  @Test
+  public void reportFailingSubschema() {
+    assumeTrue(SchemaCompiler.isAvailable());
+    SchemaParser parser = draft7Parser();
+    Schema schema = SchemaCompiler.create(parser).compile(parser.parse(new JsonObject()
+        .put("type", "object")
+        .put("properties", new JsonObject()
+            .put("a", new JsonObject().put("type", "string"))
+            .put("b", new JsonObject().put("items", new JsonObject().put("minimum", 0)))
+        ), SCHEMA_URI));
+    assertThat(schema).isInstanceOf(CompiledSchema.class);
+    JsonPointer root = JsonPointer.fromURI(SCHEMA_URI);
+
+    ValidationException e = fail(schema, new JsonObject().put("a", 1));
+    assertThat(e.keyword()).isEqualTo("type");
+    assertThat(e.scope()).isEqualTo(root.copy().append("properties").append("a"));
+    assertThat(e.schema().getScope()).isEqualTo(e.scope());
+
+    e = fail(schema, new JsonObject().put("b", new JsonArray().add(1).add(-1)));
+    assertThat(e.keyword()).isEqualTo("minimum");
+    assertThat(e.scope()).isEqualTo(root.copy().append("properties").append("b").append("items"));
+
+    e = fail(schema, "a");
+    assertThat(e.keyword()).isEqualTo("type");
+    assertThat(e.schema()).isSameAs(schema);
+    assertThat(e.scope()).isEqualTo(root);
+  }
+
+}
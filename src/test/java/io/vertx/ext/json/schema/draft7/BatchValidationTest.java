@@ -0,0 +1,71 @@
+package io.vertx.ext.json.schema.draft7;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class BatchValidationTest {
+
+  public Vertx vertx;
+  public Schema schema;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    SchemaParser parser = Draft7SchemaParser.create(new SchemaParserOptions(), SchemaRouter.create(vertx));
+    schema = parser.parse(new JsonObject().put("type", "integer").put("minimum", 0), URI.create("http://localhost/schema.json"));
+  }
+
+  @After
+  public void tearDown(TestContext context) {
+    vertx.close(context.asyncAssertSuccess());
+  }
+
+  private List<Object> inputs(int size) {
+    List<Object> inputs = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) inputs.add(i % 7 == 0 ? -i : i);
+    return inputs;
+  }
+
+  private void assertResult(BatchValidationResult result, int size) {
+    assertThat(result.size()).isEqualTo(size);
+    BitSet expected = new BitSet();
+    for (int i = 1; i < size; i++) if (i % 7 == 0) expected.set(i);
+    assertThat(result.failures()).isEqualTo(expected);
+    assertThat(result.isValid(1)).isTrue();
+    assertThat(result.getError(1)).isNull();
+    assertThat(result.getError(7).keyword()).isEqualTo("minimum");
+    assertThat(result.getError(7).inputLocation().build()).isEqualTo("/7");
+  }
+
+  @Test
+  public void validateBatchSync() {
+    assertResult(schema.validateBatch(inputs(100)), 100);
+  }
+
+  @Test
+  public void validateBatchOnWorkers(TestContext context) {
+    int size = BatchValidationResult.CHUNK_SIZE * 3 + 10;
+    Async async = context.async();
+    schema.validateBatch(vertx, inputs(size)).setHandler(context.asyncAssertSuccess(result -> {
+      context.verify(v -> assertResult(result, size));
+      async.complete();
+    }));
+  }
+
+}
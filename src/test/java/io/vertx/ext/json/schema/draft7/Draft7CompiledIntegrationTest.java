@@ -0,0 +1,41 @@
+package io.vertx.ext.json.schema.draft7;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.SchemaParser;
+import io.vertx.ext.json.schema.SchemaParserOptions;
+import io.vertx.ext.json.schema.compiler.CompiledSchema;
+import io.vertx.ext.json.schema.compiler.SchemaCompiler;
+import io.vertx.ext.json.schema.generic.SchemaRouterImpl;
+
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+
+/**
+ * Runs the draft7 test suite against schemas compiled with {@link SchemaCompiler}
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class Draft7CompiledIntegrationTest extends Draft7IntegrationTest {
+  public Draft7CompiledIntegrationTest(Object testName, Object testFileName, Object testObject) {
+    super(testName, testFileName, testObject);
+  }
+
+  @Override
+  public Future<Schema> buildSchemaFunctionAsync(Object schema) throws URISyntaxException {
+    SchemaParser parser = Draft7SchemaParser.create(new SchemaParserOptions(), new SchemaRouterImpl(vertx.createHttpClient(), vertx.fileSystem()));
+    return parser
+        .parseAndLink(schema, Paths.get(this.getSchemasPath() + "/" + testFileName + ".json").toAbsolutePath().toUri())
+        .compose(s -> {
+          Future<Schema> fut = Future.future();
+          vertx.executeBlocking(f -> f.complete(SchemaCompiler.create(parser).compile(s)), false, fut);
+          return fut;
+        })
+        .map(s -> {
+          if (schema instanceof JsonObject && SchemaCompiler.isAvailable() && !(s instanceof CompiledSchema))
+            t.fail("Schema for test \"" + testName + "\" was not compiled");
+          return s;
+        });
+  }
+}
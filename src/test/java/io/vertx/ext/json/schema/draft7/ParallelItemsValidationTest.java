@@ -0,0 +1,130 @@
+package io.vertx.ext.json.schema.draft7;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class ParallelItemsValidationTest {
+
+  private Vertx vertx;
+  private SchemaParser parser;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    parser = Draft7SchemaParser.create(new SchemaParserOptions().setParallelItemsThreshold(1000), SchemaRouter.create(vertx));
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private JsonArray array(int size, int... invalidIndexes) {
+    JsonArray arr = new JsonArray();
+    for (int i = 0; i < size; i++) arr.add(i);
+    for (int i : invalidIndexes) arr.getList().set(i, "invalid " + i);
+    return arr;
+  }
+
+  private void assertFirstError(Schema schema, JsonArray arr, Object expectedInput) {
+    try {
+      schema.validateSync(arr);
+      fail("Validation should fail");
+    } catch (ValidationException e) {
+      assertThat(e.keyword()).isEqualTo("type");
+      assertThat(e.input()).isEqualTo(expectedInput);
+    }
+  }
+
+  @Test
+  public void items() {
+    Schema schema = parser.parse(new JsonObject().put("items", new JsonObject().put("type", "integer")), URI.create("http://localhost/schema.json"));
+    schema.validateSync(array(100_000));
+    for (int i = 0; i < 20; i++)
+      assertFirstError(schema, array(100_000, 99_999, 50_000, 30_001), "invalid 30001");
+  }
+
+  @Test
+  public void additionalItems() {
+    Schema schema = parser.parse(new JsonObject()
+        .put("items", new JsonArray().add(new JsonObject().put("type", "integer")))
+        .put("additionalItems", new JsonObject().put("type", "integer")), URI.create("http://localhost/schema.json"));
+    schema.validateSync(array(10_000));
+    assertFirstError(schema, array(10_000, 9_000, 0), "invalid 0");
+  }
+
+  @Test
+  public void asyncValidationDoesntBlock() {
+    // Tasks run only when the test asks to
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    SchemaParser parser = Draft7SchemaParser.create(
+        new SchemaParserOptions().setParallelItemsThreshold(1000).setParallelItemsExecutor(tasks::add),
+        SchemaRouter.create(vertx)
+    );
+    Schema schema = parser.parse(new JsonObject().put("properties", new JsonObject()
+        .put("list", new JsonObject().put("items", new JsonObject().put("type", "integer")))), URI.create("http://localhost/schema.json"));
+
+    Future<Void> valid = schema.validate(new JsonObject().put("list", array(10_000)));
+    assertThat(valid.isComplete()).isFalse();
+    assertThat(tasks).isNotEmpty();
+    while (!tasks.isEmpty()) tasks.poll().run();
+    assertThat(valid.succeeded()).isTrue();
+
+    Future<Void> invalid = schema.validate(new JsonObject().put("list", array(10_000, 5_000, 2_000)));
+    assertThat(invalid.isComplete()).isFalse();
+    while (!tasks.isEmpty()) tasks.poll().run();
+    assertThat(invalid.failed()).isTrue();
+    assertThat(((ValidationException) invalid.cause()).input()).isEqualTo("invalid 2000");
+
+    // Small arrays are validated in the caller
+    assertThat(schema.validate(new JsonObject().put("list", array(10))).succeeded()).isTrue();
+    assertThat(tasks).isEmpty();
+  }
+
+  @Test
+  public void fallbackDoesntRetrySyncValidation() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    AtomicInteger checks = new AtomicInteger();
+    SchemaParser parser = Draft7SchemaParser.create(
+        new SchemaParserOptions()
+            .setParallelItemsThreshold(1000)
+            .setParallelItemsExecutor(tasks::add)
+            .putAdditionalStringFormatValidator("counted", s -> checks.incrementAndGet() > 0),
+        SchemaRouter.create(vertx)
+    );
+    JsonObject counted = new JsonObject().put("format", "counted");
+    Schema schema = parser.parse(new JsonObject().put("properties", new JsonObject()
+        .put("s", counted)
+        .put("a", new JsonObject().put("properties", new JsonObject()
+            .put("s", counted)
+            .put("b", new JsonObject().put("properties", new JsonObject()
+                .put("s", counted)
+                .put("list", new JsonObject().put("items", new JsonObject().put("type", "integer")))))))), URI.create("http://localhost/schema.json"));
+
+    JsonObject in = new JsonObject()
+        .put("s", "x")
+        .put("a", new JsonObject()
+            .put("s", "x")
+            .put("b", new JsonObject().put("s", "x").put("list", array(10_000))));
+    Future<Void> result = schema.validate(in);
+    while (!tasks.isEmpty()) tasks.poll().run();
+    assertThat(result.succeeded()).isTrue();
+    // Once by the sync attempt of the root, once by the async fallback
+    assertThat(checks.get()).isEqualTo(6);
+  }
+
+}
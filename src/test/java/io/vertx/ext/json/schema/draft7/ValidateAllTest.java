@@ -0,0 +1,85 @@
+package io.vertx.ext.json.schema.draft7;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValidateAllTest extends SchemaTestBase {
+
+  public SchemaParser parser;
+
+  @Before
+  public void setUp() throws Exception {
+    parser = draft7Parser();
+  }
+
+  private Schema parseObjectSchema() {
+    return parser.parse(new JsonObject()
+        .put("type", "object")
+        .put("properties", new JsonObject()
+            .put("a", new JsonObject().put("type", "string"))
+            .put("b", new JsonObject().put("minimum", 10))
+            .put("list", new JsonObject().put("items", new JsonObject().put("type", "integer")))
+            .put("c", new JsonObject())
+            .put("d", new JsonObject())
+        )
+        .put("required", new JsonArray().add("c").add("d"))
+        .put("additionalProperties", false), SCHEMA_URI);
+  }
+
+  private List<String> locations(List<ValidationException> errors) {
+    return errors.stream().map(e -> e.inputLocation().build()).collect(Collectors.toList());
+  }
+
+  @Test
+  public void collectAllErrors() {
+    Schema schema = parseObjectSchema();
+    List<ValidationException> errors = schema.validateAll(new JsonObject()
+        .put("a", 1)
+        .put("b", 5)
+        .put("list", new JsonArray().add(1).add("x").add(3).add(false))
+        .put("e", true), 100);
+    assertThat(errors).hasSize(7);
+    assertThat(locations(errors)).containsExactlyInAnyOrder("", "", "/a", "/b", "/list/1", "/list/3", "/e");
+    assertThat(errors.stream().map(ValidationException::keyword).collect(Collectors.toList()))
+        .containsExactlyInAnyOrder("required", "required", "type", "minimum", "type", "type", "additionalProperties");
+    assertThat(errors).allMatch(e -> e.scope() != null);
+    assertThat(errors.stream().filter(e -> "minimum".equals(e.keyword())).findFirst().get().scope().build())
+        .isEqualTo("/properties/b");
+  }
+
+  @Test
+  public void collectErrorsUntilMax() {
+    Schema schema = parseObjectSchema();
+    List<ValidationException> errors = schema.validateAll(new JsonObject().put("a", 1).put("b", 5), 2);
+    assertThat(errors).hasSize(2);
+  }
+
+  @Test
+  public void collectNoErrors() {
+    Schema schema = parseObjectSchema();
+    assertThat(schema.validateAll(new JsonObject().put("c", 1).put("d", 2), 10)).isEmpty();
+  }
+
+  @Test
+  public void failFastAfterCollectAll() {
+    Schema schema = parseObjectSchema();
+    schema.validateAll(new JsonObject().put("a", 1), 10);
+    try {
+      schema.validateSync(new JsonObject().put("c", 1).put("d", 2).put("a", 1));
+    } catch (ValidationException e) {
+      assertThat(e.keyword()).isEqualTo("type");
+      assertThat(e.inputLocation()).isNull();
+      return;
+    }
+    throw new AssertionError("Validation should fail");
+  }
+
+}
@@ -0,0 +1,115 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class CanonicalJsonTest extends SchemaTestBase {
+
+  @Test
+  public void constant() {
+    CanonicalJson.Constant constant = new CanonicalJson.Constant(new JsonObject().put("a", 1).put("b", new JsonArray().add(2)));
+    assertThat(constant.matches(new JsonObject().put("b", new JsonArray().add(2.0)).put("a", 1L))).isTrue();
+    assertThat(constant.matches(new JsonObject().put("a", 1))).isFalse();
+    assertThat(constant.matches(new JsonArray().add(1).add(2))).isFalse();
+    assertThat(constant.matches(null)).isFalse();
+    assertThat(constant.matches(new JsonObject().put("a", 1).put("b", new JsonArray().add(2)), constant.hash() + 1)).isFalse();
+    assertThat(new CanonicalJson.Constant(null).matches(null)).isTrue();
+    assertThat(new CanonicalJson.Constant(1).matches(new BigDecimal("1.0"))).isTrue();
+  }
+
+  @Test
+  public void constKeyword() {
+    Schema schema = parse(new JsonObject().put("const", new JsonObject().put("x", 1)));
+    assertThat(isValid(schema, new JsonObject().put("x", 1.0))).isTrue();
+    assertThat(isValid(schema, new JsonObject().put("x", 1.5))).isFalse();
+    assertThat(isValid(schema, new JsonArray().add(1))).isFalse();
+    Schema nullSchema = parse(new JsonObject().putNull("const"));
+    assertThat(isValid(nullSchema, null)).isTrue();
+    assertThat(isValid(nullSchema, 0)).isFalse();
+  }
+
+  @Test
+  public void uniqueItems() {
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(Arrays.asList(1, 1.0))).isTrue();
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(Arrays.asList(1, "1", true, null))).isFalse();
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(Arrays.asList(
+        new JsonObject().put("a", 1).put("b", 2), new JsonObject().put("b", 2).put("a", 1)))).isTrue();
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(Arrays.asList(
+        new JsonArray().add(1).add(2), new JsonArray().add(2).add(1)))).isFalse();
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(Arrays.asList(null, null))).isTrue();
+    Schema schema = parse(new JsonObject().put("uniqueItems", true));
+    assertThat(isValid(schema, new JsonArray().add(1).add(2).add(3))).isTrue();
+    assertThat(isValid(schema, new JsonArray().add(1).add(2).add(1.0))).isFalse();
+  }
+
+  @Test
+  public void uniqueItemsOfBigArrays() {
+    List<Object> strings = new ArrayList<>();
+    List<Object> integers = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      strings.add("item-" + i);
+      integers.add(i - 5000);
+    }
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(strings)).isFalse();
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(integers)).isFalse();
+    strings.add("item-42");
+    integers.add(0.0);
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(strings)).isTrue();
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(integers)).isTrue();
+    integers.set(integers.size() - 1, 4999L);
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(integers)).isTrue();
+    integers.set(integers.size() - 1, 0.5);
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(integers)).isFalse();
+    integers.add(new BigDecimal("-5000.0"));
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(integers)).isTrue();
+    strings.set(strings.size() - 1, 42);
+    assertThat(UniqueItemsValidatorFactory.hasDuplicates(strings)).isFalse();
+  }
+
+  @Test
+  public void uniqueItemsStopAtFirstDuplicate() {
+    for (Object item : new Object[]{"a", 1, 1.5}) {
+      List<Object> list = new AbstractList<Object>() {
+        @Override
+        public Object get(int index) {
+          if (index > 1) throw new IllegalStateException("Items after the duplicate should not be read");
+          return item;
+        }
+
+        @Override
+        public int size() {
+          return 10000;
+        }
+      };
+      assertThat(UniqueItemsValidatorFactory.firstDuplicate(list)).isEqualTo(1);
+    }
+
+    List<Object> mixed = new ArrayList<>();
+    for (int i = 0; i < 100; i++) mixed.add("item-" + i);
+    mixed.add(1);
+    mixed.add(2);
+    mixed.add("item-3");
+    assertThat(UniqueItemsValidatorFactory.firstDuplicate(mixed)).isEqualTo(102);
+    mixed.set(102, 1.0);
+    assertThat(UniqueItemsValidatorFactory.firstDuplicate(mixed)).isEqualTo(102);
+    mixed.set(102, "other");
+    assertThat(UniqueItemsValidatorFactory.firstDuplicate(mixed)).isEqualTo(-1);
+
+    Schema schema = parse(new JsonObject().put("uniqueItems", true));
+    ValidationException e = catchThrowableOfType(() -> schema.validateSync(new JsonArray().add(1).add(2).add(1)), ValidationException.class);
+    assertThat(e.keyword()).isEqualTo("uniqueItems");
+    assertThat(e.getMessage()).isEqualTo("array elements must be unique, found a duplicate at index 2");
+  }
+
+}
@@ -0,0 +1,64 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class CompactStringSetTest extends SchemaTestBase {
+
+  private static List<String> codes(int count, Random random) {
+    List<String> codes = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      StringBuilder b = new StringBuilder();
+      int length = random.nextInt(8);
+      for (int j = 0; j < length; j++) b.append((char) ('A' + random.nextInt(4)));
+      if (random.nextBoolean()) b.append(random.nextInt(100));
+      codes.add(b.toString());
+    }
+    return codes;
+  }
+
+  @Test
+  public void containsLikeHashSet() {
+    Random random = new Random(42);
+    Set<String> expected = new HashSet<>(codes(5000, random));
+    for (int bloomBits : new int[]{0, 10}) {
+      CompactStringSet set = new CompactStringSet(expected, bloomBits);
+      assertThat(set.size()).isEqualTo(expected.size());
+      for (String s : expected) assertThat(set.contains(s)).as(s).isTrue();
+      for (String s : codes(5000, random)) assertThat(set.contains(s)).as(s).isEqualTo(expected.contains(s));
+      assertThat(set.contains("\uffff")).isFalse();
+      assertThat(set.contains(1)).isFalse();
+      assertThat(new HashSet<>(set)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void smallSets() {
+    assertThat(new CompactStringSet(Collections.emptyList(), 10).contains("")).isFalse();
+    CompactStringSet set = new CompactStringSet(Arrays.asList("", "a", "ab", "abc", "b"), 0);
+    for (String s : new String[]{"", "a", "ab", "abc", "b"}) assertThat(set.contains(s)).isTrue();
+    for (String s : new String[]{"aa", "abcd", "ac", "ba", "c", "A"}) assertThat(set.contains(s)).isFalse();
+  }
+
+  @Test
+  public void bigEnum() {
+    JsonArray values = new JsonArray();
+    for (int i = 0; i < EnumValidatorFactory.COMPACT_STRINGS_THRESHOLD * 4; i++) values.add("SKU-" + i);
+    values.add(1);
+    SchemaParser parser = draft7Parser();
+    Schema schema = parser.parse(new JsonObject().put("enum", values), SCHEMA_URI);
+    schema.validateSync("SKU-0");
+    schema.validateSync("SKU-4095");
+    schema.validateSync(1);
+    assertThat(catchThrowableOfType(() -> schema.validateSync("SKU-4096"), ValidationException.class)).isNotNull();
+    assertThat(catchThrowableOfType(() -> schema.validateSync("SKU-"), ValidationException.class)).isNotNull();
+  }
+
+}
@@ -0,0 +1,76 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class EnumValidatorTest extends SchemaTestBase {
+
+  @Test
+  public void lookupByType() {
+    Schema schema = parse(new JsonObject().put("enum", new JsonArray()
+        .add("a").add(1).add(2.5).add(true).addNull()
+        .add(new JsonObject().put("x", 1).put("y", new JsonArray().add(1).add(2)))
+        .add(new JsonArray().add("a").add(1))));
+    assertThat(isValid(schema, "a")).isTrue();
+    assertThat(isValid(schema, "b")).isFalse();
+    assertThat(isValid(schema, true)).isTrue();
+    assertThat(isValid(schema, false)).isFalse();
+    assertThat(isValid(schema, null)).isTrue();
+    assertThat(isValid(schema, 2.5)).isTrue();
+    assertThat(isValid(schema, 2)).isFalse();
+    assertThat(isValid(schema, new JsonObject().put("y", new JsonArray().add(1).add(2)).put("x", 1))).isTrue();
+    assertThat(isValid(schema, new JsonObject().put("x", 1).put("y", new JsonArray().add(2).add(1)))).isFalse();
+    assertThat(isValid(schema, new JsonObject().put("x", 1))).isFalse();
+    assertThat(isValid(schema, new JsonArray().add("a").add(1))).isTrue();
+    assertThat(isValid(schema, new JsonArray().add(1).add("a"))).isFalse();
+    // Values of other types never match
+    assertThat(isValid(schema, "1")).isFalse();
+    assertThat(isValid(schema, new JsonArray().add("a"))).isFalse();
+  }
+
+  @Test
+  public void compareNumbersByValue() {
+    Schema schema = parse(new JsonObject().put("enum", new JsonArray()
+        .add(1).add(1.5).add(new JsonObject().put("a", 2.0)).add(new JsonArray().add(3L))));
+    assertThat(isValid(schema, 1L)).isTrue();
+    assertThat(isValid(schema, 1.0)).isTrue();
+    assertThat(isValid(schema, new BigDecimal("1.00"))).isTrue();
+    assertThat(isValid(schema, BigInteger.ONE)).isTrue();
+    assertThat(isValid(schema, new BigDecimal("1.50"))).isTrue();
+    assertThat(isValid(schema, 1.25)).isFalse();
+    assertThat(isValid(schema, new JsonObject().put("a", 2))).isTrue();
+    assertThat(isValid(schema, new JsonArray().add(3.0))).isTrue();
+    assertThat(isValid(schema, new JsonArray().add(3.1))).isFalse();
+  }
+
+  @Test
+  public void canonicalHashes() {
+    assertThat(CanonicalJson.hash(1)).isEqualTo(CanonicalJson.hash(1.0));
+    assertThat(CanonicalJson.hash(new BigDecimal("1e20"))).isEqualTo(CanonicalJson.hash(1e20));
+    assertThat(CanonicalJson.equals(new BigDecimal("1e20"), 1e20)).isTrue();
+    assertThat(CanonicalJson.equals(BigInteger.TEN.pow(20), 1e20)).isTrue();
+    assertThat(CanonicalJson.equals(Long.MAX_VALUE, (double) Long.MAX_VALUE)).isFalse();
+    assertThat(CanonicalJson.hash(new JsonObject().put("a", 1).put("b", 2)))
+        .isEqualTo(CanonicalJson.hash(new JsonObject().put("b", 2.0).put("a", 1)));
+  }
+
+  @Test
+  public void truncateErrorMessage() {
+    JsonArray values = new JsonArray();
+    for (int i = 0; i < 1000; i++) values.add(i);
+    ValidationException e = catchThrowableOfType(() -> parse(new JsonObject().put("enum", values)).validateSync(-1), ValidationException.class);
+    assertThat(e.getMessage()).isEqualTo("Input doesn't match one of allowed values of enum: [0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15] and 984 more");
+
+    e = catchThrowableOfType(() -> parse(new JsonObject().put("enum", new JsonArray().add("a").add(new JsonObject().put("b", 1)))).validateSync("c"), ValidationException.class);
+    assertThat(e.getMessage()).isEqualTo("Input doesn't match one of allowed values of enum: [\"a\",{\"b\":1}]");
+  }
+
+}
@@ -0,0 +1,103 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+import io.vertx.ext.json.schema.draft7.FormatValidatorFactory;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class FormatsTest extends SchemaTestBase {
+
+  @Test
+  public void optionalTckFormats() throws IOException {
+    SchemaParser parser = draft7Parser();
+    for (String format : new String[]{"date", "date-time", "email", "ipv4", "ipv6", "hostname", "uri", "uri-reference"}) {
+      JsonArray groups = new JsonArray(new String(Files.readAllBytes(
+          Paths.get("src", "test", "resources", "tck", "draft7", "optional", "format", format + ".json"))));
+      for (Object g : groups) {
+        JsonObject group = (JsonObject) g;
+        Schema schema = parser.parse(group.getJsonObject("schema"), URI.create("http://localhost/" + format + ".json"));
+        for (Object t : group.getJsonArray("tests")) {
+          JsonObject test = (JsonObject) t;
+          ValidationException e = catchThrowableOfType(() -> schema.validateSync(test.getValue("data")), ValidationException.class);
+          assertThat(e == null).as("%s: %s", format, test.getString("description")).isEqualTo(test.getBoolean("valid"));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void dates() {
+    assertThat(Formats.isDate("2020-02-29")).isTrue();
+    assertThat(Formats.isDate("2019-02-29")).isFalse();
+    assertThat(Formats.isDate("1900-02-29")).isFalse();
+    assertThat(Formats.isDate("2000-02-29")).isTrue();
+    assertThat(Formats.isDate("2020-04-31")).isFalse();
+    assertThat(Formats.isDate("2020-00-10")).isFalse();
+    assertThat(Formats.isDate("2020-01-00")).isFalse();
+    assertThat(Formats.isDate("2020-1-01")).isFalse();
+    assertThat(Formats.isDateTime("2020-01-01T00:00:00+23:59")).isTrue();
+    assertThat(Formats.isDateTime("2020-01-01T24:00:00Z")).isFalse();
+    assertThat(Formats.isDateTime("2020-01-01T00:00:00.Z")).isFalse();
+    assertThat(Formats.isDateTime("2020-01-01T00:00:00")).isFalse();
+    assertThat(Formats.isDateTime("2020-01-01T00:00:00Z ")).isFalse();
+  }
+
+  @Test
+  public void addresses() {
+    assertThat(Formats.isIpv4("001.2.3.4")).isTrue();
+    assertThat(Formats.isIpv4("1.2.3.")).isFalse();
+    assertThat(Formats.isIpv4("1.2.3.1000")).isFalse();
+    assertThat(Formats.isIpv6("1:2:3:4:5:6:7:8")).isTrue();
+    assertThat(Formats.isIpv6("1:2:3:4:5:6:7")).isFalse();
+    assertThat(Formats.isIpv6("1::")).isTrue();
+    assertThat(Formats.isIpv6("::")).isTrue();
+    assertThat(Formats.isIpv6("1::2::3")).isFalse();
+    assertThat(Formats.isIpv6("1:2:3:4:5:6:7::8")).isFalse();
+    assertThat(Formats.isIpv6("::ffff:192.168.0.1")).isTrue();
+    assertThat(Formats.isIpv6("1:2:3:4:5:6:192.168.0.1")).isTrue();
+    assertThat(Formats.isIpv6("192.168.0.1")).isFalse();
+    assertThat(Formats.isIpv6("1:2:3:4:5:6:7:")).isFalse();
+    assertThat(Formats.isIpv6(":1::")).isFalse();
+    assertThat(Formats.isHostname("1.example.com")).isTrue();
+    assertThat(Formats.isHostname("example.com.")).isFalse();
+    assertThat(Formats.isHostname("a-.com")).isFalse();
+    assertThat(Formats.isEmail("a.b+c@[127.0.0.1]")).isTrue();
+    assertThat(Formats.isEmail("a..b@example.com")).isFalse();
+    assertThat(Formats.isEmail("a@localhost")).isFalse();
+  }
+
+  @Test
+  public void base64AndUris() {
+    assertThat(Formats.isBase64("aGVsbG8=")).isTrue();
+    assertThat(Formats.isBase64("aGVsbA==")).isTrue();
+    assertThat(Formats.isBase64("aGVsbA=")).isFalse();
+    assertThat(Formats.isBase64("aG=sbA==")).isFalse();
+    assertThat(Formats.isBase64("")).isFalse();
+    assertThat(Formats.isUri("http://user@[::1]:8080/a?b=c#d")).isTrue();
+    assertThat(Formats.isUri("http://host:80a/")).isFalse();
+    assertThat(Formats.isUri("http://host/%zz")).isFalse();
+    assertThat(Formats.isUri("1http://host/")).isFalse();
+    assertThat(Formats.isUriReference("a#b#c")).isFalse();
+    assertThat(Formats.isUriReference("")).isTrue();
+  }
+
+  @Test
+  public void formatValidatorReportsFormat() {
+    SyncValidator validator = (SyncValidator) new FormatValidatorFactory()
+        .createValidator(new JsonObject().put("format", "email"), JsonPointer.fromURI(SCHEMA_URI), null);
+    ValidationException e = catchThrowableOfType(() -> validator.validate("abc"), ValidationException.class);
+    assertThat(e.keyword()).isEqualTo("format");
+    assertThat(e.getMessage()).isEqualTo("provided string should respect format email");
+  }
+
+}
@@ -0,0 +1,91 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class LinearRegexEngineTest extends SchemaTestBase {
+
+  private static final String[] PATTERNS = {
+      "", "a", "^a", "a$", "^abc$", "a|b", "^(a|bc)+$", "ab*c", "ab+c", "ab?c", "a{2}", "^a{2,}$", "^a{1,3}$",
+      "^[a-c]+$", "[^a-c]", "[a-]", "^\\d+$", "\\D", "^\\w+$", "\\W",
+      "\\s", "\\S", "\\bfoo\\b", "\\Bo", "a.c", "^.*$", "(?:ab)+", "ab*?c", "a+?", "\\x41", "\\u0041", "\\t",
+      "\\.", "\\\\", "\\/", "^(a*)*b$", "^([0-9a-f]{2}:){2}[0-9a-f]{2}$", "^$", "\\cJ"
+  };
+
+  private static final String[] INPUTS = {
+      "", "a", "b", "c", "aa", "aaa", "aaaa", "abc", "ac", "abbc", "abcd", "xabc", "bc", "abcbc", "x{", "x",
+      "]", "-", "z", "5", "123", "12a", "foo", "foo bar", "afoob", "hello world", "a\tb", "a.c", "a\nc",
+      "A", "ab", "a/b", "a\\b", "aab", "01:ab:ff", "01:ab:f", "\b", "AbC_9"
+  };
+
+  @Test
+  public void findLikeJdk() {
+    for (String p : PATTERNS) {
+      RegexEngine.Regex linear = RegexEngine.LINEAR.compile(p);
+      Pattern jdk = Pattern.compile(p);
+      assertThat(linear.toString()).isEqualTo(p);
+      for (String in : INPUTS)
+        assertThat(linear.find(in)).as("pattern '%s' on '%s'", p, in).isEqualTo(jdk.matcher(in).find());
+    }
+  }
+
+  @Test
+  public void ecmaSemantics() {
+    // { that doesn't start a quantifier is a literal
+    assertThat(RegexEngine.LINEAR.compile("x{").find("x{")).isTrue();
+    assertThat(RegexEngine.LINEAR.compile("^a{,3}$").find("a{,3}")).isTrue();
+    assertThat(RegexEngine.LINEAR.compile("^[\\b]$").find("\b")).isTrue();
+    // [] never matches, [^] matches any character
+    assertThat(RegexEngine.LINEAR.compile("[]a]").find("a]")).isFalse();
+    assertThat(RegexEngine.LINEAR.compile("^[^]a]$").find("\na]")).isTrue();
+    // $ matches only at the end of the input, not before a final line terminator
+    assertThat(RegexEngine.LINEAR.compile("a$").find("a\n")).isFalse();
+    assertThat(RegexEngine.LINEAR.compile("^\\s$").find("\u00a0")).isTrue();
+    assertThat(RegexEngine.LINEAR.compile("^.$").find(String.valueOf((char) 0x2028))).isFalse();
+  }
+
+  @Test
+  public void linearTime() {
+    StringBuilder in = new StringBuilder();
+    for (int i = 0; i < 100_000; i++) in.append('a');
+    in.append('!');
+    RegexEngine.Regex regex = RegexEngine.LINEAR.compile("^(a+)+$");
+    long start = System.nanoTime();
+    assertThat(regex.find(in.toString())).isFalse();
+    assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+  }
+
+  @Test
+  public void rejectUnsupportedPatterns() {
+    for (String p : new String[]{"(a)\\1", "a(?=b)", "(?<!a)b", "(?<name>a)", "(a", "a)", "[a", "*a", "a**", "[z-a]", "a{2,1}", "\\"})
+      assertThat(catchThrowableOfType(() -> RegexEngine.LINEAR.compile(p), IllegalArgumentException.class))
+          .as("pattern '%s'", p).isNotNull();
+    assertThat(catchThrowableOfType(() -> RegexEngine.LINEAR.compile("((a{100}){100}){100}"), IllegalArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  public void useEngineInSchemas() {
+    SchemaParser parser = draft7Parser(new SchemaParserOptions().setRegexEngine(RegexEngine.LINEAR));
+    Schema schema = parser.parse(new JsonObject()
+        .put("pattern", "^[a-z]+$")
+        .put("patternProperties", new JsonObject().put("^x-", new JsonObject().put("type", "integer"))),
+        SCHEMA_URI);
+    schema.validateSync("abc");
+    assertThat(catchThrowableOfType(() -> schema.validateSync("abc1"), ValidationException.class).keyword())
+        .isEqualTo("pattern");
+    schema.validateSync(new JsonObject().put("x-a", 1));
+    assertThat(catchThrowableOfType(() -> schema.validateSync(new JsonObject().put("x-a", "1")), ValidationException.class))
+        .isNotNull();
+    assertThat(catchThrowableOfType(() -> parser.parse(new JsonObject().put("pattern", "(a)\\1"), URI.create("http://localhost/other.json")), SchemaException.class))
+        .isNotNull();
+  }
+
+}
@@ -10,6 +10,7 @@ import io.vertx.ext.json.schema.SchemaRouter;
 import io.vertx.ext.json.schema.openapi3.OpenAPI3SchemaParser;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -37,6 +38,11 @@ public class LocalRefTest {
     parser = OpenAPI3SchemaParser.create(new SchemaParserOptions(), router);
   }
 
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
   private JsonObject loadJson(URI uri) throws IOException {
     return new JsonObject(String.join("", Files.readAllLines(Paths.get(uri))));
   }
@@ -85,6 +91,76 @@ public class LocalRefTest {
     }));
   }
 
+  @Test
+  public void parseAndLinkLocalRef(TestContext context) {
+    URI sampleURI = buildBasePath("sample.json").toAbsolutePath().toUri();
+    JsonObject mainSchemaUnparsed = new JsonObject().put("$ref", sampleURI.toString());
+    parser.parseAndLink(mainSchemaUnparsed, buildBasePath("test_1.json").toAbsolutePath().toUri()).setHandler(context.asyncAssertSuccess(mainSchema -> {
+      // Refs are solved without triggering validation
+      context.assertTrue(mainSchema.isSync());
+      assertThatSchemaContainsXid(router, JsonPointer.fromURI(sampleURI), mainSchema.getScope(), "main");
+      assertThatSchemaContainsXid(router, JsonPointer.fromURI(sampleURI).append("definitions").append("sub1"), mainSchema.getScope(), "sub1");
+    }));
+  }
+
+  @Test
+  public void parseAndLinkMissingLocalRef(TestContext context) {
+    URI missingURI = buildBasePath("missing.json").toAbsolutePath().toUri();
+    JsonObject mainSchemaUnparsed = new JsonObject().put("$ref", missingURI.toString());
+    parser.parseAndLink(mainSchemaUnparsed, buildBasePath("test_3.json").toAbsolutePath().toUri()).setHandler(context.asyncAssertFailure());
+  }
+
+  @Test
+  public void parseAndLinkSolvesRefsOfParsedSchemas(TestContext context) {
+    URI chainURI = buildBasePath("chain.json").toAbsolutePath().toUri();
+    parser.parse(new JsonObject().put("$ref", chainURI.toString()), buildBasePath("test_1.json").toAbsolutePath().toUri())
+      .validate(new JsonObject())
+      .setHandler(context.asyncAssertSuccess(v -> {
+        // chain.json is cached now, but its ref is still unsolved
+        Schema sub = router.resolveCachedSchema(JsonPointer.fromURI(chainURI).append("properties").append("sub"), JsonPointer.fromURI(chainURI), parser);
+        context.assertFalse(((RefSchema) sub).isSolved());
+        parser.parseAndLink(new JsonObject().put("$ref", chainURI.toString()), buildBasePath("test_2.json").toAbsolutePath().toUri()).setHandler(context.asyncAssertSuccess(schema -> {
+          context.assertTrue(((RefSchema) sub).isSolved());
+          context.assertTrue(schema.isSync());
+        }));
+      }));
+  }
+
+  @Test
+  public void concurrentParseAndLink(TestContext context) {
+    URI chainURI = buildBasePath("chain.json").toAbsolutePath().toUri();
+    URI sampleURI = buildBasePath("sample.json").toAbsolutePath().toUri();
+    // The router is not thread safe, so parse on the same context that completes the fetches
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < 10; i++) {
+        parser.parseAndLink(new JsonObject().put("$ref", chainURI.toString()), buildBasePath("chain_" + i + ".json").toAbsolutePath().toUri())
+          .setHandler(context.asyncAssertSuccess(schema -> {
+            // The refs of the fetched document are solved too, even when other calls are linking at the same time
+            context.assertTrue(schema.isSync());
+            schema.validateSync(new JsonObject().put("sub", 1));
+          }));
+        parser.parseAndLink(new JsonObject().put("$ref", sampleURI.toString()), buildBasePath("sample_" + i + ".json").toAbsolutePath().toUri())
+          .setHandler(context.asyncAssertSuccess());
+      }
+    });
+  }
+
+  @Test
+  public void circularRefs(TestContext context) {
+    JsonObject loop = new JsonObject()
+      .put("$ref", "#/definitions/a")
+      .put("definitions", new JsonObject()
+        .put("a", new JsonObject().put("$ref", "#/definitions/b"))
+        .put("b", new JsonObject().put("$ref", "#/definitions/a"))
+      );
+    parser.parseAndLink(loop, buildBasePath("loop.json").toAbsolutePath().toUri()).setHandler(context.asyncAssertFailure(e ->
+      context.assertTrue(e.getMessage().startsWith("Circular $ref"), e.getMessage())
+    ));
+    parser.parseAndLink(new JsonObject().put("$ref", "#"), buildBasePath("self.json").toAbsolutePath().toUri()).setHandler(context.asyncAssertFailure(e ->
+      context.assertTrue(e.getMessage().startsWith("Circular $ref"), e.getMessage())
+    ));
+  }
+
   @Test
   public void jarURIRelativization(TestContext context) throws URISyntaxException {
     URI sampleURI = getClass().getClassLoader().getResource("sample_in_jar.json").toURI();
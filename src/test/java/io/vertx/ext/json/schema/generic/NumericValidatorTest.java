@@ -0,0 +1,50 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NumericValidatorTest extends SchemaTestBase {
+
+  @Test
+  public void decimalMultipleOf() {
+    Schema schema = parse(new JsonObject().put("multipleOf", 0.1));
+    assertThat(failingKeyword(schema, 0.3)).isNull();
+    assertThat(failingKeyword(schema, 12.7)).isNull();
+    assertThat(failingKeyword(schema, 3)).isNull();
+    assertThat(failingKeyword(schema, new BigDecimal("0.30"))).isNull();
+    assertThat(failingKeyword(schema, 0.35)).isEqualTo("multipleOf");
+    assertThat(failingKeyword(schema, 1e308)).isNull();
+    assertThat(failingKeyword(schema, Double.POSITIVE_INFINITY)).isEqualTo("multipleOf");
+  }
+
+  @Test
+  public void integerMultipleOf() {
+    Schema schema = parse(new JsonObject().put("multipleOf", 3));
+    assertThat(failingKeyword(schema, 9)).isNull();
+    assertThat(failingKeyword(schema, 9.0)).isNull();
+    assertThat(failingKeyword(schema, Long.MAX_VALUE - 1)).isNull();
+    assertThat(failingKeyword(schema, Long.MAX_VALUE)).isEqualTo("multipleOf");
+    assertThat(failingKeyword(schema, 9.5)).isEqualTo("multipleOf");
+  }
+
+  @Test
+  public void exactBounds() {
+    Schema schema = parse(new JsonObject()
+        .put("minimum", 0.5)
+        .put("exclusiveMinimum", 0.5)
+        .put("maximum", 9007199254740993L));
+    assertThat(failingKeyword(schema, 0.5)).isEqualTo("exclusiveMinimum");
+    assertThat(failingKeyword(schema, 0)).isEqualTo("exclusiveMinimum");
+    assertThat(failingKeyword(schema, 1)).isNull();
+    assertThat(failingKeyword(schema, 9007199254740993L)).isNull();
+    assertThat(failingKeyword(schema, 9007199254740994L)).isEqualTo("maximum");
+    assertThat(failingKeyword(schema, 9007199254740994d)).isEqualTo("maximum");
+    assertThat(failingKeyword(schema, new BigDecimal("9007199254740993.1"))).isEqualTo("maximum");
+  }
+
+}
@@ -0,0 +1,86 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ObjectValidatorTest extends SchemaTestBase {
+
+  @Override
+  protected SchemaImpl parse(JsonObject schema) {
+    return (SchemaImpl) super.parse(schema);
+  }
+
+  @Test
+  public void fuseObjectKeywords() {
+    SchemaImpl schema = parse(new JsonObject()
+        .put("properties", new JsonObject().put("a", new JsonObject().put("type", "integer")))
+        .put("patternProperties", new JsonObject().put("^x-", new JsonObject().put("type", "string")))
+        .put("additionalProperties", false)
+        .put("required", new JsonArray().add("a"))
+        .put("dependencies", new JsonObject().put("x-b", new JsonArray().add("x-c")))
+        .put("propertyNames", new JsonObject().put("maxLength", 3))
+        .put("maxProperties", 3));
+    assertThat(schema.getValidators()).hasSize(1);
+    assertThat(failingKeyword(schema, new JsonObject().put("a", 1).put("x-a", "x"))).isNull();
+    assertThat(failingKeyword(schema, new JsonObject().put("x-a", "x"))).isEqualTo("required");
+    assertThat(failingKeyword(schema, new JsonObject().put("a", 1).put("b", 1))).isEqualTo("additionalProperties");
+    assertThat(failingKeyword(schema, new JsonObject().put("a", 1).put("x-b", "x"))).isEqualTo("dependencies");
+    assertThat(failingKeyword(schema, new JsonObject().put("a", 1).put("x-abc", "x"))).isEqualTo("propertyNames");
+    assertThat(failingKeyword(schema, new JsonObject().put("a", 1).put("x-a", 1))).isEqualTo("type");
+    assertThat(failingKeyword(schema, new JsonObject().put("a", 1).put("x-a", "").put("x-b", "").put("x-c", ""))).isEqualTo("maxProperties");
+  }
+
+  @Test
+  public void collectAllErrors() {
+    Schema schema = parse(new JsonObject()
+        .put("properties", new JsonObject().put("a", new JsonObject().put("type", "integer")))
+        .put("additionalProperties", false)
+        .put("required", new JsonArray().add("a").add("b")));
+    List<ValidationException> errors = schema.validateAll(new JsonObject().put("a", "x").put("c", 1), 10);
+    assertThat(errors.stream().map(ValidationException::keyword).collect(Collectors.toList()))
+        .containsExactlyInAnyOrder("type", "additionalProperties", "required");
+    assertThat(errors.stream().map(e -> e.inputLocation().build()).collect(Collectors.toList()))
+        .containsExactlyInAnyOrder("/a", "/c", "");
+  }
+
+  @Test
+  public void skipEntriesWalk() {
+    Schema schema = parse(new JsonObject()
+        .put("additionalProperties", true)
+        .put("minProperties", 1));
+    JsonObject in = new JsonObject(new JsonObject().put("a", 1).getMap()) {
+      @Override
+      public Iterator<Map.Entry<String, Object>> iterator() {
+        throw new IllegalStateException("Entries should not be walked");
+      }
+    };
+    schema.validateSync(in);
+    assertThat(failingKeyword(schema, new JsonObject())).isEqualTo("minProperties");
+  }
+
+  @Test
+  public void boundSharedValidators() {
+    SchemaParser parser = draft7Parser();
+    JsonObject properties = new JsonObject();
+    for (int i = 0; i < BaseSchemaParser.MAX_SHARED_VALIDATORS + 10; i++)
+      properties.put("p" + i, new JsonObject().put("required", new JsonArray().add("k" + i)).put("description", "p" + i));
+    SchemaImpl schema = (SchemaImpl) parser.parse(new JsonObject().put("properties", properties), SCHEMA_URI);
+
+    BaseObjectValidatorFactory factory = (BaseObjectValidatorFactory) ((BaseSchemaParser) parser).getValidatorFactories().stream()
+        .filter(f -> f instanceof BaseObjectValidatorFactory)
+        .findFirst().get();
+    assertThat(factory.sharedValidatorsSize()).isEqualTo(BaseSchemaParser.MAX_SHARED_VALIDATORS);
+    String last = "p" + (BaseSchemaParser.MAX_SHARED_VALIDATORS + 5);
+    assertThat(failingKeyword(schema, new JsonObject().put(last, new JsonObject()))).isEqualTo("required");
+  }
+
+}
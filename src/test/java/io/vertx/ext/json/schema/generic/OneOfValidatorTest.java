@@ -0,0 +1,66 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import io.vertx.ext.json.schema.openapi3.OpenAPI3SchemaParser;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class OneOfValidatorTest extends SchemaTestBase {
+
+  private static JsonObject envelope(int kind) {
+    return new JsonObject()
+        .put("type", "object")
+        .put("required", new JsonArray().add("kind").add("payload"))
+        .put("properties", new JsonObject()
+            .put("kind", new JsonObject().put("const", "event-" + kind))
+            .put("payload", new JsonObject().put("type", "object")));
+  }
+
+  @Test
+  public void discriminatedBranches() {
+    JsonArray branches = new JsonArray();
+    for (int i = 0; i < 25; i++) branches.add(envelope(i));
+    Schema schema = parse(new JsonObject().put("oneOf", branches));
+    assertThat(isValid(schema, new JsonObject().put("kind", "event-17").put("payload", new JsonObject()))).isTrue();
+    assertThat(isValid(schema, new JsonObject().put("kind", "event-17").put("payload", 1))).isFalse();
+    assertThat(isValid(schema, new JsonObject().put("kind", "event-99").put("payload", new JsonObject()))).isFalse();
+    assertThat(isValid(schema, new JsonObject().put("kind", "event-1"))).isFalse();
+    assertThat(isValid(schema, "event-1")).isFalse();
+  }
+
+  @Test
+  public void stopAtSecondMatch() {
+    Schema schema = parse(new JsonObject().put("oneOf", new JsonArray()
+        .add(new JsonObject().put("type", "integer").put("minimum", 0))
+        .add(new JsonObject().put("type", "integer").put("maximum", 10))
+        .add(new JsonObject().put("type", "string"))));
+    assertThat(isValid(schema, -1)).isTrue();
+    assertThat(isValid(schema, "a")).isTrue();
+    ValidationException e = catchThrowableOfType(() -> schema.validateSync(5), ValidationException.class);
+    assertThat(e.getMessage()).endsWith("matched 2");
+    assertThat(isValid(schema, true)).isFalse();
+  }
+
+  @Test
+  public void guards() {
+    SchemaParser parser = draft7Parser();
+    OneOfValidatorFactory.BranchGuard guard = OneOfValidatorFactory.BranchGuard.create(envelope(1), parser);
+    assertThat(guard.rejects(new JsonObject().put("kind", "event-2").put("payload", 1))).isTrue();
+    assertThat(guard.rejects(new JsonObject().put("payload", 1))).isTrue();
+    assertThat(guard.rejects(new JsonArray())).isTrue();
+    // The guard doesn't check the payload, the branch schema does
+    assertThat(guard.rejects(new JsonObject().put("kind", "event-1").put("payload", 1))).isFalse();
+    assertThat(OneOfValidatorFactory.BranchGuard.create(new JsonObject().put("minimum", 1), parser)).isNull();
+    assertThat(OneOfValidatorFactory.BranchGuard.create(envelope(1).put("$ref", "#"), parser)).isNull();
+    // OpenAPI 3 doesn't support const and allows null with nullable
+    SchemaParser oas3 = OpenAPI3SchemaParser.create(new SchemaParserOptions(), router());
+    OneOfValidatorFactory.BranchGuard oas3Guard = OneOfValidatorFactory.BranchGuard.create(envelope(1), oas3);
+    assertThat(oas3Guard.rejects(new JsonObject().put("kind", "event-2").put("payload", 1))).isFalse();
+    assertThat(oas3Guard.rejects(null)).isFalse();
+  }
+
+}
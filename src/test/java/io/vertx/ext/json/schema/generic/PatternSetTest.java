@@ -0,0 +1,82 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.ext.json.schema.RegexEngine;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PatternSetTest {
+
+  private static final String[] PATTERNS = {
+      "", "^x-", "x-", "^x-$", "abc", "^a\\.b", "ab?c", "ab*c", "ab+c", "a{0}bc", "a(b|c)d", "a|b", "[abc]x",
+      "[]a]bc", "[^]a]bc", "^[a-z]+$", "\\d+-id", "foo\\.bar", "(?i)abc", "a(?=b)bc", "\\Qa.b\\E", "a.c", "^$",
+      "abc$", "(ab)+cd", "ab{2}c", "x[a-z&&[^b]]y", "a\\+b", "(?:ab)?cd", "ab*?c", "b\\\\c",
+      "\\x41b", "a\\u0042c", "\\cJz", "a\\0101", "\\x{41}bc", "\\p{Lu}xy", "\\pLxy", "(?<n>a)\\k<n>zz", "(a)\\1zz"
+  };
+
+  private static final String[] KEYS = {
+      "", "x", "x-", "x-a", "ax-", "abc", "ABC", "aBc", "ac", "abbc", "a.b", "a.bc", "axb", "abd", "acd", "ad", "b",
+      "ax", "]bc", "abc\n", "123-id", "-id", "foo.bar", "fooxbar", "a+b", "ab", "abcd", "ababcd", "cd", "xay", "xby",
+      "b\\c", "zzzabczzz", "x-\n",
+      "Ab", "\nz", "aA", "Axy", "aazz"
+  };
+
+  @Test
+  public void matchLikeRegexFind() {
+    Pattern[] patterns = new Pattern[PATTERNS.length];
+    for (int i = 0; i < PATTERNS.length; i++) patterns[i] = Pattern.compile(PATTERNS[i]);
+    RegexEngine.Regex[] regexes = new RegexEngine.Regex[PATTERNS.length];
+    for (int i = 0; i < PATTERNS.length; i++) regexes[i] = RegexEngine.JDK.compile(PATTERNS[i]);
+    PatternSet set = new PatternSet(regexes);
+    // Twice to check memoized results too
+    for (int round = 0; round < 2; round++) {
+      for (String key : KEYS) {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < patterns.length; i++) if (patterns[i].matcher(key).find()) expected.add(i);
+        List<Integer> actual = new ArrayList<>();
+        for (int i : set.matching(key)) actual.add(i);
+        assertThat(actual).as("matches of key '%s'", key).isEqualTo(expected);
+        assertThat(set.matchesAny(key)).isEqualTo(!expected.isEmpty());
+      }
+    }
+  }
+
+  @Test
+  public void customEngine() {
+    // The source is taken from pattern(), not from toString()
+    RegexEngine.Regex regex = new RegexEngine.Regex() {
+      @Override
+      public boolean find(String input) {
+        return input.contains("xy");
+      }
+
+      @Override
+      public String pattern() {
+        return "xy";
+      }
+
+      @Override
+      public String toString() {
+        return "CustomRegex";
+      }
+    };
+    PatternSet set = new PatternSet(new RegexEngine.Regex[]{regex});
+    assertThat(set.matchesAny("axyb")).isTrue();
+    assertThat(set.matchesAny("CustomRegex")).isFalse();
+  }
+
+  @Test
+  public void boundedMemo() {
+    PatternSet set = new PatternSet(new RegexEngine.Regex[]{RegexEngine.JDK.compile("^x-")});
+    for (int i = 0; i < PatternSet.MAX_MEMO_SIZE * 2; i++)
+      assertThat(set.matching("x-" + i)).containsExactly(0);
+    StringBuilder longKey = new StringBuilder("x-");
+    for (int i = 0; i < PatternSet.MAX_MEMO_KEY_LENGTH; i++) longKey.append('a');
+    assertThat(set.matching(longKey.toString())).containsExactly(0);
+  }
+
+}
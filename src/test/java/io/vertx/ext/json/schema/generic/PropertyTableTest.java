@@ -0,0 +1,58 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class PropertyTableTest extends SchemaTestBase {
+
+  @Test
+  public void lookupAllKeys() {
+    for (int size : new int[]{0, 1, 2, 7, 100, 1000}) {
+      Map<String, Integer> map = new HashMap<>();
+      for (int i = 0; i < size; i++) map.put("prop" + i, i);
+      // Colliding hash codes force linear probing
+      map.put("Aa", -1);
+      map.put("BB", -2);
+      PropertyTable<Integer> table = new PropertyTable<>(map);
+      assertThat(table.size()).isEqualTo(map.size());
+      for (Map.Entry<String, Integer> e : map.entrySet())
+        assertThat(table.get(new String(e.getKey()))).isEqualTo(e.getValue());
+      assertThat(table.get("missing")).isNull();
+      assertThat(table.get("prop" + size)).isNull();
+    }
+  }
+
+  @Test
+  public void reportMissingRequiredFromBitmask() {
+    JsonArray required = new JsonArray();
+    JsonObject in = new JsonObject();
+    for (int i = 0; i < 150; i++) {
+      required.add("p" + i);
+      if (i != 3 && i != 64 && i != 149) in.put("p" + i, i);
+    }
+    in.put("other", 1);
+    Schema schema = draft7Parser()
+        .parse(new JsonObject().put("required", required), SCHEMA_URI);
+
+    assertThat(catchThrowableOfType(() -> schema.validateSync(in), ValidationException.class).getMessage())
+        .contains("p3");
+    List<String> missing = schema.validateAll(in, 10).stream().map(Throwable::getMessage).collect(Collectors.toList());
+    assertThat(missing).hasSize(3);
+    assertThat(missing.get(0)).endsWith("p3");
+    assertThat(missing.get(1)).endsWith("p64");
+    assertThat(missing.get(2)).endsWith("p149");
+    in.put("p3", 3).put("p64", 64).put("p149", 149);
+    schema.validateSync(in);
+  }
+
+}
@@ -8,6 +8,7 @@ import io.vertx.ext.json.schema.SchemaParser;
 import io.vertx.ext.json.schema.SchemaParserOptions;
 import io.vertx.ext.json.schema.SchemaRouter;
 import io.vertx.ext.json.schema.openapi3.OpenAPI3SchemaParser;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -31,6 +32,11 @@ public class SchemaRouterTest {
     parser = OpenAPI3SchemaParser.create(new SchemaParserOptions(), schemaRouter);
   }
 
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
   private JsonObject loadJson(URI uri) throws IOException {
     return new JsonObject(String.join("", Files.readAllLines(Paths.get(uri))));
   }
@@ -0,0 +1,69 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class SharedValidatorsTest extends SchemaTestBase {
+
+  private final SchemaParser parser = draft7Parser();
+
+  private SchemaImpl property(String name) {
+    JsonPointer scope = JsonPointer.fromURI(SCHEMA_URI).append("properties").append(name);
+    return (SchemaImpl) parser.getSchemaRouter().resolveCachedSchema(scope, scope, parser);
+  }
+
+  @Test
+  public void shareLeafSchemasValidators() {
+    JsonObject name = new JsonObject().put("type", "string").put("maxLength", 3);
+    parser.parse(new JsonObject()
+        .put("properties", new JsonObject()
+            .put("a", name)
+            .put("b", name.copy())
+            .put("c", new JsonObject().put("type", "string").put("maxLength", 4))
+            .put("d", new JsonObject().put("type", "object").put("required", new JsonArray().add("x")))
+            .put("e", new JsonObject().put("type", "object").put("required", new JsonArray().add("x")).put("not", new JsonObject().put("maxProperties", 0)))
+        ), SCHEMA_URI);
+
+    assertThat(property("a").getValidators()).isSameAs(property("b").getValidators());
+    assertThat(property("a").getValidators()).isNotSameAs(property("c").getValidators());
+    // Flyweight validators are shared also by different schemas
+    assertThat(property("a").getValidators()[0]).isSameAs(property("c").getValidators()[0]);
+    assertThat(property("e").getValidators()).contains(property("d").getValidators());
+
+    ValidationException e = catchThrowableOfType(() -> property("b").validateSync("abcd"), ValidationException.class);
+    assertThat(e.scope()).isEqualTo(property("b").getScope());
+  }
+
+  @Test
+  public void ignoreAnnotationsAndExtensions() {
+    JsonObject name = new JsonObject().put("type", "string").put("maxLength", 3);
+    parser.parse(new JsonObject()
+        .put("properties", new JsonObject()
+            .put("a", name)
+            .put("b", name.copy().put("description", "b").put("x-internal", true).put("xml", new JsonObject().put("name", "b")))
+            .put("c", name.copy().put("externalDocs", new JsonObject().put("url", "http://localhost")))
+        ), SCHEMA_URI);
+
+    assertThat(property("b").getValidators()).isSameAs(property("a").getValidators());
+    assertThat(property("c").getValidators()).isSameAs(property("a").getValidators());
+    assertThat(property("b").getSchema().getString("description")).isEqualTo("b");
+  }
+
+  @Test
+  public void boundSharedValidators() {
+    JsonObject properties = new JsonObject();
+    for (int i = 0; i < BaseSchemaParser.MAX_SHARED_VALIDATORS + 10; i++)
+      properties.put("p" + i, new JsonObject().put("maxLength", i));
+    parser.parse(new JsonObject().put("properties", properties), SCHEMA_URI);
+
+    assertThat(((BaseSchemaParser) parser).sharedValidatorsSize()).isEqualTo(BaseSchemaParser.MAX_SHARED_VALIDATORS);
+    assertThat(isValid(property("p" + (BaseSchemaParser.MAX_SHARED_VALIDATORS + 5)), "abc")).isTrue();
+  }
+
+}
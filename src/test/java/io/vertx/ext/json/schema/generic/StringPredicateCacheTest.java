@@ -0,0 +1,113 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StringPredicateCacheTest extends SchemaTestBase {
+
+  @Test
+  public void memoizeSchemaChecks() {
+    BaseSchemaParser parser = (BaseSchemaParser) draft7Parser(new SchemaParserOptions().setStringPredicateCacheSize(16));
+    Schema schema = parser.parse(new JsonObject()
+        .put("properties", new JsonObject()
+            .put("host", new JsonObject().put("format", "hostname"))
+            .put("code", new JsonObject().put("pattern", "^[A-Z]{2}$")))
+        .put("propertyNames", new JsonObject().put("maxLength", 4)), SCHEMA_URI);
+    StringPredicateCache cache = parser.getStringPredicateCache();
+    JsonObject valid = new JsonObject().put("host", "example.com").put("code", "IT");
+    schema.validateSync(valid);
+    assertThat(cache.getMisses()).isEqualTo(4);
+    assertThat(cache.getHits()).isEqualTo(0);
+    schema.validateSync(valid);
+    assertThat(cache.getMisses()).isEqualTo(4);
+    assertThat(cache.getHits()).isEqualTo(4);
+
+    // Memoized failures still report the error
+    for (int i = 0; i < 2; i++) {
+      assertThat(failingKeyword(schema, new JsonObject().put("code", "ITA"))).isEqualTo("pattern");
+      assertThat(failingKeyword(schema, new JsonObject().put("host", "-a"))).isEqualTo("format");
+      assertThat(failingKeyword(schema, new JsonObject().put("hosts", 1))).isEqualTo("propertyNames");
+    }
+  }
+
+  @Test
+  public void disabledByDefault() {
+    BaseSchemaParser parser = (BaseSchemaParser) draft7Parser();
+    Schema schema = parser.parse(new JsonObject().put("format", "hostname"), SCHEMA_URI);
+    schema.validateSync("example.com");
+    assertThat(parser.getStringPredicateCache().isEnabled()).isFalse();
+    assertThat(parser.getStringPredicateCache().getMisses()).isEqualTo(0);
+  }
+
+  @Test
+  public void evictLeastRecentlyUsed() {
+    AtomicInteger calls = new AtomicInteger();
+    StringPredicateCache cache = new StringPredicateCache(2, 8);
+    Predicate<String> predicate = cache.memoizeFormat(s -> {
+      calls.incrementAndGet();
+      return s.startsWith("a");
+    });
+    // A table of 2 entries is a single pair of slots
+    assertThat(predicate.test("a1")).isTrue();
+    assertThat(predicate.test("b1")).isFalse();
+    assertThat(predicate.test("a1")).isTrue();
+    assertThat(calls.get()).isEqualTo(2);
+    // b1 is the least recently used
+    assertThat(predicate.test("a2")).isTrue();
+    assertThat(predicate.test("a1")).isTrue();
+    assertThat(calls.get()).isEqualTo(3);
+    assertThat(predicate.test("b1")).isFalse();
+    assertThat(calls.get()).isEqualTo(4);
+    // Long strings are not memoized
+    assertThat(predicate.test("aaaaaaaaa")).isTrue();
+    assertThat(predicate.test("aaaaaaaaa")).isTrue();
+    assertThat(calls.get()).isEqualTo(6);
+    assertThat(cache.getHits()).isEqualTo(2);
+    assertThat(cache.getMisses()).isEqualTo(4);
+  }
+
+  @Test
+  public void sharePatternsBySource() {
+    StringPredicateCache cache = new StringPredicateCache(16, 16);
+    RegexEngine.Regex a = cache.memoizePattern(RegexEngine.JDK.compile("^a"));
+    RegexEngine.Regex b = cache.memoizePattern(RegexEngine.JDK.compile("^a"));
+    assertThat(a.toString()).isEqualTo("^a");
+    assertThat(a.find("abc")).isTrue();
+    assertThat(b.find("abc")).isTrue();
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void boundSharedMemos() {
+    StringPredicateCache cache = new StringPredicateCache(16, 16);
+    for (int i = 0; i < StringPredicateCache.MAX_SHARED_MEMOS + 10; i++)
+      cache.memoizePattern(RegexEngine.JDK.compile("^a" + i));
+    assertThat(cache.sharedMemos()).isEqualTo(StringPredicateCache.MAX_SHARED_MEMOS);
+
+    // Patterns after the limit still work, without memoization
+    RegexEngine.Regex extra = cache.memoizePattern(RegexEngine.JDK.compile("^b"));
+    assertThat(extra.find("bcd")).isTrue();
+    assertThat(extra.find("bcd")).isTrue();
+    assertThat(cache.getHits()).isEqualTo(0);
+  }
+
+  @Test
+  public void dontShareSchemaMemos() {
+    StringPredicateCache cache = new StringPredicateCache(16, 16);
+    Schema schema = parse(new JsonObject().put("maxLength", 2));
+    Predicate<String> valid = cache.memoizeValidation(schema);
+    assertThat(valid.test("ab")).isTrue();
+    assertThat(valid.test("abc")).isFalse();
+    assertThat(valid.test("ab")).isTrue();
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.sharedMemos()).isEqualTo(0);
+  }
+
+}
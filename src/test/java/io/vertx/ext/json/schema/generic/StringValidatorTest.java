@@ -0,0 +1,44 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StringValidatorTest extends SchemaTestBase {
+
+  @Override
+  protected SchemaImpl parse(JsonObject schema) {
+    return (SchemaImpl) super.parse(schema);
+  }
+
+  @Test
+  public void fuseStringKeywords() {
+    SchemaImpl schema = parse(new JsonObject()
+        .put("minLength", 2)
+        .put("maxLength", 4)
+        .put("pattern", "^a")
+        .put("format", "ipv4"));
+    assertThat(schema.getValidators()).hasSize(1);
+    assertThat(failingKeyword(schema, "a")).isEqualTo("minLength");
+    assertThat(failingKeyword(schema, "abcde")).isEqualTo("maxLength");
+    assertThat(failingKeyword(schema, "bcd")).isEqualTo("pattern");
+    assertThat(failingKeyword(schema, "abc")).isEqualTo("format");
+    assertThat(failingKeyword(schema, 1)).isNull();
+  }
+
+  @Test
+  public void countCodePoints() {
+    Schema schema = parse(new JsonObject().put("minLength", 2).put("maxLength", 2));
+    String smile = new String(Character.toChars(0x1F600));
+    assertThat(failingKeyword(schema, smile)).isEqualTo("minLength");
+    assertThat(failingKeyword(schema, smile + smile)).isNull();
+    assertThat(failingKeyword(schema, smile + "a")).isNull();
+    assertThat(failingKeyword(schema, smile + smile + "a")).isEqualTo("maxLength");
+    // Unpaired surrogates count as one code point
+    assertThat(failingKeyword(schema, "\uD83Da")).isNull();
+    assertThat(StringValidator.codePointCount(smile + "\uDE00\uD83D" + "ab")).isEqualTo(5);
+  }
+
+}
@@ -0,0 +1,59 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.pointer.JsonPointer;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeDispatchTest extends SchemaTestBase {
+
+  private final AtomicInteger objectValidations = new AtomicInteger();
+
+  private final ValidatorFactory objectOnlyFactory = new ValidatorFactory() {
+    @Override
+    public Validator createValidator(JsonObject schema, JsonPointer scope, SchemaParser parser) {
+      return new SyncValidator() {
+        @Override
+        public JsonSchemaType getApplicableType() {
+          return JsonSchemaType.OBJECT;
+        }
+
+        @Override
+        public void validate(Object in) {
+          objectValidations.incrementAndGet();
+        }
+      };
+    }
+
+    @Override
+    public boolean canConsumeSchema(JsonObject schema) {
+      return schema.containsKey("x-object-only");
+    }
+  };
+
+  @Test
+  public void runOnlyValidatorsOfInputType() {
+    SchemaParser parser = draft7Parser(new SchemaParserOptions().putAdditionalValidatorFactory(objectOnlyFactory));
+    Schema schema = parser.parse(new JsonObject()
+        .put("x-object-only", true)
+        .put("maxLength", 3)
+        .put("required", new JsonArray().add("a")), SCHEMA_URI);
+
+    schema.validateSync("abc");
+    schema.validateSync(1);
+    schema.validateSync(new JsonArray());
+    schema.validateSync(null);
+    assertThat(objectValidations.get()).isEqualTo(0);
+
+    schema.validateSync(new JsonObject().put("a", 1));
+    assertThat(schema.validateAll(new JsonObject(), 10)).hasSize(1);
+    assertThat(objectValidations.get()).isEqualTo(2);
+    assertThat(schema.validateAll("abcd", 10)).hasSize(1);
+  }
+
+}
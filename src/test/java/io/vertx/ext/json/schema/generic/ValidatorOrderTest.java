@@ -0,0 +1,45 @@
+package io.vertx.ext.json.schema.generic;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class ValidatorOrderTest extends SchemaTestBase {
+
+  private Schema parse(JsonObject schema, SchemaParserOptions options) {
+    SchemaParser parser = draft7Parser(options);
+    return parser.parse(schema, SCHEMA_URI);
+  }
+
+  @Test
+  public void cheapestFirst() {
+    Schema schema = parse(new JsonObject()
+        .put("properties", new JsonObject().put("a", new JsonObject()))
+        .put("pattern", "^a")
+        .put("required", new JsonArray().add("a"))
+        .put("maxLength", 3)
+        .put("type", "string"), new SchemaParserOptions());
+    Validator[] validators = ((SchemaImpl) schema).getValidators();
+    assertThat(validators[0].getPriority()).isEqualTo(ValidatorPriority.MAX_PRIORITY);
+    for (int i = 2; i < validators.length; i++)
+      assertThat(validators[i - 1].getCost()).isLessThanOrEqualTo(validators[i].getCost());
+  }
+
+  @Test
+  public void adaptToFailures() {
+    Schema schema = parse(new JsonObject()
+        .put("minItems", 3)
+        .put("uniqueItems", true), new SchemaParserOptions().setAdaptiveValidatorOrdering(true));
+    assertThat(catchThrowableOfType(() -> schema.validateSync(new JsonArray().add(1).add(1)), ValidationException.class).keyword())
+        .isEqualTo("minItems");
+    for (int i = 0; i < AdaptiveValidatorOrder.REORDER_INTERVAL; i++)
+      catchThrowableOfType(() -> schema.validateSync(new JsonArray().add(1).add(1).add(1)), ValidationException.class);
+    assertThat(catchThrowableOfType(() -> schema.validateSync(new JsonArray().add(1).add(1)), ValidationException.class).keyword())
+        .isEqualTo("uniqueItems");
+  }
+
+}
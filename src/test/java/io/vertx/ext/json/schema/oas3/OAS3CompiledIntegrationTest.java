@@ -0,0 +1,42 @@
+package io.vertx.ext.json.schema.oas3;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.Schema;
+import io.vertx.ext.json.schema.SchemaParser;
+import io.vertx.ext.json.schema.SchemaParserOptions;
+import io.vertx.ext.json.schema.compiler.CompiledSchema;
+import io.vertx.ext.json.schema.compiler.SchemaCompiler;
+import io.vertx.ext.json.schema.generic.SchemaRouterImpl;
+import io.vertx.ext.json.schema.openapi3.OpenAPI3SchemaParser;
+
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+
+/**
+ * Runs the OpenAPI 3 test suite against schemas compiled with {@link SchemaCompiler}
+ *
+ * @author Francesco Guardiani @slinkydeveloper
+ */
+public class OAS3CompiledIntegrationTest extends OAS3IntegrationTest {
+  public OAS3CompiledIntegrationTest(Object testName, Object testFileName, Object testObject) {
+    super(testName, testFileName, testObject);
+  }
+
+  @Override
+  public Future<Schema> buildSchemaFunctionAsync(Object schema) throws URISyntaxException {
+    SchemaParser parser = OpenAPI3SchemaParser.create(new SchemaParserOptions(), new SchemaRouterImpl(vertx.createHttpClient(), vertx.fileSystem()));
+    return parser
+        .parseAndLink(schema, Paths.get(this.getSchemasPath() + "/" + testFileName + ".json").toAbsolutePath().toUri())
+        .compose(s -> {
+          Future<Schema> fut = Future.future();
+          vertx.executeBlocking(f -> f.complete(SchemaCompiler.create(parser).compile(s)), false, fut);
+          return fut;
+        })
+        .map(s -> {
+          if (schema instanceof JsonObject && SchemaCompiler.isAvailable() && !(s instanceof CompiledSchema))
+            t.fail("Schema for test \"" + testName + "\" was not compiled");
+          return s;
+        });
+  }
+}
@@ -0,0 +1,110 @@
+package io.vertx.ext.json.schema.streaming;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.json.schema.*;
+import io.vertx.ext.json.schema.draft7.Draft7SchemaParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreamingValidatorTest {
+
+  private Vertx vertx;
+  private SchemaParser parser;
+  private StreamingSchema schema;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    parser = Draft7SchemaParser.create(new SchemaParserOptions(), SchemaRouter.create(vertx));
+    Schema s = parser.parse(new JsonObject()
+        .put("type", "object")
+        .put("properties", new JsonObject()
+            .put("name", new JsonObject().put("type", "string"))
+            .put("tags", new JsonObject()
+                .put("type", "array")
+                .put("maxItems", 3)
+                .put("items", new JsonObject().put("enum", new JsonArray().add("a").add("b").add("c")))
+            )
+            .put("points", new JsonObject()
+                .put("type", "array")
+                .put("items", new JsonObject()
+                    .put("type", "object")
+                    .put("required", new JsonArray().add("x"))
+                    .put("properties", new JsonObject().put("x", new JsonObject().put("type", "integer")))
+                )
+            )
+        )
+        .put("required", new JsonArray().add("name"))
+        .put("additionalProperties", false), URI.create("http://localhost/schema.json"));
+    schema = StreamingSchema.create(parser, s);
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private StreamingValidator feed(String json, int chunkSize) {
+    StreamingValidator validator = schema.newValidator();
+    Buffer buffer = Buffer.buffer(json);
+    for (int i = 0; i < buffer.length(); i += chunkSize)
+      validator.handle(buffer.getBuffer(i, Math.min(buffer.length(), i + chunkSize)));
+    return validator;
+  }
+
+  @Test
+  public void validChunkedDocument() {
+    StreamingValidator validator = feed("{\"name\": \"francesco\", \"tags\": [\"a\", \"c\"], \"points\": [{\"x\": 1}, {\"x\": 2, \"y\": 3}]}", 3);
+    assertThat(validator.end().succeeded()).isTrue();
+  }
+
+  @Test
+  public void failBeforeEnd() {
+    StreamingValidator validator = feed("{\"name\": \"francesco\", \"points\": [{\"x\": 1}, {\"x\": 1.5}", 5);
+    assertThat(validator.result().failed()).isTrue();
+    ValidationException e = (ValidationException) validator.result().cause();
+    assertThat(e.keyword()).isEqualTo("type");
+    assertThat(e.inputLocation().build()).isEqualTo("/points/1/x");
+  }
+
+  @Test
+  public void failOnContainerChecks() {
+    StreamingValidator validator = feed("{\"name\": \"francesco\", \"points\": [{\"y\": 1}]}", 4);
+    ValidationException e = (ValidationException) validator.end().cause();
+    assertThat(e.keyword()).isEqualTo("required");
+    assertThat(e.inputLocation().build()).isEqualTo("/points/0");
+
+    validator = feed("{\"name\": \"francesco\", \"tags\": [\"a\", \"b\", \"c\", \"a\"", 4);
+    e = (ValidationException) validator.result().cause();
+    assertThat(e.keyword()).isEqualTo("maxItems");
+    assertThat(e.inputLocation().build()).isEqualTo("/tags/3");
+
+    validator = feed("{\"name\": \"francesco\", \"other\": {\"a\": [1, 2]}}", 4);
+    e = (ValidationException) validator.end().cause();
+    assertThat(e.keyword()).isEqualTo("additionalProperties");
+    assertThat(e.inputLocation().build()).isEqualTo("/other");
+  }
+
+  @Test
+  public void materializedValues() {
+    StreamingValidator validator = feed("{\"name\": \"francesco\", \"tags\": [\"a\", \"d\"]}", 2);
+    ValidationException e = (ValidationException) validator.end().cause();
+    assertThat(e.keyword()).isEqualTo("enum");
+    assertThat(e.inputLocation().build()).isEqualTo("/tags/1");
+  }
+
+  @Test
+  public void incompleteDocument() {
+    assertThat(feed("{\"name\": \"francesco\"", 4).end().failed()).isTrue();
+    assertThat(feed("{\"name\": \"francesco\"}", 4).end().succeeded()).isTrue();
+  }
+
+}